@@ -38,6 +38,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.catalog.FunctionDeadline;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
 import org.springframework.cloud.function.context.config.RoutingFunction;
 import org.springframework.cloud.function.json.JsonMapper;
@@ -152,6 +153,7 @@ public final class CustomRuntimeEventLoop implements SmartLifecycle {
 					ByteArrayInputStream is = new ByteArrayInputStream(response.getBody().getBytes(StandardCharsets.UTF_8));
 					Message<?> requestMessage = AWSLambdaUtils.generateMessage(is, function.getInputType(), function.isSupplier(), mapper, clientContext);
 					requestMessage = enrichTraceHeaders(response.getHeaders(), requestMessage);
+					requestMessage = enrichDeadlineHeader(response.getHeaders(), requestMessage);
 
 					Object functionResponse = function.apply(requestMessage);
 
@@ -201,6 +203,19 @@ public final class CustomRuntimeEventLoop implements SmartLifecycle {
 			.build();
 	}
 
+	/*
+	 * Propagates Lambda invocation deadline to the function (see FunctionDeadline).
+	 */
+	private Message<?> enrichDeadlineHeader(HttpHeaders headers, Message<?> message) {
+		String deadline = trim(headers.getFirst("Lambda-Runtime-Deadline-Ms"));
+		if (deadline == null) {
+			return message;
+		}
+		return MessageBuilder.fromMessage(message)
+			.setHeader(FunctionDeadline.DEADLINE_HEADER, Long.parseLong(deadline))
+			.build();
+	}
+
 	private String trim(String value) {
 		return (value == null || value.isBlank()) ? null : value.trim();
 	}
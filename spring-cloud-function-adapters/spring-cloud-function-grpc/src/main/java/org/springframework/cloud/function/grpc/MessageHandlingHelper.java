@@ -27,9 +27,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessageV3;
 
+import io.grpc.Context;
+import io.grpc.Deadline;
 import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -40,10 +43,12 @@ import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 import org.springframework.cloud.function.context.FunctionCatalog;
 import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.catalog.FunctionDeadline;
 import org.springframework.cloud.function.context.catalog.FunctionTypeUtils;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -93,12 +98,13 @@ public class MessageHandlingHelper<T extends GeneratedMessageV3> implements Smar
 		}
 		else if (replyMessage instanceof Publisher<?>) {
 			if (replyMessage instanceof Mono<?>) {
-				Mono.from((Publisher<?>) replyMessage).doOnNext(reply -> {
+				Disposable subscription = Mono.from((Publisher<?>) replyMessage).doOnNext(reply -> {
 					GeneratedMessageV3 replyGrps = this.toGrpcMessage((Message<byte[]>) reply, (Class<T>) request.getClass());
 					responseObserver.onNext((T) replyGrps);
 					responseObserver.onCompleted();
 				})
 				.subscribe();
+				this.cancelOnClientCancel(responseObserver, subscription);
 			}
 		}
 	}
@@ -108,11 +114,21 @@ public class MessageHandlingHelper<T extends GeneratedMessageV3> implements Smar
 		Message<byte[]> message = this.toSpringMessage(request);
 		FunctionInvocationWrapper function = this.resolveFunction(message.getHeaders());
 		Publisher<Message<byte[]>> replyStream = (Publisher<Message<byte[]>>) function.apply(message);
-		Flux.from(replyStream).doOnNext(replyMessage -> {
+		Disposable subscription = Flux.from(replyStream).doOnNext(replyMessage -> {
 			responseObserver.onNext(this.toGrpcMessage(replyMessage, (Class<T>) request.getClass()));
 		})
 		.doOnComplete(() -> responseObserver.onCompleted())
 		.subscribe();
+		this.cancelOnClientCancel(responseObserver, subscription);
+	}
+
+	/*
+	 * Stops processing of the reply once the client cancels the call (e.g., when its deadline expires).
+	 */
+	private void cancelOnClientCancel(StreamObserver<T> responseObserver, Disposable subscription) {
+		if (responseObserver instanceof ServerCallStreamObserver<T> serverCallStreamObserver) {
+			serverCallStreamObserver.setOnCancelHandler(subscription::dispose);
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -362,12 +378,26 @@ public class MessageHandlingHelper<T extends GeneratedMessageV3> implements Smar
 		for (GrpcMessageConverter converter : this.grpcConverters) {
 			Message<byte[]> springMessage = converter.toSpringMessage(request);
 			if (springMessage != null) {
-				return springMessage;
+				return this.enrichDeadlineHeader(springMessage);
 			}
 		}
 		throw new IllegalStateException("Failed to convert Grpc Message to Spring Message: " + request);
 	}
 
+	/*
+	 * Propagates deadline of the gRPC call to the function (see FunctionDeadline).
+	 */
+	private Message<byte[]> enrichDeadlineHeader(Message<byte[]> message) {
+		Deadline deadline = Context.current().getDeadline();
+		if (deadline == null) {
+			return message;
+		}
+		return MessageBuilder.fromMessage(message)
+			.setHeader(FunctionDeadline.DEADLINE_HEADER,
+					System.currentTimeMillis() + deadline.timeRemaining(TimeUnit.MILLISECONDS))
+			.build();
+	}
+
 	private FunctionInvocationWrapper resolveFunction(Map<String, Object> headers) {
 		String functionDefinition = funcProperties.getDefinition();
 		if (!CollectionUtils.isEmpty(headers) && headers.containsKey(FunctionProperties.FUNCTION_DEFINITION)) {
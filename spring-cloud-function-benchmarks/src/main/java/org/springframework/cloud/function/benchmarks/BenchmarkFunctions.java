@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Functions used by benchmarks, representing the typical shapes of user functions.
+ *
+ * @since 5.0.4
+ */
+@EnableAutoConfiguration
+@Configuration(proxyBeanMethods = false)
+public class BenchmarkFunctions {
+
+	/**
+	 * Starts application context with benchmark functions.
+	 * @param args application arguments (e.g., --spring.cloud.function.observability.latency-timers=true)
+	 * @return application context
+	 */
+	public static ConfigurableApplicationContext run(String... args) {
+		return new SpringApplicationBuilder(BenchmarkFunctions.class)
+			.web(WebApplicationType.NONE)
+			.bannerMode(Banner.Mode.OFF)
+			.logStartupInfo(false)
+			.run(args);
+	}
+
+	@Bean
+	public Function<String, String> uppercase() {
+		return value -> value.toUpperCase(Locale.ROOT);
+	}
+
+	@Bean
+	public Function<String, String> reverse() {
+		return value -> new StringBuilder(value).reverse().toString();
+	}
+
+	@Bean
+	public Function<String, String> trim() {
+		return String::trim;
+	}
+
+	@Bean
+	public Function<Person, Person> older() {
+		return person -> new Person(person.getName(), person.getAge() + 1);
+	}
+
+	@Bean
+	public Function<Flux<String>, Flux<String>> uppercaseFlux() {
+		return flux -> flux.map(value -> value.toUpperCase(Locale.ROOT));
+	}
+
+	@Bean
+	public BiFunction<String, Map<String, Object>, String> greet() {
+		return (name, headers) -> "Hello " + name;
+	}
+
+	/**
+	 * Simple POJO used as function input and output.
+	 */
+	public static class Person {
+
+		private String name;
+
+		private int age;
+
+		public Person() {
+		}
+
+		public Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+	}
+
+}
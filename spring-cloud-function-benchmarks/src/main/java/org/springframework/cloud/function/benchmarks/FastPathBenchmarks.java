@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Benchmarks of the fast invocation path of simple non-reactive functions (e.g., {@code Function<String, String>}
+ * and {@code Function<Person, Person>}) invoked with Message. Allocation per invocation
+ * ({@code gc.alloc.rate.norm}) is verified to stay below a threshold by {@code FastPathAllocationTests}.
+ *
+ * @since 5.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastPathBenchmarks {
+
+	private ConfigurableApplicationContext context;
+
+	private FunctionInvocationWrapper uppercase;
+
+	private FunctionInvocationWrapper older;
+
+	private Message<byte[]> textMessage;
+
+	private Message<byte[]> jsonMessage;
+
+	@Setup
+	public void setup() {
+		this.context = BenchmarkFunctions.run();
+		FunctionCatalog functionCatalog = this.context.getBean(FunctionCatalog.class);
+		this.uppercase = functionCatalog.lookup("uppercase");
+		this.older = functionCatalog.lookup("older");
+		this.textMessage = MessageBuilder.withPayload("hello".getBytes(StandardCharsets.UTF_8))
+			.setHeader(MessageHeaders.CONTENT_TYPE, "text/plain")
+			.build();
+		this.jsonMessage = MessageBuilder.withPayload("{\"name\":\"bob\",\"age\":42}".getBytes(StandardCharsets.UTF_8))
+			.setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+			.build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public Object stringMessage() {
+		return this.uppercase.apply(this.textMessage);
+	}
+
+	@Benchmark
+	public Object pojoMessage() {
+		return this.older.apply(this.jsonMessage);
+	}
+
+}
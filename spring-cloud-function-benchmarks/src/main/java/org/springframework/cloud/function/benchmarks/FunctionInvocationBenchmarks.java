@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.function.benchmarks.BenchmarkFunctions.Person;
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.function.context.config.RoutingFunction;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Benchmarks of {@link FunctionInvocationWrapper#apply(Object)} for the typical shapes of function input
+ * and function definitions. Each benchmark is one invocation (per element for Flux input).
+ *
+ * @since 5.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionInvocationBenchmarks {
+
+	private static final int FLUX_SIZE = 16;
+
+	private ConfigurableApplicationContext context;
+
+	private FunctionInvocationWrapper pojoFunction;
+
+	private FunctionInvocationWrapper fluxFunction;
+
+	private FunctionInvocationWrapper composedFunction;
+
+	private FunctionInvocationWrapper routingFunction;
+
+	private FunctionInvocationWrapper biFunction;
+
+	private Person person;
+
+	private Message<byte[]> jsonMessage;
+
+	private Message<String> routedMessage;
+
+	private Message<String> biFunctionMessage;
+
+	private List<String> fluxElements;
+
+	@Setup
+	public void setup() {
+		this.context = BenchmarkFunctions.run();
+		FunctionCatalog catalog = this.context.getBean(FunctionCatalog.class);
+		this.pojoFunction = catalog.lookup("older");
+		this.fluxFunction = catalog.lookup("uppercaseFlux");
+		this.composedFunction = catalog.lookup("uppercase|reverse|trim");
+		this.routingFunction = catalog.lookup(RoutingFunction.FUNCTION_NAME);
+		this.biFunction = catalog.lookup("greet");
+
+		this.person = new Person("Ricky", 42);
+		this.jsonMessage = MessageBuilder.withPayload("{\"name\":\"Ricky\",\"age\":42}".getBytes(StandardCharsets.UTF_8))
+			.setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+			.build();
+		this.routedMessage = MessageBuilder.withPayload("hello")
+			.setHeader(FunctionProperties.FUNCTION_DEFINITION, "uppercase")
+			.build();
+		this.biFunctionMessage = MessageBuilder.withPayload("Ricky").build();
+		this.fluxElements = new ArrayList<>();
+		for (int i = 0; i < FLUX_SIZE; i++) {
+			this.fluxElements.add("hello " + i);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public Object pojo() {
+		return this.pojoFunction.apply(this.person);
+	}
+
+	@Benchmark
+	public Object jsonMessage() {
+		return this.pojoFunction.apply(this.jsonMessage);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Benchmark
+	@OperationsPerInvocation(FLUX_SIZE)
+	public Object flux() {
+		return ((Flux<Object>) this.fluxFunction.apply(Flux.fromIterable(this.fluxElements))).blockLast();
+	}
+
+	@Benchmark
+	public Object composed() {
+		return this.composedFunction.apply(" hello ");
+	}
+
+	@Benchmark
+	public Object routed() {
+		return this.routingFunction.apply(this.routedMessage);
+	}
+
+	@Benchmark
+	public Object biFunction() {
+		return this.biFunction.apply(this.biFunctionMessage);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.function.context.FunctionRegistration;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry;
+import org.springframework.cloud.function.context.config.JsonMessageConverter;
+import org.springframework.cloud.function.context.config.SmartCompositeMessageConverter;
+import org.springframework.cloud.function.json.GsonMapper;
+import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+
+/**
+ * Benchmarks of function lookup in {@link SimpleFunctionRegistry}, when the function is found in the lookup cache (hit)
+ * and when it has to be looked up in registrations and wrapped (or composed) again (miss).
+ *
+ * @since 5.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionLookupBenchmarks {
+
+	private SimpleFunctionRegistry cachingRegistry;
+
+	private SimpleFunctionRegistry nonCachingRegistry;
+
+	@Setup
+	public void setup() {
+		this.cachingRegistry = this.registry(1000);
+		this.nonCachingRegistry = this.registry(0);
+		this.cachingRegistry.lookup("uppercase");
+		this.cachingRegistry.lookup("uppercase|reverse|trim");
+	}
+
+	@Benchmark
+	public Object lookupHit() {
+		return this.cachingRegistry.lookup("uppercase");
+	}
+
+	@Benchmark
+	public Object lookupMiss() {
+		return this.nonCachingRegistry.lookup("uppercase");
+	}
+
+	@Benchmark
+	public Object lookupComposedHit() {
+		return this.cachingRegistry.lookup("uppercase|reverse|trim");
+	}
+
+	@Benchmark
+	public Object lookupComposedMiss() {
+		return this.nonCachingRegistry.lookup("uppercase|reverse|trim");
+	}
+
+	private SimpleFunctionRegistry registry(int lookupCacheSize) {
+		JsonMapper jsonMapper = new GsonMapper(new Gson());
+		SmartCompositeMessageConverter messageConverter = new SmartCompositeMessageConverter(List.of(
+				new JsonMessageConverter(jsonMapper), new ByteArrayMessageConverter(), new StringMessageConverter()));
+		SimpleFunctionRegistry registry = new SimpleFunctionRegistry(new DefaultConversionService(), messageConverter,
+				jsonMapper, null, null, lookupCacheSize);
+		this.register(registry, "uppercase", value -> value.toUpperCase(Locale.ROOT));
+		this.register(registry, "reverse", value -> new StringBuilder(value).reverse().toString());
+		this.register(registry, "trim", String::trim);
+		return registry;
+	}
+
+	private void register(SimpleFunctionRegistry registry, String name, Function<String, String> function) {
+		registry.register(new FunctionRegistration<>(function, name)
+			.type(ResolvableType.forClassWithGenerics(Function.class, String.class, String.class).getType()));
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+
+import org.springframework.cloud.function.benchmarks.JsonPayloads.Shape;
+import org.springframework.cloud.function.json.GsonMapper;
+import org.springframework.cloud.function.json.JacksonMapper;
+import org.springframework.cloud.function.json.JsonMapper;
+
+/**
+ * Benchmarks of reading and writing JSON payloads of different sizes and shapes
+ * with {@link JacksonMapper} and {@link GsonMapper}.
+ *
+ * @since 5.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMapperBenchmarks {
+
+	@Param({ "jackson", "gson" })
+	private String mapper;
+
+	@Param({ "1KB", "64KB", "4MB" })
+	private String size;
+
+	@Param({ "FLAT", "NESTED", "ARRAY" })
+	private Shape shape;
+
+	private JsonMapper jsonMapper;
+
+	private byte[] json;
+
+	private Object object;
+
+	private Type type;
+
+	@Setup
+	public void setup() {
+		this.jsonMapper = jsonMapper(this.mapper);
+		this.type = JsonPayloads.type(this.shape);
+		this.json = JsonPayloads.json(this.shape, JsonPayloads.parseSize(this.size));
+		this.object = this.jsonMapper.fromJson(this.json, this.type);
+	}
+
+	@Benchmark
+	public Object fromJson() {
+		return this.jsonMapper.fromJson(this.json, this.type);
+	}
+
+	@Benchmark
+	public Object toJson() {
+		return this.jsonMapper.toJson(this.object);
+	}
+
+	static JsonMapper jsonMapper(String name) {
+		return switch (name) {
+			case "jackson" -> new JacksonMapper(new ObjectMapper());
+			case "gson" -> new GsonMapper(new Gson());
+			default -> throw new IllegalArgumentException("Unknown JsonMapper: " + name);
+		};
+	}
+
+}
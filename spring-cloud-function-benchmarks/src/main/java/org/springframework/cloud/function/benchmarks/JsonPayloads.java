@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import tools.jackson.databind.ObjectMapper;
+
+import org.springframework.cloud.function.json.JacksonMapper;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Deterministic JSON payload fixtures of approximately the requested size, in three shapes
+ * (see {@link Shape}), together with the Java types they bind to.
+ *
+ * @since 5.0.4
+ */
+public final class JsonPayloads {
+
+	private static final JacksonMapper MAPPER = new JacksonMapper(new ObjectMapper());
+
+	private JsonPayloads() {
+	}
+
+	/**
+	 * Parses size such as '1KB', '64KB' or '4MB'.
+	 * @param size size
+	 * @return size in bytes
+	 */
+	public static int parseSize(String size) {
+		String value = size.trim().toUpperCase(Locale.ROOT);
+		if (value.endsWith("MB")) {
+			return Integer.parseInt(value.substring(0, value.length() - 2)) * 1024 * 1024;
+		}
+		if (value.endsWith("KB")) {
+			return Integer.parseInt(value.substring(0, value.length() - 2)) * 1024;
+		}
+		return Integer.parseInt(value);
+	}
+
+	/**
+	 * Creates the object of the provided shape which serializes to JSON of approximately the provided size.
+	 * @param shape payload shape
+	 * @param size size in bytes
+	 * @return payload object (instance of the type returned by {@link #type(Shape)})
+	 */
+	public static Object object(Shape shape, int size) {
+		IntFunction<Object> factory = switch (shape) {
+			case FLAT -> JsonPayloads::flat;
+			case NESTED -> JsonPayloads::nested;
+			case ARRAY -> JsonPayloads::array;
+		};
+		// estimate the number of elements from a small sample, then correct it once, since elements grow with index
+		int elements = 16;
+		for (int i = 0; i < 2; i++) {
+			int actualSize = MAPPER.toJson(factory.apply(elements)).length;
+			elements = Math.max(1, (int) ((long) size * elements / actualSize));
+		}
+		return factory.apply(elements);
+	}
+
+	/**
+	 * Creates JSON of the provided shape and approximately the provided size.
+	 * @param shape payload shape
+	 * @param size size in bytes
+	 * @return JSON
+	 */
+	public static byte[] json(Shape shape, int size) {
+		return MAPPER.toJson(object(shape, size));
+	}
+
+	/**
+	 * Creates JSON of individual items (e.g., batch of messages) with approximately the provided total size.
+	 * @param size total size in bytes
+	 * @return JSON of each item
+	 */
+	public static List<byte[]> items(int size) {
+		int itemSize = MAPPER.toJson(array(1).get(0)).length;
+		List<byte[]> result = new ArrayList<>();
+		for (Item item : array(Math.max(1, size / itemSize))) {
+			result.add(MAPPER.toJson(item));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the type the payload of the provided shape binds to.
+	 * @param shape payload shape
+	 * @return type
+	 */
+	public static Type type(Shape shape) {
+		return switch (shape) {
+			case FLAT -> ResolvableType.forClassWithGenerics(Map.class, String.class, Object.class).getType();
+			case NESTED -> Order.class;
+			case ARRAY -> ResolvableType.forClassWithGenerics(List.class, Item.class).getType();
+		};
+	}
+
+	private static Map<String, Object> flat(int fields) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (int i = 0; i < fields; i++) {
+			switch (i % 4) {
+				case 0 -> map.put("field" + i, "value of field " + i);
+				case 1 -> map.put("field" + i, i * 31L);
+				case 2 -> map.put("field" + i, i % 3 == 0);
+				default -> map.put("field" + i, i * 1.25);
+			}
+		}
+		return map;
+	}
+
+	private static Order nested(int lines) {
+		List<OrderLine> orderLines = new ArrayList<>();
+		for (int i = 0; i < lines; i++) {
+			Category category = new Category(i % 10, "category-" + (i % 10), List.of("root", "department-" + (i % 3)));
+			orderLines.add(new OrderLine("SKU-" + i, i % 5 + 1, 9.99 + i,
+					new Product("product " + i, "description of product " + i, category)));
+		}
+		Customer customer = new Customer("Ricky Bobby", "ricky@example.com",
+				new Address("1 Speedway Blvd", "Talladega", "35160", "US"));
+		return new Order(42, customer, orderLines);
+	}
+
+	private static List<Item> array(int items) {
+		List<Item> list = new ArrayList<>();
+		for (int i = 0; i < items; i++) {
+			list.add(new Item(i, "SKU-" + i, "item " + i, 9.99 + i, i % 7, i % 2 == 0));
+		}
+		return list;
+	}
+
+	/**
+	 * Shape of JSON payload.
+	 */
+	public enum Shape {
+
+		/**
+		 * Single object with scalar fields only.
+		 */
+		FLAT,
+
+		/**
+		 * Object with several levels of nested objects and arrays.
+		 */
+		NESTED,
+
+		/**
+		 * Array of small flat objects.
+		 */
+		ARRAY
+
+	}
+
+	/**
+	 * Flat item, element of {@link Shape#ARRAY} payload.
+	 * @param id id
+	 * @param sku SKU
+	 * @param name name
+	 * @param price price
+	 * @param quantity quantity
+	 * @param available whether available
+	 */
+	public record Item(long id, String sku, String name, double price, int quantity, boolean available) {
+	}
+
+	/**
+	 * Root of {@link Shape#NESTED} payload.
+	 * @param id id
+	 * @param customer customer
+	 * @param lines order lines
+	 */
+	public record Order(long id, Customer customer, List<OrderLine> lines) {
+	}
+
+	/**
+	 * Customer of {@link Order}.
+	 * @param name name
+	 * @param email email
+	 * @param address address
+	 */
+	public record Customer(String name, String email, Address address) {
+	}
+
+	/**
+	 * Address of {@link Customer}.
+	 * @param street street
+	 * @param city city
+	 * @param zip zip code
+	 * @param country country
+	 */
+	public record Address(String street, String city, String zip, String country) {
+	}
+
+	/**
+	 * Line of {@link Order}.
+	 * @param sku SKU
+	 * @param quantity quantity
+	 * @param price price
+	 * @param product product
+	 */
+	public record OrderLine(String sku, int quantity, double price, Product product) {
+	}
+
+	/**
+	 * Product of {@link OrderLine}.
+	 * @param name name
+	 * @param description description
+	 * @param category category
+	 */
+	public record Product(String name, String description, Category category) {
+	}
+
+	/**
+	 * Category of {@link Product}.
+	 * @param id id
+	 * @param name name
+	 * @param path names of parent categories
+	 */
+	public record Category(long id, String name, List<String> path) {
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.function.benchmarks.JsonPayloads.Shape;
+import org.springframework.cloud.function.json.JsonMapper;
+
+/**
+ * Benchmarks of {@link JsonMapper#isJsonString(Object)} and {@link JsonMapper#isJsonStringRepresentsCollection(Object)}
+ * used to sniff payloads (e.g., before conversion), for JSON payloads as well as plain text of the same size.
+ *
+ * @since 5.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSniffingBenchmarks {
+
+	@Param({ "1KB", "64KB", "4MB" })
+	private String size;
+
+	@Param({ "FLAT", "NESTED", "ARRAY" })
+	private Shape shape;
+
+	private byte[] json;
+
+	private String jsonString;
+
+	private byte[] text;
+
+	@Setup
+	public void setup() {
+		this.json = JsonPayloads.json(this.shape, JsonPayloads.parseSize(this.size));
+		this.jsonString = new String(this.json, StandardCharsets.UTF_8);
+		this.text = new byte[this.json.length];
+		Arrays.fill(this.text, (byte) 'a');
+	}
+
+	@Benchmark
+	public boolean isJsonBytes() {
+		return JsonMapper.isJsonString(this.json);
+	}
+
+	@Benchmark
+	public boolean isJsonString() {
+		return JsonMapper.isJsonString(this.jsonString);
+	}
+
+	@Benchmark
+	public boolean isJsonPlainText() {
+		return JsonMapper.isJsonString(this.text);
+	}
+
+	@Benchmark
+	public boolean isJsonCollection() {
+		return JsonMapper.isJsonStringRepresentsCollection(this.json);
+	}
+
+}
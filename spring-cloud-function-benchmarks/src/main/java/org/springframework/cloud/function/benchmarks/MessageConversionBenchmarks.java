@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.function.benchmarks.JsonPayloads.Shape;
+import org.springframework.cloud.function.context.catalog.FunctionTypeUtils;
+import org.springframework.cloud.function.context.config.JsonMessageConverter;
+import org.springframework.cloud.function.context.config.SmartCompositeMessageConverter;
+import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Benchmarks of conversion of JSON messages of different sizes and shapes by {@link SmartCompositeMessageConverter}
+ * (as configured by default, with {@link JsonMessageConverter} first) and by {@link JsonMessageConverter} alone.
+ *
+ * @since 5.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageConversionBenchmarks {
+
+	@Param({ "jackson", "gson" })
+	private String mapper;
+
+	@Param({ "1KB", "64KB", "4MB" })
+	private String size;
+
+	@Param({ "FLAT", "NESTED", "ARRAY" })
+	private Shape shape;
+
+	private JsonMessageConverter jsonMessageConverter;
+
+	private SmartCompositeMessageConverter messageConverter;
+
+	private Message<byte[]> message;
+
+	private Object object;
+
+	private Class<?> targetClass;
+
+	private Type type;
+
+	private MessageHeaders headers;
+
+	@Setup
+	public void setup() {
+		JsonMapper jsonMapper = JsonMapperBenchmarks.jsonMapper(this.mapper);
+		this.jsonMessageConverter = new JsonMessageConverter(jsonMapper);
+		this.messageConverter = new SmartCompositeMessageConverter(List.of(new JsonMessageConverter(jsonMapper),
+				new ByteArrayMessageConverter(), new StringMessageConverter()));
+
+		this.type = JsonPayloads.type(this.shape);
+		this.targetClass = FunctionTypeUtils.getRawType(this.type);
+		this.message = MessageBuilder.withPayload(JsonPayloads.json(this.shape, JsonPayloads.parseSize(this.size)))
+			.setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+			.build();
+		this.object = jsonMapper.fromJson(this.message.getPayload(), this.type);
+		this.headers = this.message.getHeaders();
+	}
+
+	@Benchmark
+	public Object fromMessage() {
+		return this.messageConverter.fromMessage(this.message, this.targetClass, this.type);
+	}
+
+	@Benchmark
+	public Object toMessage() {
+		return this.messageConverter.toMessage(this.object, this.headers);
+	}
+
+	@Benchmark
+	public Object jsonConverterFromMessage() {
+		return this.jsonMessageConverter.fromMessage(this.message, this.targetClass, this.type);
+	}
+
+	@Benchmark
+	public Object jsonConverterToMessage() {
+		return this.jsonMessageConverter.toMessage(this.object, this.headers);
+	}
+
+}
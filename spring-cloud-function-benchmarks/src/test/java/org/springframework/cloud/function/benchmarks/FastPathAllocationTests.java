@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.benchmarks;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link FastPathBenchmarks} with GC profiler and verifies that invocation of simple functions
+ * with Message allocates less than the expected number of bytes (the general invocation path allocates
+ * 8KB - 11KB per invocation of the same functions).
+ *
+ * @since 5.0.4
+ */
+public class FastPathAllocationTests {
+
+	private static final Map<String, Double> MAX_BYTES_PER_OPERATION = Map.of(
+		"stringMessage", 1024.0,
+		"pojoMessage", 4096.0);
+
+	@Test
+	public void testAllocationPerInvocation() throws Exception {
+		Options options = new OptionsBuilder()
+			.include(FastPathBenchmarks.class.getName())
+			.addProfiler(GCProfiler.class)
+			.warmupIterations(3)
+			.warmupTime(TimeValue.seconds(1))
+			.measurementIterations(3)
+			.measurementTime(TimeValue.seconds(1))
+			.forks(1)
+			.build();
+		Collection<RunResult> results = new Runner(options).run();
+		assertThat(results).hasSize(MAX_BYTES_PER_OPERATION.size());
+		for (RunResult result : results) {
+			String benchmark = result.getParams().getBenchmark();
+			String name = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+			Result<?> allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+			assertThat(allocation).as("gc.alloc.rate.norm of %s", name).isNotNull();
+			assertThat(allocation.getScore()).as("bytes per invocation of %s", name)
+				.isLessThan(MAX_BYTES_PER_OPERATION.get(name));
+		}
+	}
+
+}
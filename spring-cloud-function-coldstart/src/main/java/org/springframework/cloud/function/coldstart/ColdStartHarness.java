@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.coldstart;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Measures cold start of {@link ColdStartScenario scenarios} by starting each of them in freshly forked JVMs
+ * (see {@link ColdStartProbe}) and reports median timings (in milliseconds) across forks. Arguments are
+ * names of scenarios to run (all by default) and the following options:
+ * <ul>
+ * <li>{@code --forks=N} - number of forks per scenario and mode (5 by default)</li>
+ * <li>{@code --jvm-args=ARGS} - space separated arguments of forked JVMs (e.g., '-Xshare:auto -XX:TieredStopAtLevel=1')</li>
+ * </ul>
+ *
+ * @since 5.0.4
+ */
+public final class ColdStartHarness {
+
+	private static final List<String> METRICS = List.of("jvm", "context-start", "lookup", "conversion", "invocation",
+			"first-request", "time-to-first-response");
+
+	private static final long FORK_TIMEOUT_SECONDS = 120;
+
+	private ColdStartHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int forks = 5;
+		List<String> jvmArgs = new ArrayList<>();
+		List<ColdStartScenario> scenarios = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--forks=")) {
+				forks = Integer.parseInt(arg.substring("--forks=".length()));
+			}
+			else if (arg.startsWith("--jvm-args=")) {
+				jvmArgs.addAll(Arrays.asList(StringUtils.tokenizeToStringArray(arg.substring("--jvm-args=".length()), " ")));
+			}
+			else if (StringUtils.hasText(arg)) {
+				scenarios.add(ColdStartScenario.valueOf(arg.trim().toUpperCase(Locale.ROOT)));
+			}
+		}
+		if (scenarios.isEmpty()) {
+			scenarios.addAll(Arrays.asList(ColdStartScenario.values()));
+		}
+
+		// discarded fork, so the first measured one does not pay for loading classpath into OS file cache
+		fork(scenarios.get(0), ColdStartProbe.TIMING, jvmArgs);
+
+		Map<ColdStartScenario, Map<String, Double>> results = new LinkedHashMap<>();
+		for (ColdStartScenario scenario : scenarios) {
+			Map<String, List<Double>> samples = new LinkedHashMap<>();
+			for (int i = 0; i < forks; i++) {
+				for (String mode : List.of(ColdStartProbe.TIMING, ColdStartProbe.BREAKDOWN)) {
+					fork(scenario, mode, jvmArgs).forEach((metric, value) ->
+						samples.computeIfAbsent(metric, key -> new ArrayList<>()).add(value));
+				}
+			}
+			Map<String, Double> medians = new LinkedHashMap<>();
+			samples.forEach((metric, values) -> medians.put(metric, median(values)));
+			results.put(scenario, medians);
+			System.out.println(scenario + ": " + medians);
+		}
+		print(results);
+	}
+
+	private static Map<String, Double> fork(ColdStartScenario scenario, String mode, List<String> jvmArgs)
+			throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(jvmArgs);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(ColdStartProbe.class.getName());
+		command.add(scenario.name());
+		command.add(mode);
+		Path log = Files.createTempFile("coldstart", ".log");
+		try {
+			Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+			boolean exited = process.waitFor(FORK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			if (!exited) {
+				process.destroyForcibly().waitFor();
+			}
+			List<String> output = Files.readAllLines(log, StandardCharsets.UTF_8);
+			String result = output.stream()
+				.filter(line -> line.startsWith(ColdStartProbe.RESULT_PREFIX))
+				.map(line -> line.substring(ColdStartProbe.RESULT_PREFIX.length()))
+				.findFirst()
+				.orElse(null);
+			if (!exited || process.exitValue() != 0 || result == null) {
+				List<String> tail = output.subList(Math.max(0, output.size() - 50), output.size());
+				throw new IllegalStateException("Cold start of " + scenario + " (" + mode + ") failed"
+						+ (exited ? "" : " to complete within " + FORK_TIMEOUT_SECONDS + " seconds") + ":\n" + String.join("\n", tail));
+			}
+			return parse(result);
+		}
+		finally {
+			Files.deleteIfExists(log);
+		}
+	}
+
+	private static Map<String, Double> parse(String result) {
+		Map<String, Double> timings = new LinkedHashMap<>();
+		for (String timing : StringUtils.tokenizeToStringArray(result, " ")) {
+			int separator = timing.indexOf('=');
+			timings.put(timing.substring(0, separator), Double.parseDouble(timing.substring(separator + 1)));
+		}
+		return timings;
+	}
+
+	private static double median(List<Double> values) {
+		List<Double> sorted = new ArrayList<>(values);
+		sorted.sort(null);
+		int middle = sorted.size() / 2;
+		return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+	}
+
+	private static void print(Map<ColdStartScenario, Map<String, Double>> results) {
+		StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%n%-34s", "scenario (median ms)"));
+		METRICS.forEach(metric -> table.append(String.format(Locale.ROOT, "%" + width(metric) + "s", metric)));
+		results.forEach((scenario, medians) -> {
+			table.append(String.format(Locale.ROOT, "%n%-34s", scenario));
+			METRICS.forEach(metric -> table.append(medians.containsKey(metric)
+					? String.format(Locale.ROOT, "%" + width(metric) + ".1f", medians.get(metric))
+					: String.format(Locale.ROOT, "%" + width(metric) + "s", "-")));
+		});
+		table.append(System.lineSeparator());
+
+		// FunctionalSpringApplication vs. full Spring Boot
+		results.forEach((scenario, medians) -> {
+			if (scenario.name().endsWith("_FUNCTIONAL")) {
+				String name = scenario.name().substring(0, scenario.name().length() - "_FUNCTIONAL".length());
+				Map<String, Double> bootMedians = results.entrySet().stream()
+					.filter(entry -> entry.getKey().name().equals(name + "_BOOT"))
+					.map(Map.Entry::getValue)
+					.findFirst()
+					.orElse(null);
+				if (bootMedians != null) {
+					double functional = medians.get("time-to-first-response");
+					double boot = bootMedians.get("time-to-first-response");
+					table.append(String.format(Locale.ROOT, "%n%s time to first response: functional %.1f ms, boot %.1f ms (%+.1f%%)",
+							name, functional, boot, (functional - boot) * 100 / boot));
+				}
+			}
+		});
+		System.out.println(table);
+	}
+
+	private static int width(String metric) {
+		return Math.max(10, metric.length() + 2);
+	}
+
+}
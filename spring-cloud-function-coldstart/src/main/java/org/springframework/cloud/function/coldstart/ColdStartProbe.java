@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.coldstart;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.springframework.cloud.function.observability.jfr.FunctionInvocationEvent;
+import org.springframework.cloud.function.observability.jfr.FunctionLookupEvent;
+import org.springframework.cloud.function.observability.jfr.MessageConversionEvent;
+
+/**
+ * Runs single {@link ColdStartScenario} in a freshly started JVM (see {@link ColdStartHarness}) and prints
+ * its timings (in milliseconds) as single line prefixed with {@value #RESULT_PREFIX}.
+ * In {@value #TIMING} mode it measures time from JVM start to main method, start of the application,
+ * first request and the total time to first response. In {@value #BREAKDOWN} mode it records function lookup,
+ * message conversion and function invocation JFR events and reports time spent in each of them until the
+ * first response; JFR adds to the startup time, hence the separate mode.
+ *
+ * @since 5.0.4
+ */
+public final class ColdStartProbe {
+
+	/**
+	 * Prefix of the line with results.
+	 */
+	public static final String RESULT_PREFIX = "COLDSTART ";
+
+	/**
+	 * Mode measuring end-to-end timings.
+	 */
+	public static final String TIMING = "timing";
+
+	/**
+	 * Mode measuring time spent in lookup, conversion and invocation.
+	 */
+	public static final String BREAKDOWN = "breakdown";
+
+	private static final Map<String, String> PHASES = Map.of(
+			EventType.getEventType(FunctionLookupEvent.class).getName(), "lookup",
+			EventType.getEventType(MessageConversionEvent.class).getName(), "conversion",
+			EventType.getEventType(FunctionInvocationEvent.class).getName(), "invocation");
+
+	private ColdStartProbe() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		long jvmToMain = ManagementFactory.getRuntimeMXBean().getUptime();
+		long mainStart = System.nanoTime();
+		ColdStartScenario scenario = ColdStartScenario.valueOf(args[0]);
+		Recording recording = args.length > 1 && BREAKDOWN.equals(args[1]) ? startRecording() : null;
+
+		Callable<String> firstRequest = scenario.start();
+		long started = System.nanoTime();
+		String response = firstRequest.call();
+		long responded = System.nanoTime();
+		if (response == null || !response.contains("HELLO")) {
+			throw new IllegalStateException("Unexpected response of " + scenario + ": " + response);
+		}
+
+		Map<String, Double> timings = new LinkedHashMap<>();
+		if (recording == null) {
+			timings.put("jvm", (double) jvmToMain);
+			timings.put("context-start", millis(started - mainStart));
+			timings.put("first-request", millis(responded - started));
+			timings.put("time-to-first-response", jvmToMain + millis(responded - mainStart));
+		}
+		else {
+			timings.putAll(phases(recording));
+		}
+		StringBuilder result = new StringBuilder(RESULT_PREFIX);
+		timings.forEach((name, value) -> result.append(name).append('=').append(String.format(Locale.ROOT, "%.3f", value)).append(' '));
+		System.out.println(result.toString().trim());
+		System.out.flush();
+		// adapters may leave non-daemon threads (e.g., event loop, web server) running
+		System.exit(0);
+	}
+
+	private static Recording startRecording() {
+		Recording recording = new Recording();
+		recording.enable(FunctionLookupEvent.class).withoutStackTrace().withoutThreshold();
+		recording.enable(MessageConversionEvent.class).withoutStackTrace().withoutThreshold();
+		recording.enable(FunctionInvocationEvent.class).withoutStackTrace().withoutThreshold();
+		recording.start();
+		return recording;
+	}
+
+	/*
+	 * Time spent in each type of event, counting nested (e.g., lookup of composed function)
+	 * and overlapping events of the same type on the same thread only once.
+	 */
+	private static Map<String, Double> phases(Recording recording) throws Exception {
+		recording.stop();
+		Path file = Files.createTempFile("coldstart", ".jfr");
+		try {
+			recording.dump(file);
+			recording.close();
+			Map<String, List<RecordedEvent>> eventsByPhaseAndThread = new HashMap<>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				String phase = PHASES.get(event.getEventType().getName());
+				if (phase != null) {
+					String thread = event.getThread() == null ? "" : String.valueOf(event.getThread().getJavaThreadId());
+					eventsByPhaseAndThread.computeIfAbsent(phase + '/' + thread, key -> new ArrayList<>()).add(event);
+				}
+			}
+			Map<String, Double> phases = new LinkedHashMap<>();
+			for (String phase : List.of("lookup", "conversion", "invocation")) {
+				phases.put(phase, 0.0);
+			}
+			eventsByPhaseAndThread.forEach((key, events) -> {
+				String phase = key.substring(0, key.indexOf('/'));
+				phases.merge(phase, millis(mergedDuration(events)), Double::sum);
+			});
+			return phases;
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static long mergedDuration(List<RecordedEvent> events) {
+		events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+		long total = 0;
+		long currentStart = -1;
+		long currentEnd = -1;
+		for (RecordedEvent event : events) {
+			long start = TimeUnit.SECONDS.toNanos(event.getStartTime().getEpochSecond()) + event.getStartTime().getNano();
+			long end = start + event.getDuration().toNanos();
+			if (start > currentEnd) {
+				total += currentEnd - currentStart;
+				currentStart = start;
+				currentEnd = end;
+			}
+			else {
+				currentEnd = Math.max(currentEnd, end);
+			}
+		}
+		return total + (currentEnd - currentStart);
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.coldstart;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import com.google.cloud.functions.HttpRequest;
+import com.google.cloud.functions.HttpResponse;
+import jakarta.servlet.ServletContext;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.function.adapter.test.aws.AWSCustomRuntime;
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.FunctionalSpringApplication;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.function.serverless.web.ServerlessAutoConfiguration;
+import org.springframework.cloud.function.serverless.web.ServerlessHttpServletRequest;
+import org.springframework.cloud.function.serverless.web.ServerlessHttpServletResponse;
+import org.springframework.cloud.function.serverless.web.ServerlessMVC;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Cold start scenarios, each starting an application the way the given adapter does
+ * and sending the first request ('hello' to 'uppercase' function or endpoint).
+ * Scenarios with FUNCTIONAL and BOOT suffix differ only in the way the application is started
+ * ({@link FunctionalSpringApplication} with {@link FunctionalConfiguration} vs. full
+ * {@link org.springframework.boot.SpringApplication} boot with {@link BootConfiguration}).
+ *
+ * @since 5.0.4
+ */
+public enum ColdStartScenario {
+
+	/**
+	 * {@link FunctionCatalog} of application started with {@link FunctionalSpringApplication}.
+	 */
+	CATALOG_FUNCTIONAL {
+		@Override
+		Callable<String> start() {
+			return catalogRequest(FunctionalSpringApplication.run(FunctionalConfiguration.class,
+					"--spring.main.web-application-type=none"));
+		}
+	},
+
+	/**
+	 * {@link FunctionCatalog} of application started with full Spring Boot.
+	 */
+	CATALOG_BOOT {
+		@Override
+		Callable<String> start() {
+			return catalogRequest(new SpringApplicationBuilder(BootConfiguration.class)
+				.web(WebApplicationType.NONE)
+				.run());
+		}
+	},
+
+	/**
+	 * AWS {@link org.springframework.cloud.function.adapter.aws.FunctionInvoker} with functional configuration.
+	 */
+	AWS_FUNCTION_INVOKER_FUNCTIONAL {
+		@Override
+		Callable<String> start() {
+			return awsFunctionInvoker(FunctionalConfiguration.class);
+		}
+	},
+
+	/**
+	 * AWS {@link org.springframework.cloud.function.adapter.aws.FunctionInvoker} with full Spring Boot.
+	 */
+	AWS_FUNCTION_INVOKER_BOOT {
+		@Override
+		Callable<String> start() {
+			return awsFunctionInvoker(BootConfiguration.class);
+		}
+	},
+
+	/**
+	 * AWS {@link org.springframework.cloud.function.adapter.aws.CustomRuntimeEventLoop} polling
+	 * local {@link AWSCustomRuntime} stand-in of AWS Lambda Runtime API.
+	 */
+	AWS_CUSTOM_RUNTIME {
+		@Override
+		Callable<String> start() {
+			ConfigurableApplicationContext context = new SpringApplicationBuilder(BootConfiguration.class, AWSCustomRuntime.class)
+				.web(WebApplicationType.SERVLET)
+				.properties("_HANDLER=uppercase", "server.port=0",
+						"spring.autoconfigure.exclude=" + ServerlessAutoConfiguration.class.getName())
+				.run();
+			AWSCustomRuntime runtime = context.getBean(AWSCustomRuntime.class);
+			return () -> runtime.exchange("\"hello\"").getPayload();
+		}
+	},
+
+	/**
+	 * GCP {@link org.springframework.cloud.function.adapter.gcp.FunctionInvoker} with functional configuration.
+	 */
+	GCP_FUNCTION_INVOKER_FUNCTIONAL {
+		@Override
+		Callable<String> start() {
+			return gcpFunctionInvoker(FunctionalConfiguration.class);
+		}
+	},
+
+	/**
+	 * GCP {@link org.springframework.cloud.function.adapter.gcp.FunctionInvoker} with full Spring Boot.
+	 */
+	GCP_FUNCTION_INVOKER_BOOT {
+		@Override
+		Callable<String> start() {
+			return gcpFunctionInvoker(BootConfiguration.class);
+		}
+	},
+
+	/**
+	 * Spring MVC application served by {@link ServerlessMVC}.
+	 */
+	SERVERLESS_MVC {
+		@Override
+		Callable<String> start() {
+			ServerlessMVC mvc = ServerlessMVC.INSTANCE(MvcConfiguration.class);
+			Assert.state(mvc.waitForContext(), "ServerlessMVC failed to start");
+			ServletContext servletContext = mvc.getServletContext();
+			return () -> {
+				ServerlessHttpServletRequest request = new ServerlessHttpServletRequest(servletContext, "POST", "/uppercase");
+				request.setContentType("text/plain");
+				request.setContent("hello".getBytes(StandardCharsets.UTF_8));
+				ServerlessHttpServletResponse response = new ServerlessHttpServletResponse();
+				mvc.service(request, response);
+				return response.getContentAsString();
+			};
+		}
+	};
+
+	/**
+	 * Starts the application (as well as everything the adapter does on initialization).
+	 * @return callable sending the first request and returning the response
+	 */
+	abstract Callable<String> start();
+
+	private static Callable<String> catalogRequest(ConfigurableApplicationContext context) {
+		FunctionCatalog catalog = context.getBean(FunctionCatalog.class);
+		return () -> {
+			FunctionInvocationWrapper function = catalog.lookup("uppercase", "application/json");
+			Message<byte[]> request = MessageBuilder.withPayload("\"hello\"".getBytes(StandardCharsets.UTF_8))
+				.setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+				.build();
+			Message<?> response = (Message<?>) function.apply(request);
+			return new String((byte[]) response.getPayload(), StandardCharsets.UTF_8);
+		};
+	}
+
+	private static Callable<String> awsFunctionInvoker(Class<?> configurationClass) {
+		System.setProperty("MAIN_CLASS", configurationClass.getName());
+		org.springframework.cloud.function.adapter.aws.FunctionInvoker invoker =
+				new org.springframework.cloud.function.adapter.aws.FunctionInvoker("uppercase");
+		return () -> {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			invoker.handleRequest(new ByteArrayInputStream("\"hello\"".getBytes(StandardCharsets.UTF_8)), output, null);
+			return output.toString(StandardCharsets.UTF_8);
+		};
+	}
+
+	private static Callable<String> gcpFunctionInvoker(Class<?> configurationClass) {
+		System.setProperty("function.name", "uppercase");
+		org.springframework.cloud.function.adapter.gcp.FunctionInvoker invoker =
+				new org.springframework.cloud.function.adapter.gcp.FunctionInvoker(configurationClass);
+		return () -> {
+			HttpRequest request = proxy(HttpRequest.class, method -> switch (method) {
+				case "getReader" -> new BufferedReader(new StringReader("\"hello\""));
+				case "getHeaders" -> Map.of("Content-Type", List.of("application/json"));
+				case "getContentType" -> Optional.of("application/json");
+				case "getMethod" -> "POST";
+				default -> null;
+			});
+			StringWriter content = new StringWriter();
+			BufferedWriter writer = new BufferedWriter(content);
+			HttpResponse response = proxy(HttpResponse.class, method -> "getWriter".equals(method) ? writer : null);
+			invoker.service(request, response);
+			writer.flush();
+			return content.toString();
+		};
+	}
+
+	/*
+	 * Minimal implementation of GCP request/response interfaces, returning empty values
+	 * for anything not explicitly answered.
+	 */
+	private static <T> T proxy(Class<T> type, Function<String, Object> answers) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			Object answer = answers.apply(method.getName());
+			if (answer != null) {
+				return answer;
+			}
+			Class<?> returnType = method.getReturnType();
+			if (returnType == Optional.class) {
+				return Optional.empty();
+			}
+			else if (returnType == Map.class) {
+				return Map.of();
+			}
+			else if (returnType == long.class) {
+				return 0L;
+			}
+			else if (returnType == int.class) {
+				return 0;
+			}
+			else if (returnType == boolean.class) {
+				return false;
+			}
+			return null;
+		}));
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.coldstart;
+
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Spring MVC application with 'uppercase' endpoint, served by
+ * {@link org.springframework.cloud.function.serverless.web.ServerlessMVC}.
+ *
+ * @since 5.0.4
+ */
+@EnableAutoConfiguration
+@Configuration(proxyBeanMethods = false)
+@RestController
+public class MvcConfiguration {
+
+	@PostMapping("/uppercase")
+	public String uppercase(@RequestBody String value) {
+		return value.toUpperCase(Locale.ROOT);
+	}
+
+}
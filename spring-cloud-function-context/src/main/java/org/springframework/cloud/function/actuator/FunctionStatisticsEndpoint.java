@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.actuator;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.catalog.FunctionBulkhead;
+import org.springframework.cloud.function.context.catalog.FunctionExecutionStatistics;
+import org.springframework.cloud.function.context.catalog.FunctionInvocationCoalescer;
+import org.springframework.cloud.function.context.catalog.FunctionInvocationStatistics;
+import org.springframework.cloud.function.context.catalog.FunctionLatencyHistogram;
+import org.springframework.cloud.function.context.catalog.FunctionLatencyStatistics;
+import org.springframework.cloud.function.context.catalog.FunctionResultCache;
+import org.springframework.cloud.function.context.catalog.FunctionRuntimeState;
+import org.springframework.cloud.function.context.catalog.FunctionTypeUtils;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.function.context.config.RoutingFunction;
+import org.springframework.cloud.function.context.config.SmartCompositeMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.converter.MessageConverter;
+
+/**
+ * Actuator endpoint exposing runtime statistics of the {@link FunctionCatalog}, such as invocation counts and
+ * latencies (see {@code spring.cloud.function.observability.latency-timers}) of each function, state of its
+ * bulkhead, result cache and invocation coalescer, message converters which converted its input and output,
+ * as well as the hit rates of function lookup cache and of {@link RoutingFunction} routes.
+ * Only functions which were looked up (i.e., are present in the lookup cache) are included.
+ *
+ * @since 5.0.4
+ */
+@Endpoint(id = "functionstats")
+public class FunctionStatisticsEndpoint {
+
+	private static final double[] LATENCY_PERCENTILES = { 0.5, 0.95, 0.99 };
+
+	private final FunctionCatalog functionCatalog;
+
+	private final RoutingFunction routingFunction;
+
+	public FunctionStatisticsEndpoint(FunctionCatalog functionCatalog, @Nullable RoutingFunction routingFunction) {
+		this.functionCatalog = functionCatalog;
+		this.routingFunction = routingFunction;
+	}
+
+	@ReadOperation
+	public Map<String, Object> statistics() {
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		if (this.functionCatalog instanceof SimpleFunctionRegistry functionRegistry) {
+			Map<String, FunctionInvocationWrapper> cachedFunctions = functionRegistry.getLookupCacheContents();
+			Map<String, Object> functions = new TreeMap<>();
+			cachedFunctions.forEach((definition, function) ->
+				functions.put(definition, this.functionStatistics(functionRegistry, definition, function)));
+			statistics.put("functions", functions);
+
+			Map<String, Object> lookupCache = new LinkedHashMap<>();
+			lookupCache.put("size", cachedFunctions.size());
+			lookupCache.put("hits", functionRegistry.getLookupCacheHits());
+			lookupCache.put("misses", functionRegistry.getLookupCacheMisses());
+			lookupCache.put("hit-rate", this.hitRate(functionRegistry.getLookupCacheHits(), functionRegistry.getLookupCacheMisses()));
+			lookupCache.put("entries", new ArrayList<>(cachedFunctions.keySet()));
+			statistics.put("lookup-cache", lookupCache);
+
+			List<String> messageConverters = new ArrayList<>();
+			functionRegistry.getMessageConverter().getConverters()
+				.forEach(converter -> messageConverters.add(converter.getClass().getName()));
+			statistics.put("message-converters", messageConverters);
+		}
+		if (this.routingFunction != null) {
+			Map<String, Object> routing = new LinkedHashMap<>();
+			Map<String, Long> routeHits = this.routingFunction.getRouteHits();
+			long hits = routeHits.values().stream().mapToLong(Long::longValue).sum();
+			routing.put("routes", routeHits);
+			routing.put("misses", this.routingFunction.getRouteMisses());
+			routing.put("hit-rate", this.hitRate(hits, this.routingFunction.getRouteMisses()));
+			statistics.put("routing", routing);
+		}
+		return statistics;
+	}
+
+	@ReadOperation
+	public Map<String, Object> function(@Selector String functionDefinition) {
+		if (this.functionCatalog instanceof SimpleFunctionRegistry functionRegistry) {
+			FunctionInvocationWrapper function = functionRegistry.getLookupCacheContents().get(functionDefinition);
+			if (function != null) {
+				return this.functionStatistics(functionRegistry, functionDefinition, function);
+			}
+		}
+		return null;
+	}
+
+	private Map<String, Object> functionStatistics(SimpleFunctionRegistry functionRegistry, String definition,
+			FunctionInvocationWrapper function) {
+		Map<String, Object> functionStatistics = new LinkedHashMap<>();
+		FunctionRuntimeState runtimeState = functionRegistry.getRuntimeState(definition);
+		if (runtimeState != null) {
+			this.runtimeStateStatistics(runtimeState, functionStatistics);
+		}
+
+		if (functionRegistry.getMessageConverter() instanceof SmartCompositeMessageConverter messageConverter) {
+			Map<String, Object> converters = new LinkedHashMap<>();
+			Class<?> inputClass = this.itemClass(function, function.getInputType());
+			if (inputClass != null) {
+				converters.put("input", this.converterName(messageConverter.getResolvedFromMessageConverter(inputClass)));
+			}
+			Class<?> outputClass = this.itemClass(function, function.getOutputType());
+			if (outputClass != null) {
+				converters.put("output", this.converterName(messageConverter.getResolvedToMessageConverter(outputClass)));
+			}
+			functionStatistics.put("converters", converters);
+		}
+		return functionStatistics;
+	}
+
+	private void runtimeStateStatistics(FunctionRuntimeState runtimeState, Map<String, Object> functionStatistics) {
+		FunctionInvocationStatistics invocationStatistics = runtimeState.getInvocationStatistics();
+		functionStatistics.put("invocations", invocationStatistics.getInvocations());
+		functionStatistics.put("errors", invocationStatistics.getErrors());
+		functionStatistics.put("in-flight", invocationStatistics.getInFlight());
+
+		FunctionLatencyStatistics latencyStatistics = runtimeState.getLatencyStatistics();
+		if (latencyStatistics != null) {
+			Map<String, Map<String, Object>> latency = new TreeMap<>();
+			for (FunctionLatencyHistogram histogram : latencyStatistics.getHistograms()) {
+				latency.computeIfAbsent(histogram.getContentType(), contentType -> new LinkedHashMap<>())
+					.put(histogram.getPhase().name().toLowerCase(Locale.ROOT).replace('_', '-'), this.latency(histogram));
+			}
+			functionStatistics.put("latency", latency);
+		}
+
+		FunctionExecutionStatistics executionStatistics = runtimeState.getExecutionStatistics();
+		if (executionStatistics != null) {
+			Map<String, Object> execution = new LinkedHashMap<>();
+			execution.put("pending", executionStatistics.getPending());
+			execution.put("in-flight", executionStatistics.getInFlight());
+			functionStatistics.put("execution", execution);
+		}
+
+		FunctionBulkhead bulkhead = runtimeState.getBulkhead();
+		if (bulkhead != null) {
+			Map<String, Object> bulkheadStatistics = new LinkedHashMap<>();
+			bulkheadStatistics.put("in-flight", bulkhead.getInFlight());
+			bulkheadStatistics.put("queued", bulkhead.getQueued());
+			bulkheadStatistics.put("rejected", bulkhead.getRejected());
+			functionStatistics.put("bulkhead", bulkheadStatistics);
+		}
+
+		FunctionResultCache resultCache = runtimeState.getResultCache();
+		if (resultCache != null) {
+			Map<String, Object> cache = new LinkedHashMap<>();
+			cache.put("size", resultCache.getSize());
+			cache.put("hits", resultCache.getHits());
+			cache.put("misses", resultCache.getMisses());
+			cache.put("hit-rate", this.hitRate(resultCache.getHits(), resultCache.getMisses()));
+			cache.put("evictions", resultCache.getEvictions());
+			functionStatistics.put("cache", cache);
+		}
+
+		FunctionInvocationCoalescer invocationCoalescer = runtimeState.getInvocationCoalescer();
+		if (invocationCoalescer != null) {
+			Map<String, Object> coalescing = new LinkedHashMap<>();
+			coalescing.put("in-flight", invocationCoalescer.getInFlight());
+			coalescing.put("coalesced", invocationCoalescer.getCoalesced());
+			functionStatistics.put("coalescing", coalescing);
+		}
+	}
+
+	private Map<String, Object> latency(FunctionLatencyHistogram histogram) {
+		Map<String, Object> latency = new LinkedHashMap<>();
+		long count = histogram.getCount();
+		latency.put("count", count);
+		latency.put("mean-ns", count == 0 ? 0 : histogram.getTotalTime() / count);
+		latency.put("max-ns", histogram.getMaxTime());
+		for (double percentile : LATENCY_PERCENTILES) {
+			latency.put("p" + Math.round(percentile * 100) + "-ns", histogram.getPercentile(percentile));
+		}
+		return latency;
+	}
+
+	/*
+	 * Returns the type of individual input or output items (e.g., Person for Flux<Message<Person>>).
+	 */
+	@Nullable
+	private Class<?> itemClass(FunctionInvocationWrapper function, @Nullable Type type) {
+		if (type == null) {
+			return null;
+		}
+		Type itemType = function.getItemType(function.getItemType(type));
+		return itemType == null ? null : FunctionTypeUtils.getRawType(itemType);
+	}
+
+	private String converterName(@Nullable MessageConverter converter) {
+		return converter == null ? null : converter.getClass().getName();
+	}
+
+	private double hitRate(long hits, long misses) {
+		return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+	}
+
+}
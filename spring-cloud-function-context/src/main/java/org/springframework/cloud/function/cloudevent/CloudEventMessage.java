@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.cloudevent;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Implementation of {@link Message} which represents Cloud Event in binary-mode.
+ * Cloud Event attributes are parsed once into typed fields, so {@link CloudEventMessageUtils} accessors do not have to determine attribute prefix and
+ * scan message headers on every access.
+ *
+ * @param <T> the payload type
+ * @since 5.0.4
+ * @see CloudEventMessageBuilder
+ */
+final class CloudEventMessage<T> implements Message<T>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final T payload;
+
+	private final MessageHeaders headers;
+
+	private final String prefix;
+
+	private final Map<String, Object> attributes;
+
+	private final String id;
+
+	private final String specVersion;
+
+	private final String type;
+
+	private URI source;
+
+	private final String subject;
+
+	CloudEventMessage(T payload, Map<String, Object> headers, String prefix) {
+		this.payload = payload;
+		this.headers = new MessageHeaders(headers);
+		this.prefix = prefix;
+		Map<String, Object> attributes = new HashMap<>();
+		for (Map.Entry<String, Object> entry : this.headers.entrySet()) {
+			String key = entry.getKey();
+			if (key.startsWith(CloudEventMessageUtils.DEFAULT_ATTR_PREFIX)
+					|| key.startsWith(CloudEventMessageUtils.AMQP_ATTR_PREFIX)
+					|| key.startsWith(CloudEventMessageUtils.KAFKA_ATTR_PREFIX)) {
+				attributes.put(key, entry.getValue());
+			}
+		}
+		this.attributes = Collections.unmodifiableMap(attributes);
+		this.id = this.getStringAttribute(CloudEventMessageUtils._ID);
+		this.specVersion = this.getStringAttribute(CloudEventMessageUtils._SPECVERSION);
+		this.type = this.getStringAttribute(CloudEventMessageUtils._TYPE);
+		this.subject = this.getStringAttribute(CloudEventMessageUtils._SUBJECT);
+	}
+
+	@Override
+	public T getPayload() {
+		return this.payload;
+	}
+
+	@Override
+	public MessageHeaders getHeaders() {
+		return this.headers;
+	}
+
+	String getPrefix() {
+		return this.prefix;
+	}
+
+	Map<String, Object> getAttributes() {
+		return this.attributes;
+	}
+
+	String getId() {
+		return this.id;
+	}
+
+	String getSpecVersion() {
+		return this.specVersion;
+	}
+
+	String getType() {
+		return this.type;
+	}
+
+	URI getSource() {
+		URI source = this.source;
+		if (source == null) {
+			source = this.getURIAttribute(CloudEventMessageUtils._SOURCE);
+			this.source = source;
+		}
+		return source;
+	}
+
+	String getSubject() {
+		return this.subject;
+	}
+
+	URI getDataSchema() {
+		return this.getURIAttribute(CloudEventMessageUtils._DATASCHEMA);
+	}
+
+	OffsetDateTime getTime() {
+		Object time = this.headers.get(this.prefix + CloudEventMessageUtils._TIME);
+		return time instanceof String ? OffsetDateTime.parse((String) time) : null;
+	}
+
+	String getDataContentType() {
+		Object value = this.headers.get(this.prefix + CloudEventMessageUtils._DATACONTENTTYPE);
+		if (value == null) {
+			value = this.headers.get("content-type");
+			if (value == null) {
+				value = this.headers.get(MessageHeaders.CONTENT_TYPE);
+			}
+		}
+		if (value instanceof byte[] v) {
+			value = new String(v, StandardCharsets.UTF_8);
+		}
+		return !ObjectUtils.isEmpty(value) ? value.toString() : null;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof CloudEventMessage<?> otherMessage)) {
+			return false;
+		}
+		return ObjectUtils.nullSafeEquals(this.payload, otherMessage.getPayload())
+				&& this.headers.equals(otherMessage.getHeaders());
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(this.payload, this.headers);
+	}
+
+	@Override
+	public String toString() {
+		return "CloudEventMessage [payload=" + ObjectUtils.nullSafeToString(this.payload)
+				+ ", headers=" + this.headers + "]";
+	}
+
+	/*
+	 *
+	 */
+	private Object writeReplace() {
+		return new GenericMessage<>(this.payload, this.headers);
+	}
+
+	/*
+	 *
+	 */
+	private String getStringAttribute(String name) {
+		Object value = this.headers.get(this.prefix + name);
+		if (value instanceof byte[] v) {
+			return new String(v, StandardCharsets.UTF_8);
+		}
+		return value == null ? null : value.toString();
+	}
+
+	/*
+	 *
+	 */
+	private URI getURIAttribute(String name) {
+		Object uri = this.headers.get(this.prefix + name);
+		if (uri instanceof String u) {
+			uri = URI.create(u);
+		}
+		else if (uri instanceof byte[] u) {
+			uri = URI.create(new String(u, StandardCharsets.UTF_8));
+		}
+		return (URI) uri;
+	}
+
+}
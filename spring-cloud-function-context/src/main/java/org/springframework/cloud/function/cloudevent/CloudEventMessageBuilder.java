@@ -28,9 +28,8 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.function.context.message.MessageUtils;
 import org.springframework.messaging.Message;
-import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
 import org.springframework.util.StringUtils;
 
 /**
@@ -44,12 +43,16 @@ import org.springframework.util.StringUtils;
  */
 public final class CloudEventMessageBuilder<T> {
 
+	private static final URI DEFAULT_SOURCE = URI.create("https://spring.io/");
+
 	protected Log logger = LogFactory.getLog(this.getClass());
 
 	private final Map<String, Object> headers;
 
 	private T data;
 
+	private IdGenerator idGenerator;
+
 	private CloudEventMessageBuilder(Map<String, Object> headers) {
 		this.headers = headers == null ? new HashMap<>() : headers;
 	}
@@ -126,6 +129,18 @@ public final class CloudEventMessageBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Sets {@link IdGenerator} to be used to generate 'id' attribute if one is not set explicitly.
+	 * Defaults to {@link UUID#randomUUID()}. Consider {@link ThreadLocalRandomIdGenerator} if
+	 * identifier does not need to be cryptographically strong.
+	 * @param idGenerator instance of {@link IdGenerator}
+	 * @return this builder
+	 */
+	public CloudEventMessageBuilder<T> setIdGenerator(IdGenerator idGenerator) {
+		this.idGenerator = idGenerator;
+		return this;
+	}
+
 	public CloudEventMessageBuilder<T> copyHeaders(Map<String, Object> headers) {
 		this.headers.putAll(headers);
 		return this;
@@ -200,7 +215,8 @@ public final class CloudEventMessageBuilder<T> {
 			this.headers.put(prefix + CloudEventMessageUtils._SPECVERSION, "1.0");
 		}
 		if (!this.headers.containsKey(prefix + CloudEventMessageUtils._ID)) {
-			this.headers.put(prefix + CloudEventMessageUtils._ID, UUID.randomUUID().toString());
+			UUID id = this.idGenerator == null ? UUID.randomUUID() : this.idGenerator.generateId();
+			this.headers.put(prefix + CloudEventMessageUtils._ID, id.toString());
 		}
 		this.headers.put(MessageUtils.MESSAGE_TYPE, CloudEventMessageUtils.CLOUDEVENT_VALUE);
 
@@ -208,12 +224,13 @@ public final class CloudEventMessageBuilder<T> {
 			this.headers.put(prefix + CloudEventMessageUtils._TYPE, this.data.getClass().getName());
 		}
 		if (!this.headers.containsKey(prefix + CloudEventMessageUtils._SOURCE)) {
-			this.headers.put(prefix + CloudEventMessageUtils._SOURCE, URI.create("https://spring.io/"));
+			this.headers.put(prefix + CloudEventMessageUtils._SOURCE, DEFAULT_SOURCE);
 		}
-		MessageHeaders headers = new MessageHeaders(this.headers);
-		GenericMessage<T> message = new GenericMessage<T>(this.data, headers);
-		Assert.isTrue(CloudEventMessageUtils.isCloudEvent(message), "The message does not appear to be a valid Cloud Event, "
+		Assert.isTrue(this.headers.get(prefix + CloudEventMessageUtils._ID) != null
+				&& this.headers.get(prefix + CloudEventMessageUtils._SPECVERSION) != null
+				&& this.headers.get(prefix + CloudEventMessageUtils._TYPE) != null
+				&& this.headers.get(prefix + CloudEventMessageUtils._SOURCE) != null, "The message does not appear to be a valid Cloud Event, "
 				+ "since one of the required attributes (id, specversion, type, source) is missing");
-		return message;
+		return new CloudEventMessage<T>(this.data, this.headers, prefix);
 	}
 }
@@ -105,6 +105,11 @@ public final class CloudEventMessageUtils {
 	 */
 	public static MimeType APPLICATION_CLOUDEVENTS = MimeTypeUtils.parseMimeType(APPLICATION_CLOUDEVENTS_VALUE);
 
+	/**
+	 * String value of 'application/cloudevents-batch' mime type.
+	 */
+	public static String APPLICATION_CLOUDEVENTS_BATCH_VALUE = "application/cloudevents-batch";
+
 	/**
 	 * Prefix for attributes.
 	 */
@@ -172,6 +177,9 @@ public final class CloudEventMessageUtils {
 
 
 	public static String getId(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getId();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		Object value = message.getHeaders().get(prefix + MessageHeaders.ID);
 		if (value instanceof byte[] v) {
@@ -181,11 +189,17 @@ public final class CloudEventMessageUtils {
 	}
 
 	public static URI getSource(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getSource();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		return safeGetURI(message.getHeaders(), prefix + _SOURCE);
 	}
 
 	public static String getSpecVersion(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getSpecVersion();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		Object value = message.getHeaders().get(prefix + _SPECVERSION);
 		if (value instanceof byte[] v) {
@@ -195,6 +209,9 @@ public final class CloudEventMessageUtils {
 	}
 
 	public static String getType(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getType();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		Object value = message.getHeaders().get(prefix + _TYPE);
 		if (value instanceof byte[] v) {
@@ -204,6 +221,9 @@ public final class CloudEventMessageUtils {
 	}
 
 	public static String getDataContentType(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getDataContentType();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		Object value = message.getHeaders().get(prefix + _DATACONTENTTYPE);
 		if (value == null && isCloudEvent(message)) {
@@ -219,11 +239,17 @@ public final class CloudEventMessageUtils {
 	}
 
 	public static URI getDataSchema(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getDataSchema();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		return safeGetURI(message.getHeaders(), prefix + _DATASCHEMA);
 	}
 
 	public static String getSubject(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getSubject();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		Object value = message.getHeaders().get(prefix + _SUBJECT);
 		if (value instanceof byte[] v) {
@@ -233,6 +259,9 @@ public final class CloudEventMessageUtils {
 	}
 
 	public static OffsetDateTime getTime(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return cloudEventMessage.getTime();
+		}
 		String prefix = determinePrefixToUse(message.getHeaders());
 		Object time = message.getHeaders().get(prefix + _TIME);
 		return time instanceof String ? OffsetDateTime.parse((String) time) : null;
@@ -244,6 +273,9 @@ public final class CloudEventMessageUtils {
 	}
 
 	public static Map<String, Object> getAttributes(Message<?> message) {
+		if (message instanceof CloudEventMessage<?> cloudEventMessage) {
+			return new HashMap<>(cloudEventMessage.getAttributes());
+		}
 		return message.getHeaders().entrySet().stream()
 				.filter(e -> isAttribute(e.getKey()))
 				.collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue()));
@@ -278,6 +310,12 @@ public final class CloudEventMessageUtils {
 						: MimeTypeUtils.APPLICATION_JSON_VALUE;
 
 				String suffix = contentType.getSubtypeSuffix() == null ? "json" : contentType.getSubtypeSuffix();
+				if (suffix.equals("json") && !isCloudEventBatchContentType(contentType)) {
+					Message<?> binaryMessage = StructuredCloudEventDecoder.decode(inputMessage, inputContentType);
+					if (binaryMessage != null) {
+						return binaryMessage;
+					}
+				}
 				MimeType cloudEventDeserializationContentType = MimeTypeUtils
 						.parseMimeType(contentType.getType() + "/" + suffix);
 				Message<?> cloudEventMessage = MessageBuilder.fromMessage(inputMessage)
@@ -298,6 +336,78 @@ public final class CloudEventMessageUtils {
 		return inputMessage;
 	}
 
+	/**
+	 * Determines if provided message represents batch of structured-mode Cloud Events
+	 * (i.e., its content type is 'application/cloudevents-batch+json').
+	 * @param message input {@link Message}
+	 * @return true if this Message represents batch of Cloud Events
+	 */
+	public static boolean isCloudEventBatch(Message<?> message) {
+		Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+		if (contentType == null) {
+			contentType = message.getHeaders().get("content-type");
+		}
+		if (contentType == null || !isCloudEventContentType(contentType)) {
+			return false;
+		}
+		try {
+			MimeType mimeType = contentType instanceof MimeType m ? m : MimeType.valueOf(contentType instanceof byte[] v
+					? toString(v) : contentType.toString());
+			return isCloudEventBatchContentType(mimeType)
+					&& (mimeType.getSubtypeSuffix() == null || mimeType.getSubtypeSuffix().equals("json"));
+		}
+		catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Decodes batch of structured-mode Cloud Events (see {@link #isCloudEventBatch(Message)}) into
+	 * individual binary-mode Cloud Event messages. Events are decoded lazily, one at the time, as the
+	 * returned {@link Iterable} is iterated, and the raw bytes of each event's 'data' are passed on as payload
+	 * without being deserialized.
+	 * @param message message representing batch of structured-mode Cloud Events
+	 * @return {@link Iterable} of binary-mode Cloud Event messages
+	 */
+	public static Iterable<Message<?>> toCloudEventMessages(Message<?> message) {
+		return StructuredCloudEventDecoder.decodeBatch(message);
+	}
+
+	/**
+	 * Cheap check to determine if the provided headers may represent Cloud Event (binary or structured mode)
+	 * and therefore require {@link #toCanonical(Message, MessageConverter) canonicalization}.
+	 * It performs a single pass over header names looking for any of the known attribute prefixes
+	 * (or un-prefixed 'specversion') and checks if content type is 'application/cloudevents'.
+	 * If it returns false, canonicalization would be a no-op and could be skipped.
+	 * @param headers message headers
+	 * @return true if headers may represent Cloud Event
+	 */
+	public static boolean isCloudEventCandidate(Map<String, Object> headers) {
+		for (String key : headers.keySet()) {
+			if (key.regionMatches(true, 0, DEFAULT_ATTR_PREFIX, 0, DEFAULT_ATTR_PREFIX.length())
+					|| key.regionMatches(true, 0, KAFKA_ATTR_PREFIX, 0, KAFKA_ATTR_PREFIX.length())
+					|| key.regionMatches(true, 0, AMQP_ATTR_PREFIX, 0, AMQP_ATTR_PREFIX.length())
+					|| key.equalsIgnoreCase(_SPECVERSION)) {
+				return true;
+			}
+		}
+		return isCloudEventContentType(headers.get(MessageHeaders.CONTENT_TYPE))
+				|| isCloudEventContentType(headers.get("content-type"));
+	}
+
+	private static boolean isCloudEventBatchContentType(MimeType contentType) {
+		return contentType.getType().equals(APPLICATION_CLOUDEVENTS.getType())
+				&& (contentType.getSubtype().equals("cloudevents-batch") || contentType.getSubtype().equals("cloudevents-batch+json"));
+	}
+
+	private static boolean isCloudEventContentType(Object contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		String contentTypeValue = contentType instanceof byte[] v ? toString(v) : contentType.toString();
+		return contentTypeValue.regionMatches(true, 0, APPLICATION_CLOUDEVENTS_VALUE, 0, APPLICATION_CLOUDEVENTS_VALUE.length());
+	}
+
 	/**
 	 * Attempts to {@link #canonicalizeHeaders canonicalize} the headers of a message.
 	 * @param message the message
@@ -438,6 +548,9 @@ public final class CloudEventMessageUtils {
 	 * @return true if this Message represents Cloud Event in binary-mode
 	 */
 	public static boolean isCloudEvent(Message<?> message) {
+		if (message instanceof CloudEventMessage) {
+			return true;
+		}
 		MessageStructureWithCaseInsensitiveHeaderKeys _message = MessageUtils.toCaseInsensitiveHeadersStructure(message);
 		return (_message.getHeaders().containsKey(SPECVERSION)
 					&& _message.getHeaders().containsKey(TYPE)
@@ -16,7 +16,13 @@
 
 package org.springframework.cloud.function.cloudevent;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.function.context.FunctionProperties;
 import org.springframework.cloud.function.core.FunctionInvocationHelper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,7 +42,42 @@ public class CloudEventsFunctionExtensionConfiguration {
 	// on the presence of Cloud Event SDK API
 	@Bean
 	@ConditionalOnMissingBean
-	public FunctionInvocationHelper<Message<?>> nativeFunctionInvocationHelper(@Nullable CloudEventHeaderEnricher cloudEventHeadersProvider) {
-		return new CloudEventsFunctionInvocationHelper(cloudEventHeadersProvider);
+	public FunctionInvocationHelper<Message<?>> nativeFunctionInvocationHelper(@Nullable CloudEventHeaderEnricher cloudEventHeadersProvider,
+			ObjectProvider<FunctionProperties> functionProperties) {
+		CloudEventsFunctionInvocationHelper helper = new CloudEventsFunctionInvocationHelper(cloudEventHeadersProvider);
+		FunctionProperties properties = functionProperties.getIfAvailable();
+		if (properties != null && properties.getCloudevent().isFastIdGenerator()) {
+			helper.setIdGenerator(new ThreadLocalRandomIdGenerator());
+		}
+		return helper;
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	static class CloudEventsMetricsConfiguration {
+
+		/**
+		 * Name of the counter of input messages that went through (or skipped) Cloud Event canonicalization.
+		 */
+		static final String CANONICALIZATION_METRIC_NAME = "spring.cloud.function.cloudevent.canonicalization";
+
+		@Bean
+		public MeterBinder cloudEventsCanonicalizationMeterBinder(
+				ObjectProvider<FunctionInvocationHelper<Message<?>>> functionInvocationHelper) {
+			return registry -> {
+				if (functionInvocationHelper.getIfAvailable() instanceof CloudEventsFunctionInvocationHelper helper) {
+					FunctionCounter.builder(CANONICALIZATION_METRIC_NAME, helper,
+							CloudEventsFunctionInvocationHelper::getCanonicalizedCount)
+						.tag("outcome", "canonicalized")
+						.description("Number of input messages identified as possible Cloud Events and canonicalized")
+						.register(registry);
+					FunctionCounter.builder(CANONICALIZATION_METRIC_NAME, helper,
+							CloudEventsFunctionInvocationHelper::getSkippedCount)
+						.tag("outcome", "skipped")
+						.description("Number of input messages identified as non-Cloud Events and not canonicalized")
+						.register(registry);
+				}
+			};
+		}
 	}
 }
@@ -17,7 +17,7 @@
 package org.springframework.cloud.function.cloudevent;
 
 import java.net.URI;
-import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -35,6 +35,8 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.converter.CompositeMessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.JdkIdGenerator;
 import org.springframework.util.StringUtils;
 
 /**
@@ -57,6 +59,14 @@ public class CloudEventsFunctionInvocationHelper implements FunctionInvocationHe
 
 	private final Class<?> CLOUD_EVENT_CLASS;
 
+	private final LongAdder canonicalizedCount = new LongAdder();
+
+	private final LongAdder skippedCount = new LongAdder();
+
+	private IdGenerator idGenerator = new JdkIdGenerator();
+
+	private volatile URI defaultSource;
+
 	CloudEventsFunctionInvocationHelper(@Nullable CloudEventHeaderEnricher cloudEventHeadersProvider) {
 		this.cloudEventAttributesProvider = cloudEventHeadersProvider;
 		Class<?> clazz = null;
@@ -77,7 +87,11 @@ public class CloudEventsFunctionInvocationHelper implements FunctionInvocationHe
 
 	@Override
 	public Message<?> preProcessInput(Message<?> input, Object inputConverter) {
-		// TODO find a way to invoke it conditionally. May be check for certain headers with all known prefixes as well as content type
+		if (!CloudEventMessageUtils.isCloudEventCandidate(input.getHeaders())) {
+			this.skippedCount.increment();
+			return input;
+		}
+		this.canonicalizedCount.increment();
 		try {
 			return CloudEventMessageUtils.toCanonical(input, (MessageConverter) inputConverter);
 		}
@@ -86,6 +100,35 @@ public class CloudEventsFunctionInvocationHelper implements FunctionInvocationHe
 		}
 	}
 
+	/**
+	 * Returns the number of input messages which were identified as possible Cloud Events
+	 * and therefore went through canonicalization.
+	 * @return number of canonicalized messages
+	 */
+	public long getCanonicalizedCount() {
+		return this.canonicalizedCount.sum();
+	}
+
+	/**
+	 * Returns the number of input messages which were identified as non-Cloud Events
+	 * and therefore skipped canonicalization.
+	 * @return number of skipped messages
+	 */
+	public long getSkippedCount() {
+		return this.skippedCount.sum();
+	}
+
+	/**
+	 * Sets {@link IdGenerator} used to generate 'id' attribute of the output Cloud Events.
+	 * Defaults to {@link JdkIdGenerator} (i.e., {@link java.util.UUID#randomUUID()}).
+	 * @param idGenerator instance of {@link IdGenerator}
+	 * @see ThreadLocalRandomIdGenerator
+	 */
+	public void setIdGenerator(IdGenerator idGenerator) {
+		Assert.notNull(idGenerator, "'idGenerator' must not be null");
+		this.idGenerator = idGenerator;
+	}
+
 	public void setMessageConverter(CompositeMessageConverter messageConverter) {
 		this.messageConverter = messageConverter;
 	}
@@ -124,7 +167,8 @@ public class CloudEventsFunctionInvocationHelper implements FunctionInvocationHe
 		CloudEventMessageBuilder<?> messageBuilder;
 		if (result instanceof Message) {
 			if (CloudEventMessageUtils.isCloudEvent((Message<?>) result)) {
-				messageBuilder = CloudEventMessageBuilder.fromMessage((Message<?>) result);
+				messageBuilder = CloudEventMessageBuilder.fromMessage((Message<?>) result)
+						.setIdGenerator(this.idGenerator);
 			}
 			else {
 				return (Message<?>) result;
@@ -133,8 +177,8 @@ public class CloudEventsFunctionInvocationHelper implements FunctionInvocationHe
 		else {
 			messageBuilder = CloudEventMessageBuilder
 					.withData(result)
-					.setId(UUID.randomUUID().toString())
-					.setSource(URI.create("http://spring.io/" + getApplicationName()))
+					.setId(this.idGenerator.generateId().toString())
+					.setSource(this.getDefaultSource())
 					.setType(result.getClass().getName());
 		}
 
@@ -149,6 +193,15 @@ public class CloudEventsFunctionInvocationHelper implements FunctionInvocationHe
 		return resultMessage;
 	}
 
+	private URI getDefaultSource() {
+		URI defaultSource = this.defaultSource;
+		if (defaultSource == null) {
+			defaultSource = URI.create("http://spring.io/" + getApplicationName());
+			this.defaultSource = defaultSource;
+		}
+		return defaultSource;
+	}
+
 	private String getApplicationName() {
 		ConfigurableEnvironment environment = this.applicationContext.getEnvironment();
 		String name = environment.getProperty("spring.application.name");
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.cloudevent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Streaming decoder of structured-mode (JSON) Cloud Events into binary-mode {@link Message}s.
+ * Attributes are read token by token while the raw bytes of the 'data' attribute are sliced
+ * out of the source without deserializing them into an intermediate structure, leaving
+ * their conversion to the actual input type of the function.
+ * Supports single events (application/cloudevents+json) as well as batches
+ * (application/cloudevents-batch+json), where events are decoded one at the time
+ * while iterating.
+ *
+ * @since 5.0.4
+ */
+final class StructuredCloudEventDecoder {
+
+	private static final JsonFactory jsonFactory = JsonFactory.builder().build();
+
+	private static final String DATA_BASE64 = CloudEventMessageUtils.DEFAULT_ATTR_PREFIX + "data_base64";
+
+	private StructuredCloudEventDecoder() {
+	}
+
+	/**
+	 * Decodes structured-mode Cloud Event represented by the payload of the provided message.
+	 * @param message message with structured-mode Cloud Event as its payload
+	 * @param defaultDataContentType content type of 'data' to use if event does not define 'datacontenttype'
+	 * @return binary-mode Cloud Event message or null if payload can not be decoded by this decoder
+	 * (i.e., it is neither byte[] nor String), at which point caller should fall back to a different strategy
+	 */
+	static Message<?> decode(Message<?> message, String defaultDataContentType) {
+		byte[] source = toBytes(message.getPayload());
+		if (source == null) {
+			return null;
+		}
+		try (JsonParser parser = jsonFactory.createParser(ObjectReadContext.empty(), source)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalArgumentException("Structured-mode Cloud Event must be represented as JSON object");
+			}
+			return decodeEvent(parser, source, message.getHeaders(), defaultDataContentType);
+		}
+	}
+
+	/**
+	 * Decodes batch of structured-mode Cloud Events represented by the payload of the provided message.
+	 * Each call to {@link Iterable#iterator()} returns new iterator which lazily decodes one event at the time.
+	 * @param message message with JSON array of structured-mode Cloud Events as its payload
+	 * @return {@link Iterable} of binary-mode Cloud Event messages
+	 */
+	static Iterable<Message<?>> decodeBatch(Message<?> message) {
+		byte[] source = toBytes(message.getPayload());
+		if (source == null) {
+			throw new IllegalArgumentException("Batch of Cloud Events must be represented as byte[] or String, was "
+					+ message.getPayload().getClass());
+		}
+		return () -> new BatchIterator(source, message.getHeaders());
+	}
+
+	/*
+	 * Expects parser to be positioned at START_OBJECT of the event and leaves it at its END_OBJECT.
+	 */
+	private static Message<?> decodeEvent(JsonParser parser, byte[] source, MessageHeaders originalHeaders,
+			String defaultDataContentType) {
+		Map<String, Object> attributes = new HashMap<>();
+		Object data = null;
+		String stringData = null;
+		byte[] rawData = null;
+		while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+			String name = canonicalAttributeName(parser.currentName());
+			JsonToken token = parser.nextToken();
+			int start = (int) parser.currentTokenLocation().getByteOffset();
+			if (name.equals(CloudEventMessageUtils.DATA)) {
+				if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+					parser.skipChildren();
+					rawData = Arrays.copyOfRange(source, start, (int) parser.currentLocation().getByteOffset());
+				}
+				else if (token == JsonToken.VALUE_STRING) {
+					stringData = parser.getString();
+				}
+				else if (token != JsonToken.VALUE_NULL) {
+					rawData = parser.getString().getBytes(StandardCharsets.UTF_8);
+				}
+			}
+			else if (name.equals(DATA_BASE64)) {
+				data = parser.getBinaryValue();
+			}
+			else if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+				// not valid according to the spec, so simply retain it as raw JSON
+				parser.skipChildren();
+				attributes.put(name, new String(source, start, (int) parser.currentLocation().getByteOffset() - start,
+						StandardCharsets.UTF_8));
+			}
+			else if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+				attributes.put(name, parser.getNumberValue());
+			}
+			else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+				attributes.put(name, parser.getBooleanValue());
+			}
+			else if (token != JsonToken.VALUE_NULL) {
+				attributes.put(name, parser.getString());
+			}
+		}
+
+		Object dataContentType = attributes.get(CloudEventMessageUtils.DATACONTENTTYPE);
+		String contentType = dataContentType != null ? dataContentType.toString()
+				: (StringUtils.hasText(defaultDataContentType) ? defaultDataContentType : MimeTypeUtils.APPLICATION_JSON_VALUE);
+		if (rawData != null) {
+			data = rawData;
+		}
+		else if (stringData != null) {
+			data = stringData;
+		}
+		else if (data == null) {
+			data = Collections.emptyMap();
+		}
+
+		CloudEventMessageBuilder<?> messageBuilder = CloudEventMessageBuilder
+				.withData(data)
+				.copyHeaders(attributes);
+		for (String key : originalHeaders.keySet()) {
+			if (!MessageHeaders.ID.equals(key)) {
+				messageBuilder.setHeader(key, originalHeaders.get(key));
+			}
+		}
+		if (originalHeaders.containsKey("content-type")) {
+			messageBuilder.setHeader("content-type", contentType);
+		}
+		return messageBuilder.setHeader(MessageHeaders.CONTENT_TYPE, contentType).build();
+	}
+
+	/*
+	 * Same as CloudEventMessageUtils.canonicalizeHeaders(.., true), but for a single name.
+	 */
+	private static String canonicalAttributeName(String name) {
+		if (name.startsWith(CloudEventMessageUtils.DEFAULT_ATTR_PREFIX)) {
+			return name;
+		}
+		else if (name.startsWith(CloudEventMessageUtils.KAFKA_ATTR_PREFIX)) {
+			return CloudEventMessageUtils.DEFAULT_ATTR_PREFIX + name.substring(CloudEventMessageUtils.KAFKA_ATTR_PREFIX.length());
+		}
+		else if (name.startsWith(CloudEventMessageUtils.AMQP_ATTR_PREFIX)) {
+			return CloudEventMessageUtils.DEFAULT_ATTR_PREFIX + name.substring(CloudEventMessageUtils.AMQP_ATTR_PREFIX.length());
+		}
+		return CloudEventMessageUtils.DEFAULT_ATTR_PREFIX + name;
+	}
+
+	/*
+	 *
+	 */
+	private static byte[] toBytes(Object payload) {
+		if (payload instanceof byte[] bytes) {
+			return bytes;
+		}
+		else if (payload instanceof String stringPayload) {
+			return stringPayload.getBytes(StandardCharsets.UTF_8);
+		}
+		return null;
+	}
+
+	private static final class BatchIterator implements Iterator<Message<?>> {
+
+		private final JsonParser parser;
+
+		private final byte[] source;
+
+		private final MessageHeaders originalHeaders;
+
+		private JsonToken token;
+
+		BatchIterator(byte[] source, MessageHeaders originalHeaders) {
+			this.source = source;
+			this.originalHeaders = originalHeaders;
+			this.parser = jsonFactory.createParser(ObjectReadContext.empty(), source);
+			if (this.parser.nextToken() != JsonToken.START_ARRAY) {
+				this.parser.close();
+				throw new IllegalArgumentException("Batch of Cloud Events must be represented as JSON array");
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.token == null) {
+				this.token = this.parser.nextToken();
+				if (this.token == JsonToken.END_ARRAY || this.token == null) {
+					this.parser.close();
+				}
+				else if (this.token != JsonToken.START_OBJECT) {
+					this.parser.close();
+					throw new IllegalArgumentException("Each element of Cloud Events batch must be represented as JSON object");
+				}
+			}
+			return this.token == JsonToken.START_OBJECT;
+		}
+
+		@Override
+		public Message<?> next() {
+			if (!this.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.token = null;
+			return decodeEvent(this.parser, this.source, this.originalHeaders, null);
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.cloudevent;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.IdGenerator;
+
+/**
+ * Non-cryptographic {@link IdGenerator} which generates random (version 4) {@link UUID}s
+ * using {@link ThreadLocalRandom}. Unlike {@link UUID#randomUUID()} it does not contend on
+ * a shared {@code SecureRandom}, which makes it suitable for generating Cloud Event 'id'
+ * attribute on hot paths where unpredictability of the identifier is not a requirement.
+ *
+ * @since 5.0.4
+ */
+public class ThreadLocalRandomIdGenerator implements IdGenerator {
+
+	@Override
+	public UUID generateId() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long mostSigBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L; // version 4
+		long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L; // IETF variant
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.function.context;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.unit.DataSize;
 
 /**
  *
@@ -55,6 +57,11 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 	 */
 	public final static String ROUTING_EXPRESSION = PREFIX + ".routing-expression";
 
+	/**
+	 * JSON pointer to be used with RoutingFunction.
+	 */
+	public final static String ROUTING_JSON_POINTER = PREFIX + ".routing-json-pointer";
+
 	/**
 	 * The name of function definition property.
 	 */
@@ -77,6 +84,13 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 	 */
 	private String routingExpression;
 
+	/**
+	 * JSON pointer (e.g., '/event/type') identifying the field in the raw JSON payload (byte[] or String)
+	 * which value represents function definition to route to. The payload is scanned with a streaming parser
+	 * which stops as soon as the field is found, leaving the payload itself untouched.
+	 */
+	private String routingJsonPointer;
+
 	/**
 	 * List of functions that are not eligible to be registered in Function Catalog.
 	 */
@@ -89,6 +103,16 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 
 	private Map<String, FunctionConfigurationProperties> configuration;
 
+	private final RoutingProperties routing = new RoutingProperties();
+
+	private final CloudEventProperties cloudevent = new CloudEventProperties();
+
+	private final SplitProperties split = new SplitProperties();
+
+	private final ObservabilityProperties observability = new ObservabilityProperties();
+
+	private final RecordingProperties recording = new RecordingProperties();
+
 	private String expectedContentType;
 
 	private Environment environment;
@@ -180,6 +204,14 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 		this.routingExpression = routingExpression;
 	}
 
+	public String getRoutingJsonPointer() {
+		return routingJsonPointer;
+	}
+
+	public void setRoutingJsonPointer(String routingJsonPointer) {
+		this.routingJsonPointer = routingJsonPointer;
+	}
+
 	public String getExpectedContentType() {
 		return this.expectedContentType;
 	}
@@ -201,6 +233,26 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 		this.ineligibleDefinitions.addAll(definitions);
 	}
 
+	public RoutingProperties getRouting() {
+		return this.routing;
+	}
+
+	public CloudEventProperties getCloudevent() {
+		return this.cloudevent;
+	}
+
+	public SplitProperties getSplit() {
+		return this.split;
+	}
+
+	public ObservabilityProperties getObservability() {
+		return this.observability;
+	}
+
+	public RecordingProperties getRecording() {
+		return this.recording;
+	}
+
 	public boolean isSingleFunctionFallbackEnabled() {
 		return this.singleFunctionFallbackEnabled;
 	}
@@ -209,6 +261,269 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 		this.singleFunctionFallbackEnabled = singleFunctionFallbackEnabled;
 	}
 
+	public static class RoutingProperties {
+
+		/**
+		 * Whether RoutingFunction receiving a Publisher with no static routing instructions should partition
+		 * the stream by the route resolved for each element (e.g., via Message headers), feeding each partition
+		 * as a single Flux into its route-to function instead of invoking such function for each element.
+		 */
+		private boolean partitioned;
+
+		/**
+		 * Maximum number of route partitions processed concurrently when 'partitioned' is enabled.
+		 * Should be greater than or equal to the number of distinct routes, otherwise the stream may stall.
+		 */
+		private int concurrency = 256;
+
+		/**
+		 * Number of elements requested upfront for each route partition when 'partitioned' is enabled.
+		 */
+		private int prefetch = 256;
+
+		public boolean isPartitioned() {
+			return this.partitioned;
+		}
+
+		public void setPartitioned(boolean partitioned) {
+			this.partitioned = partitioned;
+		}
+
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		public int getPrefetch() {
+			return this.prefetch;
+		}
+
+		public void setPrefetch(int prefetch) {
+			this.prefetch = prefetch;
+		}
+
+	}
+
+	public static class CloudEventProperties {
+
+		/**
+		 * Whether 'id' attribute of the output Cloud Events should be generated with non-cryptographic
+		 * ThreadLocalRandom-based generator instead of UUID.randomUUID(), which contends on shared SecureRandom.
+		 */
+		private boolean fastIdGenerator;
+
+		public boolean isFastIdGenerator() {
+			return this.fastIdGenerator;
+		}
+
+		public void setFastIdGenerator(boolean fastIdGenerator) {
+			this.fastIdGenerator = fastIdGenerator;
+		}
+
+	}
+
+	public static class SplitProperties {
+
+		/**
+		 * Where branches of the scatter-gather composition (e.g., 'split(a,b,c)|merge') are invoked.
+		 * Setting it to DIRECT invokes branches sequentially on the calling thread.
+		 */
+		private ExecutionMode executionMode = ExecutionMode.BOUNDED_ELASTIC;
+
+		public ExecutionMode getExecutionMode() {
+			return this.executionMode;
+		}
+
+		public void setExecutionMode(ExecutionMode executionMode) {
+			this.executionMode = executionMode;
+		}
+
+	}
+
+	public static class ObservabilityProperties {
+
+		/**
+		 * How invocations of functions with Publisher input (e.g., Function<Flux<Order>, Flux<Result>>) are observed.
+		 */
+		private ReactiveObservationMode reactiveMode = ReactiveObservationMode.NONE;
+
+		/**
+		 * Probability (0.0 - 1.0) with which each element is observed when 'reactive-mode' is PER_ELEMENT.
+		 */
+		private double sampleProbability = 1.0;
+
+		/**
+		 * Whether to record latency of each phase of function invocation (input conversion, execution,
+		 * output conversion and post-processing) per function and content type.
+		 */
+		private boolean latencyTimers;
+
+		public ReactiveObservationMode getReactiveMode() {
+			return this.reactiveMode;
+		}
+
+		public void setReactiveMode(ReactiveObservationMode reactiveMode) {
+			this.reactiveMode = reactiveMode;
+		}
+
+		public double getSampleProbability() {
+			return this.sampleProbability;
+		}
+
+		public void setSampleProbability(double sampleProbability) {
+			this.sampleProbability = sampleProbability;
+		}
+
+		public boolean isLatencyTimers() {
+			return this.latencyTimers;
+		}
+
+		public void setLatencyTimers(boolean latencyTimers) {
+			this.latencyTimers = latencyTimers;
+		}
+
+	}
+
+	public static class RecordingProperties {
+
+		/**
+		 * Whether input messages of functions should be recorded for later replay.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Definitions of functions which input messages are recorded. All functions are recorded if not set.
+		 */
+		private List<String> functions = new ArrayList<>();
+
+		/**
+		 * Recording file. Messages are appended if the file already contains a recording.
+		 */
+		private String file = "function-recording.bin";
+
+		/**
+		 * Maximum size of the recording file, beyond which messages are no longer recorded.
+		 */
+		private DataSize maxSize = DataSize.ofMegabytes(64);
+
+		/**
+		 * Probability (0.0 - 1.0) with which each input message is recorded.
+		 */
+		private double sampleProbability = 1.0;
+
+		/**
+		 * Names of headers (case-insensitive) which are not recorded (e.g., credentials).
+		 */
+		private List<String> excludedHeaders = new ArrayList<>(List.of("authorization", "cookie"));
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public List<String> getFunctions() {
+			return this.functions;
+		}
+
+		public void setFunctions(List<String> functions) {
+			this.functions = functions;
+		}
+
+		public String getFile() {
+			return this.file;
+		}
+
+		public void setFile(String file) {
+			this.file = file;
+		}
+
+		public DataSize getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(DataSize maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public double getSampleProbability() {
+			return this.sampleProbability;
+		}
+
+		public void setSampleProbability(double sampleProbability) {
+			this.sampleProbability = sampleProbability;
+		}
+
+		public List<String> getExcludedHeaders() {
+			return this.excludedHeaders;
+		}
+
+		public void setExcludedHeaders(List<String> excludedHeaders) {
+			this.excludedHeaders = excludedHeaders;
+		}
+
+	}
+
+	/**
+	 * Defines how invocations of functions with Publisher input are observed.
+	 */
+	public enum ReactiveObservationMode {
+
+		/**
+		 * Invocations are not observed.
+		 */
+		NONE,
+
+		/**
+		 * Single observation spans each subscription to the result of the function, from subscription until
+		 * completion, error or cancellation.
+		 */
+		PER_SUBSCRIPTION,
+
+		/**
+		 * Separate observation spans processing of each (sampled) element, from the moment the element is
+		 * emitted to the function until the function emits the corresponding result. Only applies to functions
+		 * which are invoked for each element and emit one result per element in the same order (e.g.,
+		 * Function<Order, Result> invoked with Flux<Order>), while other functions (e.g., reactive functions,
+		 * which may filter, buffer or reorder elements) are observed as with PER_SUBSCRIPTION.
+		 */
+		PER_ELEMENT
+
+	}
+
+	/**
+	 * Defines where imperative function is invoked when applied to a Publisher input.
+	 */
+	public enum ExecutionMode {
+
+		/**
+		 * Function is invoked on the thread that emits the element (e.g., Netty event loop).
+		 */
+		DIRECT,
+
+		/**
+		 * Function is invoked on virtual threads (requires Java 21+, otherwise falls back to BOUNDED_ELASTIC).
+		 */
+		VIRTUAL_THREADS,
+
+		/**
+		 * Function is invoked on Reactor's bounded elastic scheduler.
+		 */
+		BOUNDED_ELASTIC,
+
+		/**
+		 * Function is invoked on Reactor's parallel scheduler (one thread per CPU core),
+		 * suitable for CPU-bound (non-blocking) functions.
+		 */
+		PARALLEL
+
+	}
+
 	public static class FunctionConfigurationProperties {
 
 		private Map<String, Object> inputHeaderMappingExpression;
@@ -217,6 +532,45 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 
 		private boolean copyInputHeaders;
 
+		/**
+		 * Where imperative function is invoked when applied to a Publisher input. Use VIRTUAL_THREADS
+		 * or BOUNDED_ELASTIC for functions that block (e.g., JDBC calls) to keep event loop threads free.
+		 */
+		private ExecutionMode executionMode = ExecutionMode.DIRECT;
+
+		/**
+		 * Maximum number of elements processed concurrently (i.e., parallelism) when 'execution-mode'
+		 * is other than DIRECT.
+		 */
+		private int concurrency = 256;
+
+		/**
+		 * Whether the order of results should match the order of input elements when 'execution-mode'
+		 * is other than DIRECT. Setting it to false emits results as soon as they are available,
+		 * which maximizes throughput.
+		 */
+		private boolean ordered = true;
+
+		/**
+		 * Micro-batching of individual invocations of a function which accepts and returns a List.
+		 */
+		private final BatchingProperties batching = new BatchingProperties();
+
+		/**
+		 * Limits of concurrent invocations of a function.
+		 */
+		private final BulkheadProperties bulkhead = new BulkheadProperties();
+
+		/**
+		 * Caching of results of a function which is deterministic (i.e., always produces the same result for the same input).
+		 */
+		private final CacheProperties cache = new CacheProperties();
+
+		/**
+		 * Coalescing of concurrent invocations of a function with the same input into a single invocation.
+		 */
+		private final CoalescingProperties coalescing = new CoalescingProperties();
+
 		public Map<String, Object> getInputHeaderMappingExpression() {
 			return inputHeaderMappingExpression;
 		}
@@ -242,5 +596,287 @@ public class FunctionProperties implements EnvironmentAware, ApplicationContextA
 			this.copyInputHeaders = copyInputHeaders;
 		}
 
+		public ExecutionMode getExecutionMode() {
+			return this.executionMode;
+		}
+
+		public void setExecutionMode(ExecutionMode executionMode) {
+			this.executionMode = executionMode;
+		}
+
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		public boolean isOrdered() {
+			return this.ordered;
+		}
+
+		public void setOrdered(boolean ordered) {
+			this.ordered = ordered;
+		}
+
+		public BatchingProperties getBatching() {
+			return this.batching;
+		}
+
+		public BulkheadProperties getBulkhead() {
+			return this.bulkhead;
+		}
+
+		public CacheProperties getCache() {
+			return this.cache;
+		}
+
+		public CoalescingProperties getCoalescing() {
+			return this.coalescing;
+		}
+
+	}
+
+	/**
+	 * Defines what happens to invocation of a function which reached its maximum concurrency.
+	 */
+	public enum BulkheadPolicy {
+
+		/**
+		 * Invocation is rejected immediately.
+		 */
+		REJECT,
+
+		/**
+		 * Invocation waits (up to 'max-wait') for one of the invocations in progress to complete,
+		 * provided the number of waiting invocations does not exceed 'max-queue'.
+		 */
+		WAIT
+
+	}
+
+	public static class BulkheadProperties {
+
+		/**
+		 * Maximum number of concurrent invocations of a function (0 means unlimited). Invocations with
+		 * Publisher input count once per subscription (i.e., per stream rather than per element).
+		 */
+		private int maxConcurrency;
+
+		/**
+		 * What happens to invocation once 'max-concurrency' is reached.
+		 */
+		private BulkheadPolicy policy = BulkheadPolicy.WAIT;
+
+		/**
+		 * Maximum number of invocations waiting for one of the invocations in progress to complete
+		 * (WAIT policy only), beyond which invocations are rejected.
+		 */
+		private int maxQueue = 100;
+
+		/**
+		 * Maximum time invocation waits for one of the invocations in progress to complete (WAIT policy only),
+		 * after which it is rejected. Waits indefinitely if not set.
+		 */
+		private Duration maxWait;
+
+		public int getMaxConcurrency() {
+			return this.maxConcurrency;
+		}
+
+		public void setMaxConcurrency(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		public BulkheadPolicy getPolicy() {
+			return this.policy;
+		}
+
+		public void setPolicy(BulkheadPolicy policy) {
+			this.policy = policy;
+		}
+
+		public int getMaxQueue() {
+			return this.maxQueue;
+		}
+
+		public void setMaxQueue(int maxQueue) {
+			this.maxQueue = maxQueue;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
+	}
+
+	public static class CacheProperties {
+
+		/**
+		 * Whether results of the function should be cached. Function can also be marked as cacheable
+		 * by setting 'cacheable' property of its FunctionRegistration to 'true'.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of cached results, beyond which least recently used results are evicted.
+		 */
+		private int maxEntries = 1000;
+
+		/**
+		 * Maximum total size of cached results serialized as JSON, beyond which least recently
+		 * used results are evicted. Not limited if not set.
+		 */
+		private DataSize maxWeight;
+
+		/**
+		 * How long result is cached. Cached until evicted if not set.
+		 */
+		private Duration ttl;
+
+		/**
+		 * SpEL expression evaluated against the input Message (with payload already converted to
+		 * the input type of the function) to compute the cache key (e.g., "payload.currency + headers['region']").
+		 * If not set, converted input (payload) itself is used as the key.
+		 */
+		private String keyExpression;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxEntries() {
+			return this.maxEntries;
+		}
+
+		public void setMaxEntries(int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+
+		public DataSize getMaxWeight() {
+			return this.maxWeight;
+		}
+
+		public void setMaxWeight(DataSize maxWeight) {
+			this.maxWeight = maxWeight;
+		}
+
+		public Duration getTtl() {
+			return this.ttl;
+		}
+
+		public void setTtl(Duration ttl) {
+			this.ttl = ttl;
+		}
+
+		public String getKeyExpression() {
+			return this.keyExpression;
+		}
+
+		public void setKeyExpression(String keyExpression) {
+			this.keyExpression = keyExpression;
+		}
+
+	}
+
+	public static class CoalescingProperties {
+
+		/**
+		 * Whether concurrent invocations of the function with the same input should share
+		 * a single invocation (and its result) rather than invoking the function for each of them.
+		 */
+		private boolean enabled;
+
+		/**
+		 * SpEL expression evaluated against the input Message (with payload already converted to
+		 * the input type of the function) to compute the key by which invocations are coalesced
+		 * (e.g., "payload.currency + headers['region']"). If not set, converted input (payload) itself is used as the key.
+		 */
+		private String keyExpression;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getKeyExpression() {
+			return this.keyExpression;
+		}
+
+		public void setKeyExpression(String keyExpression) {
+			this.keyExpression = keyExpression;
+		}
+
+	}
+
+	public static class BatchingProperties {
+
+		/**
+		 * Whether function which accepts and returns a List (e.g., Function<List<Order>, List<Result>>)
+		 * should be exposed as a function of individual elements, with concurrent invocations buffered
+		 * into a single invocation of the actual function.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of elements in a single batch.
+		 */
+		private int size = 100;
+
+		/**
+		 * Maximum time to wait for the batch to fill up before invoking the function with
+		 * whatever elements are buffered at the time.
+		 */
+		private Duration maxWait = Duration.ofMillis(10);
+
+		/**
+		 * Maximum number of batches processed concurrently.
+		 */
+		private int maxInFlight = 4;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getSize() {
+			return this.size;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
+		public int getMaxInFlight() {
+			return this.maxInFlight;
+		}
+
+		public void setMaxInFlight(int maxInFlight) {
+			this.maxInFlight = maxInFlight;
+		}
+
 	}
 }
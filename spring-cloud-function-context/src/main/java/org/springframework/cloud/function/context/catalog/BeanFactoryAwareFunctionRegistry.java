@@ -22,6 +22,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -153,7 +154,7 @@ public class BeanFactoryAwareFunctionRegistry extends SimpleFunctionRegistry imp
 		synchronized (lookupLock) {
 			if (function == null) {
 				Set<String> functionRegistrationNames = super.getNames(null);
-				String[] functionNames = StringUtils.delimitedListToStringArray(functionDefinition.replaceAll(",", "|").trim(), "|");
+				List<String> functionNames = ScatterGatherFunction.getFunctionNames(functionDefinition.trim());
 				for (String functionName : functionNames) {
 					if (functionRegistrationNames.contains(functionName)) {
 						if (logger.isDebugEnabled()) {
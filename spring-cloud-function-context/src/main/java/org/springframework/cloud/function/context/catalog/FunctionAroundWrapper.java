@@ -25,7 +25,8 @@ import org.springframework.util.StringUtils;
 /**
  * Wrapper that acts as around advise over function invocation.
  * If registered as bean it will be autowired into {@link FunctionInvocationWrapper}.
- * Keep in mind that it only affects imperative invocations where input is {@link Message}
+ * Keep in mind that it only affects imperative invocations where input is {@link Message},
+ * unless {@link #doApplyPublisher(Publisher, FunctionInvocationWrapper)} is overridden.
  *
  * NOTE: This API is experimental and and could change without notice. It is
  * intended for internal use only (e.g., spring-cloud-sleuth)
@@ -44,19 +45,33 @@ public abstract class FunctionAroundWrapper {
 	public final Object apply(Object input, FunctionInvocationWrapper targetFunction) {
 		boolean functionalTracingEnabled = !StringUtils.hasText(functionalTracingEnabledStr)
 				|| Boolean.parseBoolean(functionalTracingEnabledStr);
-		if (functionalTracingEnabled && !(input instanceof Publisher) && input instanceof Message
-				&& !FunctionTypeUtils.isCollectionOfMessage(targetFunction.getOutputType())) {
-			try {
+		try {
+			if (functionalTracingEnabled && !(input instanceof Publisher) && input instanceof Message
+					&& !FunctionTypeUtils.isCollectionOfMessage(targetFunction.getOutputType())) {
 				return this.doApply(input, targetFunction);
 			}
-			finally {
-				targetFunction.wrapped = false;
+			else if (functionalTracingEnabled && input instanceof Publisher<?> publisher) {
+				return this.doApplyPublisher(publisher, targetFunction);
+			}
+			else {
+				return targetFunction.apply(input);
 			}
 		}
-		else {
-			return targetFunction.apply(input);
+		finally {
+			targetFunction.wrapped = false;
 		}
 	}
 
 	protected abstract Object doApply(Object input, FunctionInvocationWrapper targetFunction);
+
+	/**
+	 * Applies advice to invocation with {@link Publisher} input (e.g., function of {@code Flux<Message>}).
+	 * Default implementation simply invokes the function.
+	 * @param input publisher input
+	 * @param targetFunction function to invoke
+	 * @return result of the invocation
+	 */
+	protected Object doApplyPublisher(Publisher<?> input, FunctionInvocationWrapper targetFunction) {
+		return targetFunction.apply(input);
+	}
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.function.context.FunctionProperties.BulkheadPolicy;
+import org.springframework.cloud.function.context.FunctionProperties.BulkheadProperties;
+
+/**
+ * Limits the number of concurrent invocations of a function (see {@code spring.cloud.function.configuration.<fn>.bulkhead}),
+ * so one slow function can not consume all the threads (or connections) shared with other functions.
+ * Invocations with non-Publisher input hold the permit for the duration of the invocation (or until the returned
+ * Publisher completes), waiting for it on the calling thread if necessary, unless the calling thread is non-blocking
+ * (e.g., Netty event loop), in which case such invocations are rejected rather than queued. Invocations with Publisher
+ * input acquire a single permit per subscription, without blocking, when the returned Publisher is subscribed to and hold it
+ * until it completes, so for streams the maximum concurrency limits the number of streams processed concurrently rather than
+ * the number of their elements (see {@link #invokePerSubscription(Object, Function)}).
+ *
+ * @since 5.0.4
+ */
+public class FunctionBulkhead {
+
+	private final String functionDefinition;
+
+	private final int maxConcurrency;
+
+	private final int maxQueue;
+
+	private final Duration maxWait;
+
+	private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+
+	private final AtomicLong rejected = new AtomicLong();
+
+	private int inFlight;
+
+	FunctionBulkhead(String functionDefinition, BulkheadProperties properties) {
+		this.functionDefinition = functionDefinition;
+		this.maxConcurrency = properties.getMaxConcurrency();
+		this.maxQueue = properties.getPolicy() == BulkheadPolicy.WAIT ? properties.getMaxQueue() : 0;
+		this.maxWait = properties.getMaxWait();
+	}
+
+	/**
+	 * Returns the number of function invocations currently in progress.
+	 * @return number of in-flight invocations
+	 */
+	public synchronized int getInFlight() {
+		return this.inFlight;
+	}
+
+	/**
+	 * Returns the number of function invocations waiting for one of the invocations
+	 * in progress to complete.
+	 * @return number of queued invocations
+	 */
+	public synchronized int getQueued() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Returns the total number of rejected function invocations.
+	 * @return number of rejected invocations
+	 */
+	public long getRejected() {
+		return this.rejected.get();
+	}
+
+	Object invoke(Object input, Function<Object, Object> invocation) {
+		if (input instanceof Publisher) {
+			return this.invokePerSubscription(input, invocation);
+		}
+
+		try {
+			// waiting would block the event loop of non-blocking caller
+			this.acquire(!Schedulers.isInNonBlockingThread()).join();
+		}
+		catch (CompletionException e) {
+			throw (RuntimeException) e.getCause();
+		}
+		boolean release = true;
+		try {
+			Object result = invocation.apply(input);
+			if (result instanceof Publisher) {
+				release = false;
+				AtomicBoolean released = new AtomicBoolean();
+				Runnable releaseOnce = () -> {
+					if (released.compareAndSet(false, true)) {
+						this.release();
+					}
+				};
+				return result instanceof Mono<?> mono
+						? mono.doFinally(signal -> releaseOnce.run())
+						: Flux.from((Publisher<?>) result).doFinally(signal -> releaseOnce.run());
+			}
+			return result;
+		}
+		finally {
+			if (release) {
+				this.release();
+			}
+		}
+	}
+
+	/**
+	 * Invokes the function with Publisher input, holding a single permit per subscription to the returned Publisher
+	 * (i.e., for the entire stream rather than per element, since elements of a stream are not necessarily processed
+	 * one by one, for example by reactive functions which filter, buffer or reorder them).
+	 * @param input Publisher input
+	 * @param invocation function invocation
+	 * @return result of the invocation, acquiring the permit once subscribed to
+	 */
+	Object invokePerSubscription(Object input, Function<Object, Object> invocation) {
+		Object result = invocation.apply(input);
+		if (result instanceof Mono<?> mono) {
+			return Mono.usingWhen(this.acquireAsync(), permit -> mono, permit -> this.releaseAsync());
+		}
+		else if (result instanceof Publisher<?> publisher) {
+			return Flux.usingWhen(this.acquireAsync(), permit -> publisher, permit -> this.releaseAsync());
+		}
+		return result;
+	}
+
+	/*
+	 * Returns future which completes once permit is acquired, or completes exceptionally
+	 * with FunctionRejectedException if invocation is rejected (or can not wait and no permit is available).
+	 */
+	private CompletableFuture<Void> acquire(boolean mayWait) {
+		CompletableFuture<Void> permit = new CompletableFuture<>();
+		synchronized (this) {
+			if (this.inFlight < this.maxConcurrency) {
+				this.inFlight++;
+				permit.complete(null);
+				return permit;
+			}
+			else if (this.queue.size() >= this.maxQueue) {
+				this.rejected.incrementAndGet();
+				permit.completeExceptionally(new FunctionRejectedException(this.functionDefinition, "Invocation of function '"
+						+ this.functionDefinition + "' was rejected since it reached its maximum concurrency of "
+						+ this.maxConcurrency + (this.maxQueue > 0 ? " and maximum queue size of " + this.maxQueue : "")));
+				return permit;
+			}
+			else if (!mayWait) {
+				this.rejected.incrementAndGet();
+				permit.completeExceptionally(new FunctionRejectedException(this.functionDefinition, "Invocation of function '"
+						+ this.functionDefinition + "' was rejected since it reached its maximum concurrency of "
+						+ this.maxConcurrency + " and can not wait on non-blocking thread '" + Thread.currentThread().getName() + "'"));
+				return permit;
+			}
+			this.queue.add(permit);
+		}
+		if (this.maxWait != null) {
+			CompletableFuture.delayedExecutor(this.maxWait.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+				if (permit.completeExceptionally(new FunctionRejectedException(this.functionDefinition, "Invocation of function '"
+						+ this.functionDefinition + "' was rejected since it did not start within " + this.maxWait))) {
+					this.rejected.incrementAndGet();
+				}
+			});
+		}
+		permit.whenComplete((result, ex) -> {
+			if (ex != null) { // timed out or cancelled
+				synchronized (this) {
+					this.queue.remove(permit);
+				}
+			}
+		});
+		return permit;
+	}
+
+	/*
+	 * Hands the permit over to the next waiting invocation or returns it.
+	 */
+	private void release() {
+		CompletableFuture<Void> next;
+		synchronized (this) {
+			do {
+				next = this.queue.poll();
+			}
+			while (next != null && next.isDone());
+			if (next == null) {
+				this.inFlight--;
+				return;
+			}
+		}
+		if (!next.complete(null)) { // timed out or cancelled in the meantime
+			this.release();
+		}
+	}
+
+	/*
+	 * Mono which emits once permit is acquired.
+	 */
+	private Mono<FunctionBulkhead> acquireAsync() {
+		return Mono.fromFuture(() -> this.acquire(true)).thenReturn(this);
+	}
+
+	/*
+	 * Mono which returns the permit once subscribed to.
+	 */
+	private Mono<Void> releaseAsync() {
+		return Mono.fromRunnable(this::release);
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.time.Duration;
+import java.util.Map;
+
+import reactor.util.context.ContextView;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Deadline of the function invocation (i.e., the point in time after which the caller is no longer interested in its result).
+ * Deadline is provided by the caller (typically one of the adapters, such as AWS, gRPC or web) via {@link #DEADLINE_HEADER}
+ * message header and is available to the function for the duration of the invocation. Imperative functions can obtain
+ * the remaining time via {@link #getRemainingTime()}, while reactive functions can obtain it from the Reactor context
+ * via {@link #getRemainingTime(ContextView)}.
+ *
+ * @since 5.0.4
+ */
+public final class FunctionDeadline {
+
+	/**
+	 * Name of the message header which contains deadline of the invocation as epoch milliseconds.
+	 */
+	public static final String DEADLINE_HEADER = "scf-deadline";
+
+	/**
+	 * Key under which deadline of the invocation (as epoch milliseconds) is stored in the Reactor context.
+	 */
+	public static final String CONTEXT_KEY = FunctionDeadline.class.getName();
+
+	private static final ThreadLocal<Long> currentDeadline = new ThreadLocal<>();
+
+	private FunctionDeadline() {
+	}
+
+	/**
+	 * Returns the time remaining until deadline of the function invocation in progress on the current thread.
+	 * @return remaining time ({@link Duration#ZERO} if deadline has passed) or null if invocation has no deadline
+	 */
+	@Nullable
+	public static Duration getRemainingTime() {
+		return remaining(currentDeadline.get());
+	}
+
+	/**
+	 * Returns the time remaining until deadline of the function invocation stored in the provided Reactor context.
+	 * @param context Reactor context
+	 * @return remaining time ({@link Duration#ZERO} if deadline has passed) or null if invocation has no deadline
+	 */
+	@Nullable
+	public static Duration getRemainingTime(ContextView context) {
+		return remaining(context.getOrDefault(CONTEXT_KEY, null));
+	}
+
+	/**
+	 * Returns deadline (as epoch milliseconds) from the provided message headers.
+	 * @param headers message headers
+	 * @return deadline or null if headers contain no (or invalid) deadline
+	 */
+	@Nullable
+	public static Long getDeadline(@Nullable Map<String, Object> headers) {
+		Object deadline = headers == null ? null : headers.get(DEADLINE_HEADER);
+		if (deadline instanceof Number number) {
+			return number.longValue();
+		}
+		else if (deadline instanceof String stringDeadline) {
+			try {
+				return Long.parseLong(stringDeadline.trim());
+			}
+			catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * Makes deadline available to the current thread, returning the previous one to be restored once invocation completes.
+	 */
+	static Long setCurrentDeadline(@Nullable Long deadline) {
+		Long previousDeadline = currentDeadline.get();
+		if (deadline == null) {
+			currentDeadline.remove();
+		}
+		else {
+			currentDeadline.set(deadline);
+		}
+		return previousDeadline;
+	}
+
+	/*
+	 *
+	 */
+	private static Duration remaining(@Nullable Long deadline) {
+		return deadline == null ? null : Duration.ofMillis(Math.max(0, deadline - System.currentTimeMillis()));
+	}
+
+}
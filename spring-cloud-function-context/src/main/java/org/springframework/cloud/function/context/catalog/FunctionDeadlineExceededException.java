@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+/**
+ * Exception thrown (or signaled) when function invocation can not complete before its deadline
+ * (see {@link FunctionDeadline}).
+ *
+ * @since 5.0.4
+ */
+@SuppressWarnings("serial")
+public class FunctionDeadlineExceededException extends IllegalStateException {
+
+	private final String functionDefinition;
+
+	public FunctionDeadlineExceededException(String functionDefinition, String message) {
+		super(message);
+		this.functionDefinition = functionDefinition;
+	}
+
+	/**
+	 * Returns definition of the function which exceeded the deadline.
+	 * @return function definition
+	 */
+	public String getFunctionDefinition() {
+		return this.functionDefinition;
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live execution statistics of a function which is invoked on a scheduler other than
+ * the one emitting its input (see {@code spring.cloud.function.configuration.<fn>.execution-mode}).
+ *
+ * @since 5.0.4
+ */
+public class FunctionExecutionStatistics {
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * Returns the number of input elements which were received, but for which
+	 * function invocation has not yet started (i.e., queue depth).
+	 * @return number of pending elements
+	 */
+	public int getPending() {
+		return this.pending.get();
+	}
+
+	/**
+	 * Returns the number of function invocations currently in progress.
+	 * @return number of in-flight invocations
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	void enqueued() {
+		this.pending.incrementAndGet();
+	}
+
+	void dequeued() {
+		this.pending.decrementAndGet();
+	}
+
+	void started() {
+		this.pending.decrementAndGet();
+		this.inFlight.incrementAndGet();
+	}
+
+	void completed() {
+		this.inFlight.decrementAndGet();
+	}
+
+}
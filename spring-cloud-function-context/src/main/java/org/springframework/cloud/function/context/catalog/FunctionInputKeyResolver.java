@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.nio.ByteBuffer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.MapAccessor;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+/**
+ * Computes the key identifying (converted) input of a function, either as the input itself
+ * or as the value of SpEL expression evaluated against the input {@code Message}.
+ * Byte array keys are wrapped into {@link ByteBuffer} so they are compared by content.
+ *
+ * @since 5.0.4
+ */
+final class FunctionInputKeyResolver {
+
+	private static final Log logger = LogFactory.getLog(FunctionInputKeyResolver.class);
+
+	private final String functionDefinition;
+
+	private final Expression keyExpression;
+
+	private final StandardEvaluationContext evalContext;
+
+	FunctionInputKeyResolver(String functionDefinition, @Nullable String keyExpression, @Nullable BeanResolver beanResolver) {
+		this.functionDefinition = functionDefinition;
+		if (StringUtils.hasText(keyExpression)) {
+			this.keyExpression = new SpelExpressionParser().parseExpression(keyExpression);
+			this.evalContext = new StandardEvaluationContext();
+			this.evalContext.addPropertyAccessor(new MapAccessor());
+			if (beanResolver != null) {
+				this.evalContext.setBeanResolver(beanResolver);
+			}
+		}
+		else {
+			this.keyExpression = null;
+			this.evalContext = null;
+		}
+	}
+
+	/**
+	 * Computes the key for the provided (converted) input.
+	 * @param input converted input of the function
+	 * @param headers headers of the input message, if any
+	 * @return key or null if the key can not be computed
+	 */
+	Object getKey(Object input, @Nullable MessageHeaders headers) {
+		Object key = input;
+		if (this.keyExpression != null) {
+			try {
+				key = this.keyExpression.getValue(this.evalContext,
+						MessageBuilder.createMessage(input, headers == null ? new MessageHeaders(null) : headers));
+			}
+			catch (Exception e) {
+				logger.warn("Failed to evaluate key expression \"" + this.keyExpression.getExpressionString()
+						+ "\" for function '" + this.functionDefinition + "'.", e);
+				return null;
+			}
+		}
+		return key instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : key;
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.function.context.FunctionProperties.CoalescingProperties;
+import org.springframework.expression.BeanResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * Coalesces concurrent invocations of a function with the same input (see {@code spring.cloud.function.configuration.<fn>.coalescing})
+ * into a single invocation, the result of which is returned to each of them. The first invocation for a given key invokes the function,
+ * while invocations which arrive before it completes wait for its result on the calling thread, unless it is a non-blocking thread
+ * (e.g., Netty event loop), in which case they invoke the function themselves. If the function returns {@link CompletionStage},
+ * all invocations receive the same instance without blocking. If it returns {@link Mono}, all invocations which arrive while
+ * it is subscribed receive the same (shared) instance, so it is executed once. Unlike result caching, nothing is retained once
+ * the invocation completes (or, for {@link Mono}, once it is no longer subscribed).
+ *
+ * @since 5.0.4
+ */
+public class FunctionInvocationCoalescer {
+
+	private final FunctionInputKeyResolver keyResolver;
+
+	private final Map<Object, CompletableFuture<Object>> invocations = new ConcurrentHashMap<>();
+
+	private final AtomicLong coalesced = new AtomicLong();
+
+	FunctionInvocationCoalescer(String functionDefinition, CoalescingProperties properties, @Nullable BeanResolver beanResolver) {
+		this.keyResolver = new FunctionInputKeyResolver(functionDefinition, properties.getKeyExpression(), beanResolver);
+	}
+
+	/**
+	 * Returns the number of invocations currently in progress (one per distinct key).
+	 * @return number of in-flight invocations
+	 */
+	public int getInFlight() {
+		return this.invocations.size();
+	}
+
+	/**
+	 * Returns the total number of invocations which shared the result of another invocation
+	 * rather than invoking the function.
+	 * @return number of coalesced invocations
+	 */
+	public long getCoalesced() {
+		return this.coalesced.get();
+	}
+
+	/**
+	 * Computes the key for the provided (converted) input.
+	 * @param input converted input of the function
+	 * @param headers headers of the input message, if any
+	 * @return key or null if the key can not be computed, in which case the invocation should not be coalesced
+	 */
+	Object getKey(Object input, @Nullable MessageHeaders headers) {
+		return this.keyResolver.getKey(input, headers);
+	}
+
+	/**
+	 * Invokes the function unless invocation with the same key is already in progress,
+	 * in which case its result is returned instead.
+	 * @param key key identifying the input
+	 * @param invocation function invocation
+	 * @return result of the invocation
+	 */
+	Object invoke(Object key, Supplier<Object> invocation) {
+		CompletableFuture<Object> invocationResult = new CompletableFuture<>();
+		CompletableFuture<Object> existingInvocationResult = this.invocations.putIfAbsent(key, invocationResult);
+		if (existingInvocationResult != null) {
+			if (!existingInvocationResult.isDone() && Schedulers.isInNonBlockingThread()) {
+				return invocation.get();
+			}
+			this.coalesced.incrementAndGet();
+			try {
+				return existingInvocationResult.join();
+			}
+			catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				else if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+				throw e;
+			}
+		}
+
+		Object result;
+		try {
+			result = invocation.get();
+		}
+		catch (Throwable e) {
+			this.invocations.remove(key, invocationResult);
+			invocationResult.completeExceptionally(e);
+			throw e;
+		}
+		if (result instanceof Mono<?> mono) {
+			// the shared Mono is coalesced with only while it is subscribed, so it is never retained if nobody subscribes
+			result = mono.doOnSubscribe(subscription -> this.invocations.putIfAbsent(key, invocationResult))
+				.doFinally(signal -> this.invocations.remove(key, invocationResult))
+				.share();
+		}
+		invocationResult.complete(result);
+		if (result instanceof CompletionStage<?> completionStage) {
+			completionStage.whenComplete((value, ex) -> this.invocations.remove(key, invocationResult));
+		}
+		else {
+			this.invocations.remove(key, invocationResult);
+		}
+		return result;
+	}
+
+}
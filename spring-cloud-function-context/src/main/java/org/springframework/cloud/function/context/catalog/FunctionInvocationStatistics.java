@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of invocations, failed invocations and invocations in progress of a function, which are always recorded.
+ * Only invocations with non-reactive input are recorded, since invocation with Publisher input merely assembles
+ * the reactive pipeline, while elements are processed later, as they are emitted.
+ *
+ * @since 5.0.4
+ */
+public class FunctionInvocationStatistics {
+
+	private final LongAdder invocations = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * Returns the number of recorded invocations.
+	 * @return number of invocations
+	 */
+	public long getInvocations() {
+		return this.invocations.sum();
+	}
+
+	/**
+	 * Returns the number of recorded invocations which failed with exception.
+	 * @return number of failed invocations
+	 */
+	public long getErrors() {
+		return this.errors.sum();
+	}
+
+	/**
+	 * Returns the number of recorded invocations currently in progress.
+	 * @return number of in-flight invocations
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	void invocationStarted() {
+		this.invocations.increment();
+		this.inFlight.incrementAndGet();
+	}
+
+	void invocationFailed() {
+		this.errors.increment();
+	}
+
+	void invocationCompleted() {
+		this.inFlight.decrementAndGet();
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import org.springframework.cloud.function.context.catalog.FunctionLatencyStatistics.Phase;
+
+/**
+ * Lock-free histogram of latencies (in nanoseconds) of a single phase of function invocation
+ * for a given content type. Latencies are counted in logarithmic buckets (8 per power of two),
+ * so percentiles are accurate within 12.5% while recording allocates nothing and costs
+ * a few atomic increments. Values are accumulated since the histogram was created, so they suit
+ * the endpoint reporting statistics since startup, while recorded latencies can also be fed into
+ * decaying metrics (e.g., Micrometer timers) via {@link #addRecordingListener(LongConsumer)}.
+ *
+ * @since 5.0.4
+ */
+public class FunctionLatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private static final int LINEAR_BUCKETS = SUB_BUCKETS << 1;
+
+	private static final int BUCKETS = LINEAR_BUCKETS + (63 - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+	private final Phase phase;
+
+	private final String contentType;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder totalTime = new LongAdder();
+
+	private final AtomicLong maxTime = new AtomicLong();
+
+	private volatile LongConsumer[] recordingListeners = new LongConsumer[0];
+
+	FunctionLatencyHistogram(Phase phase, String contentType) {
+		this.phase = phase;
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Returns the phase of function invocation which latencies are recorded by this histogram.
+	 * @return invocation phase
+	 */
+	public Phase getPhase() {
+		return this.phase;
+	}
+
+	/**
+	 * Returns the content type of invocations recorded by this histogram.
+	 * @return content type or {@link FunctionLatencyStatistics#NO_CONTENT_TYPE}
+	 */
+	public String getContentType() {
+		return this.contentType;
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 * @return number of recorded latencies
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * Returns the sum of recorded latencies.
+	 * @return total time in nanoseconds
+	 */
+	public long getTotalTime() {
+		return this.totalTime.sum();
+	}
+
+	/**
+	 * Returns the maximum recorded latency.
+	 * @return maximum latency in nanoseconds
+	 */
+	public long getMaxTime() {
+		return this.maxTime.get();
+	}
+
+	/**
+	 * Returns the (approximate) latency below which the provided fraction of recorded latencies falls.
+	 * @param percentile percentile (0.0 - 1.0)
+	 * @return latency in nanoseconds or 0 if nothing has been recorded
+	 */
+	public long getPercentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += this.buckets.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, percentile)) * total));
+		long cumulativeCount = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			cumulativeCount += this.buckets.get(i);
+			if (cumulativeCount >= rank) {
+				return Math.min(upperBound(i), this.getMaxTime());
+			}
+		}
+		return this.getMaxTime();
+	}
+
+	/**
+	 * Registers listener to be notified about each recorded latency (in nanoseconds), for example to record it
+	 * into a metrics registry as well.
+	 * @param listener listener accepting latency in nanoseconds
+	 */
+	public synchronized void addRecordingListener(LongConsumer listener) {
+		LongConsumer[] listeners = Arrays.copyOf(this.recordingListeners, this.recordingListeners.length + 1);
+		listeners[listeners.length - 1] = listener;
+		this.recordingListeners = listeners;
+	}
+
+	void record(long nanos) {
+		if (nanos < 0) {
+			return;
+		}
+		this.buckets.incrementAndGet(bucketIndex(nanos));
+		this.count.increment();
+		this.totalTime.add(nanos);
+		long currentMax = this.maxTime.get();
+		while (nanos > currentMax && !this.maxTime.compareAndSet(currentMax, nanos)) {
+			currentMax = this.maxTime.get();
+		}
+		for (LongConsumer listener : this.recordingListeners) {
+			listener.accept(nanos);
+		}
+	}
+
+	/*
+	 * Values below LINEAR_BUCKETS have a bucket each, larger values are split into SUB_BUCKETS
+	 * buckets per power of two.
+	 */
+	static int bucketIndex(long value) {
+		if (value < LINEAR_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return LINEAR_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/*
+	 * Returns the largest value counted in the bucket with the provided index (inverse of bucketIndex(..)).
+	 */
+	static long upperBound(int bucketIndex) {
+		if (bucketIndex < LINEAR_BUCKETS) {
+			return bucketIndex;
+		}
+		int exponent = (bucketIndex - LINEAR_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+		int subBucket = (bucketIndex - LINEAR_BUCKETS) % SUB_BUCKETS;
+		long bucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+		long lowerBound = (SUB_BUCKETS + subBucket) * bucketWidth;
+		return lowerBound + bucketWidth - 1;
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+/**
+ * Latencies of each phase of function invocation (see {@link Phase}) per content type of the input,
+ * recorded when {@code spring.cloud.function.observability.latency-timers} is enabled
+ * (the number of invocations is always recorded, see {@link FunctionInvocationStatistics}).
+ * Content types are recorded without parameters (e.g., {@code text/plain;charset=UTF-8} as {@code text/plain})
+ * and, since they come from the input, only the first {@value #MAX_CONTENT_TYPES} distinct content types are
+ * recorded separately, while the rest are recorded under {@link #OTHER_CONTENT_TYPE}.
+ * Only invocations with non-reactive input and result are recorded, since the phases of reactive
+ * invocations happen asynchronously, as elements are emitted.
+ *
+ * @since 5.0.4
+ */
+public class FunctionLatencyStatistics {
+
+	/**
+	 * Content type under which invocations with no content type are recorded.
+	 */
+	public static final String NO_CONTENT_TYPE = "none";
+
+	/**
+	 * Content type under which invocations are recorded once {@link #MAX_CONTENT_TYPES} distinct content types
+	 * have been recorded.
+	 */
+	public static final String OTHER_CONTENT_TYPE = "other";
+
+	/**
+	 * Maximum number of distinct content types recorded separately.
+	 */
+	public static final int MAX_CONTENT_TYPES = 16;
+
+	private final Map<String, FunctionLatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+
+	private final List<Consumer<FunctionLatencyHistogram>> histogramListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Returns histogram of latencies of the provided phase of invocations with the provided content type.
+	 * @param phase invocation phase
+	 * @param contentType content type
+	 * @return histogram or null if no invocation with the provided content type has been recorded
+	 */
+	@Nullable
+	public FunctionLatencyHistogram getHistogram(Phase phase, String contentType) {
+		FunctionLatencyHistogram[] phaseHistograms = this.histograms.get(contentType);
+		return phaseHistograms == null ? null : phaseHistograms[phase.ordinal()];
+	}
+
+	/**
+	 * Returns histograms of all phases of invocations for all recorded content types.
+	 * @return histograms
+	 */
+	public Collection<FunctionLatencyHistogram> getHistograms() {
+		List<FunctionLatencyHistogram> allHistograms = new ArrayList<>();
+		this.histograms.values().forEach(phaseHistograms -> allHistograms.addAll(List.of(phaseHistograms)));
+		return allHistograms;
+	}
+
+	/**
+	 * Registers listener to be notified about each histogram. Listener is notified about already existing
+	 * histograms as well as about the ones created in the future (i.e., as invocations with new content type are recorded).
+	 * @param listener listener accepting histogram
+	 */
+	public void addHistogramListener(Consumer<FunctionLatencyHistogram> listener) {
+		this.histogramListeners.add(listener);
+		this.histograms.values().forEach(phaseHistograms -> List.of(phaseHistograms).forEach(listener));
+	}
+
+	/*
+	 * Returns histograms of all phases (indexed by Phase ordinal) for the provided content type.
+	 */
+	FunctionLatencyHistogram[] getOrCreateHistograms(@Nullable Object contentType) {
+		String contentTypeValue = contentTypeValue(contentType);
+		FunctionLatencyHistogram[] phaseHistograms = this.histograms.get(contentTypeValue);
+		if (phaseHistograms == null) {
+			synchronized (this.histograms) {
+				if (!this.histograms.containsKey(contentTypeValue) && this.histograms.size() >= MAX_CONTENT_TYPES) {
+					contentTypeValue = OTHER_CONTENT_TYPE;
+				}
+				phaseHistograms = this.histograms.computeIfAbsent(contentTypeValue, name -> {
+					Phase[] phases = Phase.values();
+					FunctionLatencyHistogram[] newHistograms = new FunctionLatencyHistogram[phases.length];
+					for (int i = 0; i < phases.length; i++) {
+						newHistograms[i] = new FunctionLatencyHistogram(phases[i], name);
+					}
+					this.histogramListeners.forEach(listener -> List.of(newHistograms).forEach(listener));
+					return newHistograms;
+				});
+			}
+		}
+		return phaseHistograms;
+	}
+
+	/*
+	 * Returns 'type/subtype' of the provided content type, avoiding allocation when it has no parameters.
+	 */
+	static String contentTypeValue(@Nullable Object contentType) {
+		if (contentType == null) {
+			return NO_CONTENT_TYPE;
+		}
+		if (contentType instanceof MimeType mimeType) {
+			return mimeType.getParameters().isEmpty() ? mimeType.toString() : mimeType.getType() + "/" + mimeType.getSubtype();
+		}
+		String value = contentType.toString();
+		int parametersIndex = value.indexOf(';');
+		value = (parametersIndex < 0 ? value : value.substring(0, parametersIndex)).trim();
+		return value.isEmpty() ? NO_CONTENT_TYPE : value.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Phase of function invocation.
+	 */
+	public enum Phase {
+
+		/**
+		 * Conversion of the input (e.g., Message with JSON payload) to the type expected by the function.
+		 */
+		INPUT_CONVERSION,
+
+		/**
+		 * Invocation of the function itself.
+		 */
+		EXECUTION,
+
+		/**
+		 * Conversion of the function result to the expected output type and content type.
+		 */
+		OUTPUT_CONVERSION,
+
+		/**
+		 * Post-processing of the function result (e.g., copying input headers to the output Message).
+		 */
+		POST_PROCESSING
+
+	}
+
+}
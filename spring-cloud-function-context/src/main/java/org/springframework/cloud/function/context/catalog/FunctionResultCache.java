@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.function.context.FunctionProperties.CacheProperties;
+import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.expression.BeanResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * Bounded cache of results of a deterministic function (see {@code spring.cloud.function.configuration.<fn>.cache}),
+ * keyed by its converted input or by the value of the configured key expression. Least recently used results
+ * are evicted once the maximum number of entries or the maximum total weight (size of the result serialized as JSON)
+ * is exceeded, while results older than the configured time-to-live are evicted on access.
+ * Cached results are shared by all invocations, so they should be treated as immutable.
+ *
+ * @since 5.0.4
+ */
+public class FunctionResultCache {
+
+	private static final Log logger = LogFactory.getLog(FunctionResultCache.class);
+
+	private final String functionDefinition;
+
+	private final int maxEntries;
+
+	private final long maxWeight;
+
+	private final long ttlNanos;
+
+	private final FunctionInputKeyResolver keyResolver;
+
+	private final JsonMapper jsonMapper;
+
+	private final LinkedHashMap<Object, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	private long weight;
+
+	FunctionResultCache(String functionDefinition, CacheProperties properties, JsonMapper jsonMapper,
+			@Nullable BeanResolver beanResolver) {
+		this.functionDefinition = functionDefinition;
+		this.maxEntries = properties.getMaxEntries();
+		this.maxWeight = properties.getMaxWeight() == null ? 0 : properties.getMaxWeight().toBytes();
+		this.ttlNanos = properties.getTtl() == null ? 0 : properties.getTtl().toNanos();
+		this.jsonMapper = jsonMapper;
+		this.keyResolver = new FunctionInputKeyResolver(functionDefinition, properties.getKeyExpression(), beanResolver);
+	}
+
+	/**
+	 * Returns the number of invocations for which cached result was used.
+	 * @return number of hits
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Returns the number of invocations for which no cached result was available.
+	 * @return number of misses
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Returns the number of results evicted due to size, weight or time-to-live limits.
+	 * @return number of evictions
+	 */
+	public long getEvictions() {
+		return this.evictions.get();
+	}
+
+	/**
+	 * Returns the number of currently cached results.
+	 * @return number of cached results
+	 */
+	public synchronized int getSize() {
+		return this.results.size();
+	}
+
+	/**
+	 * Returns the total weight (size serialized as JSON) of currently cached results.
+	 * Always 0 if maximum weight is not configured.
+	 * @return total weight in bytes
+	 */
+	public synchronized long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * Computes cache key for the provided (converted) input.
+	 * @param input converted input of the function
+	 * @param headers headers of the input message, if any
+	 * @return cache key or null if the key can not be computed, in which case the result should not be cached
+	 */
+	Object getKey(Object input, @Nullable MessageHeaders headers) {
+		return this.keyResolver.getKey(input, headers);
+	}
+
+	/**
+	 * Returns cached result for the provided key.
+	 * @param key cache key
+	 * @return cached result or null if there is no cached result for the provided key
+	 */
+	synchronized Object get(Object key) {
+		CachedResult cachedResult = this.results.get(key);
+		if (cachedResult != null && cachedResult.isExpired()) {
+			this.results.remove(key);
+			this.weight -= cachedResult.weight;
+			this.evictions.incrementAndGet();
+			cachedResult = null;
+		}
+		if (cachedResult == null) {
+			this.misses.incrementAndGet();
+			return null;
+		}
+		this.hits.incrementAndGet();
+		return cachedResult.result;
+	}
+
+	/**
+	 * Caches the result for the provided key, evicting least recently used results if necessary.
+	 * @param key cache key
+	 * @param result result to cache
+	 */
+	void put(Object key, Object result) {
+		long resultWeight = this.maxWeight > 0 ? this.weigh(result) : 0;
+		if (resultWeight < 0 || resultWeight > this.maxWeight && this.maxWeight > 0) {
+			return;
+		}
+		synchronized (this) {
+			CachedResult previous = this.results.put(key, new CachedResult(result, resultWeight,
+					this.ttlNanos > 0 ? System.nanoTime() + this.ttlNanos : 0));
+			if (previous != null) {
+				this.weight -= previous.weight;
+			}
+			this.weight += resultWeight;
+			Iterator<Map.Entry<Object, CachedResult>> iterator = this.results.entrySet().iterator();
+			while (iterator.hasNext() && (this.results.size() > this.maxEntries || this.maxWeight > 0 && this.weight > this.maxWeight)) {
+				CachedResult evicted = iterator.next().getValue();
+				iterator.remove();
+				this.weight -= evicted.weight;
+				this.evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/*
+	 * Returns size of the result serialized as JSON or -1 if result can not be serialized.
+	 */
+	private long weigh(Object result) {
+		if (result instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		else if (result instanceof String stringResult) {
+			return stringResult.getBytes(StandardCharsets.UTF_8).length;
+		}
+		try {
+			return this.jsonMapper.toJson(result).length;
+		}
+		catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to determine weight of result of function '" + this.functionDefinition
+						+ "'. Result will not be cached.", e);
+			}
+			return -1;
+		}
+	}
+
+	private static final class CachedResult {
+
+		private final Object result;
+
+		private final long weight;
+
+		private final long expiresAt;
+
+		CachedResult(Object result, long weight, long expiresAt) {
+			this.result = result;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired() {
+			return this.expiresAt != 0 && System.nanoTime() - this.expiresAt > 0;
+		}
+
+	}
+
+}
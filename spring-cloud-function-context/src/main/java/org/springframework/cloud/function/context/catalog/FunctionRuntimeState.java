@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Runtime state of a function, shared by all of its invocation wrappers. It consists of statistics
+ * of its invocations as well as of the components enforcing its configuration
+ * (see {@code spring.cloud.function.configuration.<fn>}), such as bulkhead or result cache.
+ * State is created by {@link SimpleFunctionRegistry} once the function is first looked up, with all components
+ * its configuration requires, and is available via {@link SimpleFunctionRegistry#getRuntimeState(String)}.
+ * Components which are not required (e.g., bulkhead of a function with unlimited concurrent invocations) are null.
+ *
+ * @since 5.0.4
+ */
+public final class FunctionRuntimeState {
+
+	private final String functionDefinition;
+
+	private final FunctionInvocationStatistics invocationStatistics = new FunctionInvocationStatistics();
+
+	private final FunctionExecutionStatistics executionStatistics;
+
+	private final FunctionBulkhead bulkhead;
+
+	private final FunctionResultCache resultCache;
+
+	private final FunctionInvocationCoalescer invocationCoalescer;
+
+	private final FunctionLatencyStatistics latencyStatistics;
+
+	private MicroBatchingFunction microBatchingFunction;
+
+	FunctionRuntimeState(String functionDefinition, @Nullable FunctionExecutionStatistics executionStatistics,
+			@Nullable FunctionBulkhead bulkhead, @Nullable FunctionResultCache resultCache,
+			@Nullable FunctionInvocationCoalescer invocationCoalescer, @Nullable FunctionLatencyStatistics latencyStatistics) {
+		this.functionDefinition = functionDefinition;
+		this.executionStatistics = executionStatistics;
+		this.bulkhead = bulkhead;
+		this.resultCache = resultCache;
+		this.invocationCoalescer = invocationCoalescer;
+		this.latencyStatistics = latencyStatistics;
+	}
+
+	/**
+	 * Returns definition of the function this state belongs to.
+	 * @return function definition
+	 */
+	public String getFunctionDefinition() {
+		return this.functionDefinition;
+	}
+
+	/**
+	 * Returns the number of invocations, failed invocations and invocations in progress of the function.
+	 * @return invocation statistics
+	 */
+	public FunctionInvocationStatistics getInvocationStatistics() {
+		return this.invocationStatistics;
+	}
+
+	/**
+	 * Returns live execution statistics of the function invoked on a scheduler other than the one emitting its
+	 * input (see {@code spring.cloud.function.configuration.<fn>.execution-mode}).
+	 * @return execution statistics or null if the function is invoked on the scheduler emitting its input
+	 */
+	@Nullable
+	public FunctionExecutionStatistics getExecutionStatistics() {
+		return this.executionStatistics;
+	}
+
+	/**
+	 * Returns bulkhead limiting concurrent invocations of the function
+	 * (see {@code spring.cloud.function.configuration.<fn>.bulkhead}).
+	 * @return bulkhead or null if concurrent invocations of the function are not limited
+	 */
+	@Nullable
+	public FunctionBulkhead getBulkhead() {
+		return this.bulkhead;
+	}
+
+	/**
+	 * Returns cache of results of the function (see {@code spring.cloud.function.configuration.<fn>.cache}).
+	 * @return result cache or null if results of the function are not cached
+	 */
+	@Nullable
+	public FunctionResultCache getResultCache() {
+		return this.resultCache;
+	}
+
+	/**
+	 * Returns coalescer of concurrent invocations of the function
+	 * (see {@code spring.cloud.function.configuration.<fn>.coalescing}).
+	 * @return invocation coalescer or null if invocations of the function are not coalesced
+	 */
+	@Nullable
+	public FunctionInvocationCoalescer getInvocationCoalescer() {
+		return this.invocationCoalescer;
+	}
+
+	/**
+	 * Returns latencies of each phase of function invocation (see {@code spring.cloud.function.observability.latency-timers}).
+	 * @return latency statistics or null if latencies of the function are not recorded
+	 */
+	@Nullable
+	public FunctionLatencyStatistics getLatencyStatistics() {
+		return this.latencyStatistics;
+	}
+
+	/*
+	 * Returns the single micro-batching function of the function, creating it if necessary, so batch size and
+	 * max wait hold regardless of how many times the function is looked up.
+	 */
+	synchronized MicroBatchingFunction getOrCreateMicroBatchingFunction(Supplier<MicroBatchingFunction> factory) {
+		if (this.microBatchingFunction == null) {
+			this.microBatchingFunction = factory.get();
+		}
+		return this.microBatchingFunction;
+	}
+
+	/*
+	 * Disposes micro-batching function, if any, processing the elements it has already buffered
+	 * while rejecting new ones.
+	 */
+	synchronized void dispose() {
+		if (this.microBatchingFunction != null) {
+			this.microBatchingFunction.dispose();
+		}
+	}
+
+}
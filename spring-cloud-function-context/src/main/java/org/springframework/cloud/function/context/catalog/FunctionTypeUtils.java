@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -170,6 +171,9 @@ public final class FunctionTypeUtils {
 	 * @return instance of {@link Class} as raw representation of the provided {@link Type}
 	 */
 	public static Class<?> getRawType(Type type) {
+		if (type instanceof Class<?> clazz) {
+			return clazz;
+		}
 		if (type instanceof WildcardType) {
 			Type[] upperbounds = ((WildcardType) type).getUpperBounds();
 			/*
@@ -570,7 +574,20 @@ public final class FunctionTypeUtils {
 		return type == null ? false : type.getTypeName().startsWith("reactor.core.publisher.Mono");
 	}
 
+	/**
+	 * Determines if the provided type represents asynchronous result (i.e., {@link CompletionStage}
+	 * such as {@link java.util.concurrent.CompletableFuture}).
+	 * @param type the type to check
+	 * @return true if type is {@link CompletionStage}
+	 */
+	public static boolean isCompletionStage(Type type) {
+		return type != null && CompletionStage.class.isAssignableFrom(getRawType(type));
+	}
+
 	public static boolean isMultipleArgumentType(Type type) {
+		if (type instanceof Class<?> clazz) {
+			return !clazz.isArray() && clazz.getName().startsWith("reactor.util.function.Tuple");
+		}
 		if (type != null) {
 			if (ResolvableType.forType(type).isArray()) {
 				return false;
@@ -16,8 +16,12 @@
 
 package org.springframework.cloud.function.context.catalog;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
@@ -30,12 +34,19 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
 import org.springframework.util.Assert;
 
 /**
  * Class responsible for processing `input-header-mapping-expression`
  * and modifying message headers accordingly.
+ * <br>
+ * Expressions are parsed once when this enricher is created. Since the same {@link Expression}
+ * instances are evaluated for every message, they are also eligible for SpEL compilation
+ * (see 'spring.expression.compiler.mode').
+ * The results of the evaluation are applied as an overlay on top of the headers of the incoming
+ * message, so its headers are not copied.
  *
  * @author Oleg Zhurakousky
  *
@@ -46,16 +57,20 @@ class HeaderEnricher implements Function<Object, Object> {
 
 	protected Log logger = LogFactory.getLog(HeaderEnricher.class);
 
-	private final Map<String, Map<String, String>> headerExpressions;
-
-	private final SpelExpressionParser spelParser = new SpelExpressionParser();
+	private final Map<String, Expression> headerExpressions;
 
 	private final StandardEvaluationContext evalContext = new StandardEvaluationContext();
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	HeaderEnricher(Map headerExpressions, @Nullable BeanResolver beanResolver) {
 		Assert.notEmpty(headerExpressions, "'headerExpressions' must not be null or empty");
-		this.headerExpressions = headerExpressions;
+		SpelExpressionParser spelParser = new SpelExpressionParser();
+		this.headerExpressions = new LinkedHashMap<>();
+		Map<String, String> mappings = (Map<String, String>) headerExpressions.get("0");
+		for (Entry<String, String> keyValueExpressionEntry : mappings.entrySet()) {
+			this.headerExpressions.put(keyValueExpressionEntry.getKey(),
+					spelParser.parseExpression(keyValueExpressionEntry.getValue()));
+		}
 		this.evalContext.addPropertyAccessor(new MapAccessor());
 		if (beanResolver != null) {
 			this.evalContext.setBeanResolver(beanResolver);
@@ -64,29 +79,163 @@ class HeaderEnricher implements Function<Object, Object> {
 
 	@Override
 	public Object apply(Object input) {
-		if (input instanceof Message<?>) {
-			MessageBuilder<?> messageBuilder = MessageBuilder.fromMessage((Message<?>) input);
-			Map<String, String> mappings = this.headerExpressions.get("0");
-			for (Entry<String, String> keyValueExpressionEntry : mappings.entrySet()) {
-				Expression expression = this.spelParser.parseExpression(keyValueExpressionEntry.getValue());
+		if (input instanceof Message<?> message) {
+			Map<String, Object> overlay = null;
+			for (Entry<String, Expression> keyValueExpressionEntry : this.headerExpressions.entrySet()) {
+				String headerName = keyValueExpressionEntry.getKey();
+				Expression expression = keyValueExpressionEntry.getValue();
 				try {
-					Object value = expression.getValue(this.evalContext, input, Object.class);
-					messageBuilder.setHeader(keyValueExpressionEntry.getKey(), value);
+					Assert.isTrue(!MessageHeaders.ID.equals(headerName) && !MessageHeaders.TIMESTAMP.equals(headerName),
+							() -> "'" + headerName + "' header is read-only");
+					Object value = expression.getValue(this.evalContext, message, Object.class);
+					if (overlay == null) {
+						overlay = new LinkedHashMap<>();
+					}
+					overlay.put(headerName, value);
 				}
 				catch (Exception e) {
-					String message = "Failed while evaluating expression \"" + keyValueExpressionEntry.getValue() + "\"  on incoming message";
+					String logMessage = "Failed while evaluating expression \"" + expression.getExpressionString() + "\"  on incoming message";
 					if (logger.isDebugEnabled()) {
-						logger.warn(message + ": " + input, e);
+						logger.warn(logMessage + ": " + input, e);
 					}
 					else {
-						logger.warn(message);
+						logger.warn(logMessage);
 					}
 				}
 			}
-			input = messageBuilder.build();
+			if (overlay != null) {
+				input = new GenericMessage<>(message.getPayload(), new OverlayMessageHeaders(message.getHeaders(), overlay));
+			}
 		}
 
 		return input;
 	}
 
+	/**
+	 * Read-only {@link MessageHeaders} which expose the headers of the original message with the
+	 * headers computed by this enricher applied on top of them (header with 'null' value
+	 * is treated as removed), without copying the original headers. Merged view of all headers
+	 * is created lazily and only if bulk operations (e.g., iteration) are performed.
+	 * Just like with any new message, 'id' and 'timestamp' headers are generated.
+	 */
+	@SuppressWarnings("serial")
+	static class OverlayMessageHeaders extends MessageHeaders {
+
+		private final transient Map<String, Object> baseHeaders;
+
+		private final transient Map<String, Object> overlay;
+
+		private transient volatile Map<String, Object> mergedHeaders;
+
+		OverlayMessageHeaders(Map<String, Object> baseHeaders, Map<String, Object> overlay) {
+			super(null, null, null);
+			this.baseHeaders = baseHeaders;
+			this.overlay = overlay;
+		}
+
+		@Override
+		public Object get(Object key) {
+			if (ID.equals(key) || TIMESTAMP.equals(key)) {
+				return super.get(key);
+			}
+			return this.overlay.containsKey(key) ? this.overlay.get(key) : this.baseHeaders.get(key);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> T get(Object key, Class<T> type) {
+			Object value = this.get(key);
+			if (value == null) {
+				return null;
+			}
+			if (!type.isAssignableFrom(value.getClass())) {
+				throw new IllegalArgumentException("Incorrect type specified for header '" + key + "'. Expected [" + type
+						+ "] but actual type is [" + value.getClass() + "]");
+			}
+			return (T) value;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.get(key) != null;
+		}
+
+		@Override
+		public boolean containsValue(Object value) {
+			return this.getMergedHeaders().containsValue(value);
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return this.getMergedHeaders().entrySet();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return false;
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return this.getMergedHeaders().keySet();
+		}
+
+		@Override
+		public int size() {
+			return this.getMergedHeaders().size();
+		}
+
+		@Override
+		public Collection<Object> values() {
+			return this.getMergedHeaders().values();
+		}
+
+		@Override
+		protected Map<String, Object> getRawHeaders() {
+			return this.getMergedHeaders();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return this == other || (other instanceof MessageHeaders && this.getMergedHeaders().equals(other));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.getMergedHeaders().hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return this.getMergedHeaders().toString();
+		}
+
+		private Object writeReplace() {
+			return serializableCopy(this.getMergedHeaders(), this.getId(), this.getTimestamp());
+		}
+
+		private static MessageHeaders serializableCopy(Map<String, Object> headers, UUID id, Long timestamp) {
+			return new MessageHeaders(headers, id, timestamp) { };
+		}
+
+		private Map<String, Object> getMergedHeaders() {
+			Map<String, Object> merged = this.mergedHeaders;
+			if (merged == null) {
+				merged = new LinkedHashMap<>(this.baseHeaders);
+				for (Entry<String, Object> entry : this.overlay.entrySet()) {
+					if (entry.getValue() == null) {
+						merged.remove(entry.getKey());
+					}
+					else {
+						merged.put(entry.getKey(), entry.getValue());
+					}
+				}
+				merged.put(ID, super.get(ID));
+				merged.put(TIMESTAMP, super.get(TIMESTAMP));
+				this.mergedHeaders = merged;
+			}
+			return merged;
+		}
+	}
+
 }
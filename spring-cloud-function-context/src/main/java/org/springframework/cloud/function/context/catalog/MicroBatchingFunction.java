@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitFailureHandler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adapter which exposes function accepting and returning a {@link List} (e.g., {@code Function<List<Order>, List<Result>>})
+ * as a function of individual elements. Elements submitted by concurrent invocations are buffered until
+ * either the batch size or the maximum wait time is reached, at which point the target function is invoked
+ * once with the entire batch, and each result is emitted to the {@link Mono} returned to the
+ * corresponding caller. Target function must return exactly one result per element and in the same order.
+ * Once disposed, already submitted elements are still processed, while new elements are rejected.
+ *
+ * @since 5.0.4
+ */
+final class MicroBatchingFunction implements Function<Object, Mono<Object>> {
+
+	private static final Log logger = LogFactory.getLog(MicroBatchingFunction.class);
+
+	private final String functionDefinition;
+
+	private final Function<Object, Object> target;
+
+	private final Sinks.Many<BatchElement> elements = Sinks.many().unicast().onBackpressureBuffer();
+
+	private final EmitFailureHandler emitFailureHandler = EmitFailureHandler.busyLooping(Duration.ofSeconds(1));
+
+	private volatile boolean disposed;
+
+	MicroBatchingFunction(String functionDefinition, Function<Object, Object> target, int batchSize,
+			Duration maxWait, int maxInFlightBatches) {
+		this.functionDefinition = functionDefinition;
+		this.target = target;
+		this.elements.asFlux()
+			.bufferTimeout(batchSize, maxWait, true)
+			.flatMap(batch -> Mono.fromRunnable(() -> this.invoke(batch)).subscribeOn(Schedulers.boundedElastic()),
+					maxInFlightBatches)
+			.subscribe();
+	}
+
+	@Override
+	public Mono<Object> apply(Object element) {
+		if (this.disposed) {
+			return Mono.error(new IllegalStateException("Function '" + this.functionDefinition
+					+ "' no longer accepts elements since it has been disposed"));
+		}
+		Sinks.One<Object> result = Sinks.one();
+		this.elements.emitNext(new BatchElement(element, result), this.emitFailureHandler);
+		return result.asMono();
+	}
+
+	/*
+	 * Stops accepting new elements and flushes buffered elements as the last batch.
+	 */
+	void dispose() {
+		this.disposed = true;
+		this.elements.tryEmitComplete();
+	}
+
+	/*
+	 *
+	 */
+	private void invoke(List<BatchElement> batch) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Invoking function '" + this.functionDefinition + "' with batch of " + batch.size() + " elements");
+		}
+		List<Object> input = new ArrayList<>(batch.size());
+		for (BatchElement element : batch) {
+			input.add(element.value);
+		}
+		try {
+			Object output = this.target.apply(input);
+			List<Object> results = output instanceof Collection<?> collection ? new ArrayList<>(collection) : null;
+			if (results == null || results.size() != batch.size()) {
+				throw new IllegalStateException("Function '" + this.functionDefinition + "' must return one result per element "
+						+ "of the batch. Batch size was " + batch.size() + ", while result was " + output);
+			}
+			for (int i = 0; i < batch.size(); i++) {
+				Object result = results.get(i);
+				if (result == null) {
+					batch.get(i).result.tryEmitEmpty();
+				}
+				else {
+					batch.get(i).result.tryEmitValue(result);
+				}
+			}
+		}
+		catch (Throwable e) {
+			logger.error("Failed to invoke function '" + this.functionDefinition + "' with batch of " + batch.size() + " elements", e);
+			for (BatchElement element : batch) {
+				element.result.tryEmitError(e);
+			}
+		}
+	}
+
+	private static final class BatchElement {
+
+		private final Object value;
+
+		private final Sinks.One<Object> result;
+
+		BatchElement(Object value, Sinks.One<Object> result) {
+			this.value = value;
+			this.result = result;
+		}
+
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Function which represents scatter-gather segment of function definition (e.g., {@code split(a,b,c)|merge}).
+ * Applies the same input to each branch concurrently and emits the list of results (in the order
+ * in which branches are declared) once all branches have completed, so the latency of the entire
+ * segment is that of the slowest branch rather than the sum of all branches. Elements of Publisher
+ * input are scattered and gathered one by one, emitting lists of results in the order of elements.
+ *
+ * @since 5.0.4
+ */
+final class ScatterGatherFunction implements Function<Object, Mono<List<Object>>> {
+
+	/**
+	 * Prefix of the scatter-gather segment of function definition.
+	 */
+	static final String SPLIT_PREFIX = "split(";
+
+	private final String functionDefinition;
+
+	private final List<FunctionInvocationWrapper> branches;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * @param functionDefinition definition of scatter-gather segment (e.g., {@code split(a,b,c)})
+	 * @param branches functions to apply the input to
+	 * @param scheduler scheduler to invoke branches on or null to invoke them sequentially on the calling thread
+	 */
+	ScatterGatherFunction(String functionDefinition, List<FunctionInvocationWrapper> branches, @Nullable Scheduler scheduler) {
+		this.functionDefinition = functionDefinition;
+		this.branches = branches;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<List<Object>> apply(Object input) {
+		List<Mono<Object>> results = new ArrayList<>(this.branches.size());
+		for (FunctionInvocationWrapper branch : this.branches) {
+			Mono<Object> result = Mono.fromCallable(() -> branch.apply(input))
+				.flatMap(value -> value instanceof Publisher<?> publisher ? Mono.from(publisher) : Mono.just(value))
+				.map(value -> value instanceof Message<?> message && !FunctionTypeUtils.isMessage(branch.getOutputType())
+						? message.getPayload()
+						: value)
+				.switchIfEmpty(Mono.error(() -> new IllegalStateException("Function '" + branch.getFunctionDefinition()
+						+ "' of '" + this.functionDefinition + "' did not produce a result.")));
+			results.add(this.scheduler == null ? result : result.subscribeOn(this.scheduler));
+		}
+		return Mono.zip(results, Arrays::asList);
+	}
+
+	/**
+	 * Splits function definition into its segments (e.g., 'split(a,b)|merge' into 'split(a,b)' and 'merge'),
+	 * treating both '|' and ',' as composition delimiters except within parentheses.
+	 * @param functionDefinition function definition
+	 * @return segments of function definition
+	 */
+	static String[] splitFunctionDefinition(String functionDefinition) {
+		if (!functionDefinition.contains("(")) {
+			return StringUtils.delimitedListToStringArray(functionDefinition.replaceAll(",", "|"), "|");
+		}
+		List<String> segments = new ArrayList<>();
+		int depth = 0;
+		int start = 0;
+		for (int i = 0; i < functionDefinition.length(); i++) {
+			char c = functionDefinition.charAt(i);
+			if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+			}
+			else if (depth == 0 && (c == '|' || c == ',')) {
+				segments.add(functionDefinition.substring(start, i).trim());
+				start = i + 1;
+			}
+		}
+		segments.add(functionDefinition.substring(start).trim());
+		return segments.toArray(new String[0]);
+	}
+
+	/**
+	 * Normalizes composition delimiters of the function definition to '|' (see {@link #splitFunctionDefinition(String)}).
+	 * @param functionDefinition function definition
+	 * @return normalized function definition
+	 */
+	static String normalizeFunctionDefinition(String functionDefinition) {
+		return functionDefinition.contains("(")
+				? String.join("|", splitFunctionDefinition(functionDefinition))
+				: functionDefinition.replaceAll(",", "|");
+	}
+
+	/**
+	 * Returns names of all functions referenced by the function definition, including
+	 * the branches of scatter-gather segments.
+	 * @param functionDefinition function definition
+	 * @return function names
+	 */
+	static List<String> getFunctionNames(String functionDefinition) {
+		List<String> functionNames = new ArrayList<>();
+		for (String segment : splitFunctionDefinition(functionDefinition)) {
+			if (isSplit(segment)) {
+				functionNames.addAll(getBranchNames(segment));
+			}
+			else {
+				functionNames.add(segment);
+			}
+		}
+		return functionNames;
+	}
+
+	static boolean isSplit(String segment) {
+		return segment.startsWith(SPLIT_PREFIX) && segment.endsWith(")");
+	}
+
+	static List<String> getBranchNames(String segment) {
+		List<String> branchNames = Arrays.asList(StringUtils.tokenizeToStringArray(
+				segment.substring(SPLIT_PREFIX.length(), segment.length() - 1), ","));
+		Assert.notEmpty(branchNames, "'" + segment + "' must declare at least one function to apply the input to.");
+		return branchNames;
+	}
+
+}
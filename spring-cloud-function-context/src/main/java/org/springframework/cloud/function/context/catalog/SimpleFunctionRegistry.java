@@ -16,10 +16,12 @@
 
 package org.springframework.cloud.function.context.catalog;
 
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,8 +35,13 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -46,24 +53,35 @@ import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
 import reactor.util.function.Tuples;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.function.cloudevent.CloudEventMessageUtils;
+import org.springframework.cloud.function.cloudevent.CloudEventsFunctionInvocationHelper;
 import org.springframework.cloud.function.context.FunctionCatalog;
 import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.FunctionProperties.ExecutionMode;
 import org.springframework.cloud.function.context.FunctionProperties.FunctionConfigurationProperties;
 import org.springframework.cloud.function.context.FunctionRegistration;
 import org.springframework.cloud.function.context.FunctionRegistry;
 import org.springframework.cloud.function.context.PostProcessingFunction;
+import org.springframework.cloud.function.context.catalog.FunctionLatencyStatistics.Phase;
 import org.springframework.cloud.function.context.config.KotlinLambdaToFunctionAutoConfiguration;
 import org.springframework.cloud.function.context.config.RoutingFunction;
 import org.springframework.cloud.function.core.FunctionInvocationHelper;
 import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.cloud.function.observability.jfr.FunctionEvents;
+import org.springframework.cloud.function.observability.jfr.FunctionInvocationEvent;
+import org.springframework.cloud.function.observability.jfr.FunctionLookupEvent;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.http.HttpHeaders;
@@ -72,6 +90,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.CompositeMessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.GenericMessage;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -92,13 +111,15 @@ import org.springframework.util.StringUtils;
  * @author Chris Bono
  * @author Roman Akentev
  */
-public class SimpleFunctionRegistry implements FunctionRegistry {
+public class SimpleFunctionRegistry implements FunctionRegistry, DisposableBean {
 	protected Log logger = LogFactory.getLog(this.getClass());
 	/*
 	 * - do we care about FunctionRegistration after it's been registered? What additional value does it bring?
 	 *
 	 */
 
+	private static Scheduler virtualThreadScheduler;
+
 	private final Set<FunctionRegistration<?>> functionRegistrations = new CopyOnWriteArraySet<>();
 
 	private final Map<String, FunctionInvocationWrapper> wrappedFunctionDefinitions;
@@ -115,6 +136,14 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 
 	private final Object cacheLock = new Object();
 
+	private final Map<String, FunctionRuntimeState> functionRuntimeStates = new ConcurrentHashMap<>();
+
+	private final List<Consumer<FunctionRuntimeState>> runtimeStateListeners = new CopyOnWriteArrayList<>();
+
+	private final LongAdder lookupCacheHits = new LongAdder();
+
+	private final LongAdder lookupCacheMisses = new LongAdder();
+
 	@Autowired(required = false)
 	private FunctionAroundWrapper functionAroundWrapper;
 
@@ -150,6 +179,40 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 	}
 
 
+	/**
+	 * Returns the {@link CompositeMessageConverter} used to convert input and output of functions.
+	 * @return message converter
+	 */
+	public CompositeMessageConverter getMessageConverter() {
+		return this.messageConverter;
+	}
+
+	/**
+	 * Returns functions currently held in the lookup cache.
+	 * @return cached functions keyed by function definition, least recently added first
+	 */
+	public Map<String, FunctionInvocationWrapper> getLookupCacheContents() {
+		synchronized (cacheLock) {
+			return new LinkedHashMap<>(this.wrappedFunctionDefinitions);
+		}
+	}
+
+	/**
+	 * Returns the number of function lookups which found the function in the lookup cache.
+	 * @return number of lookup cache hits
+	 */
+	public long getLookupCacheHits() {
+		return this.lookupCacheHits.sum();
+	}
+
+	/**
+	 * Returns the number of function lookups which did not find the function in the lookup cache.
+	 * @return number of lookup cache misses
+	 */
+	public long getLookupCacheMisses() {
+		return this.lookupCacheMisses.sum();
+	}
+
 	/**
 	 * Will add provided {@link MessageConverter}s to the head of the stack of the existing MessageConverters.
 	 *
@@ -210,7 +273,7 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 
 	boolean isFunctionDefinitionEligible(String functionDefinition) {
 		if (this.functionProperties != null) {
-			boolean matchFoundInBoth = !Collections.disjoint(Arrays.asList(functionDefinition.split("\\|")),
+			boolean matchFoundInBoth = !Collections.disjoint(ScatterGatherFunction.getFunctionNames(functionDefinition),
 					this.functionProperties.getIneligibleDefinitions());
 			return !matchFoundInBoth;
 		}
@@ -229,6 +292,102 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		return this.functionRegistrations.size();
 	}
 
+	/**
+	 * Disposes micro-batching functions (see {@code spring.cloud.function.configuration.<fn>.batching}),
+	 * processing the elements they have already buffered while rejecting new ones.
+	 */
+	@Override
+	public void destroy() {
+		this.functionRuntimeStates.values().forEach(FunctionRuntimeState::dispose);
+	}
+
+	/**
+	 * Returns runtime state of the function, such as its invocation statistics, bulkhead or result cache.
+	 * @param functionDefinition function definition
+	 * @return runtime state or null if the provided function has not been looked up
+	 */
+	public FunctionRuntimeState getRuntimeState(String functionDefinition) {
+		return this.functionRuntimeStates.get(functionDefinition);
+	}
+
+	/**
+	 * Registers listener to be notified about runtime state of each function. Listener is notified about
+	 * already existing states as well as about the ones created in the future (i.e., as functions are looked up).
+	 * Since state is created with all components its function requires, listener is notified once per function.
+	 * @param listener listener accepting runtime state of a function
+	 */
+	public void addRuntimeStateListener(Consumer<FunctionRuntimeState> listener) {
+		this.runtimeStateListeners.add(listener);
+		this.functionRuntimeStates.values().forEach(listener);
+	}
+
+	/*
+	 *
+	 */
+	private FunctionRuntimeState getOrCreateRuntimeState(String functionDefinition) {
+		return this.functionRuntimeStates.computeIfAbsent(functionDefinition, name -> {
+			FunctionRuntimeState state = this.createRuntimeState(name);
+			this.runtimeStateListeners.forEach(listener -> listener.accept(state));
+			return state;
+		});
+	}
+
+	/*
+	 * Creates runtime state with the components required by configuration of the function
+	 * (or by "cacheable" property of its registration).
+	 */
+	private FunctionRuntimeState createRuntimeState(String functionDefinition) {
+		FunctionConfigurationProperties configuration = this.getFunctionConfiguration(functionDefinition);
+		BeanFactoryResolver beanResolver = this.functionProperties != null && this.functionProperties.getApplicationContext() != null
+				? new BeanFactoryResolver(this.functionProperties.getApplicationContext())
+				: null;
+		FunctionExecutionStatistics executionStatistics = null;
+		FunctionBulkhead bulkhead = null;
+		FunctionResultCache resultCache = null;
+		FunctionInvocationCoalescer invocationCoalescer = null;
+		FunctionLatencyStatistics latencyStatistics = null;
+		if (configuration != null) {
+			if (getExecutionScheduler(configuration.getExecutionMode()) != null) {
+				executionStatistics = new FunctionExecutionStatistics();
+			}
+			if (configuration.getBulkhead().getMaxConcurrency() > 0) {
+				bulkhead = new FunctionBulkhead(functionDefinition, configuration.getBulkhead());
+			}
+			if (configuration.getCoalescing().isEnabled()) {
+				invocationCoalescer = new FunctionInvocationCoalescer(functionDefinition, configuration.getCoalescing(), beanResolver);
+			}
+		}
+		if ((configuration != null && configuration.getCache().isEnabled()) || this.isCacheableRegistration(functionDefinition)) {
+			resultCache = new FunctionResultCache(functionDefinition,
+					configuration == null ? new FunctionProperties.CacheProperties() : configuration.getCache(), this.jsonMapper, beanResolver);
+		}
+		if (this.functionProperties != null && this.functionProperties.getObservability().isLatencyTimers()) {
+			latencyStatistics = new FunctionLatencyStatistics();
+		}
+		return new FunctionRuntimeState(functionDefinition, executionStatistics, bulkhead, resultCache,
+				invocationCoalescer, latencyStatistics);
+	}
+
+	/*
+	 * Returns configuration of the function, falling back to the "default" configuration, or null if neither exists.
+	 */
+	@Nullable
+	private FunctionConfigurationProperties getFunctionConfiguration(String functionDefinition) {
+		if (this.functionProperties == null || CollectionUtils.isEmpty(this.functionProperties.getConfiguration())) {
+			return null;
+		}
+		FunctionConfigurationProperties configuration = this.functionProperties.getConfiguration().get(functionDefinition);
+		return configuration == null ? this.functionProperties.getConfiguration().get("default") : configuration;
+	}
+
+	/*
+	 * Whether the function is registered with "cacheable" property set to true.
+	 */
+	private boolean isCacheableRegistration(String functionName) {
+		return this.functionRegistrations.stream()
+				.anyMatch(fr -> fr.getNames().contains(functionName) && Boolean.parseBoolean(fr.getProperties().get("cacheable")));
+	}
+
 	/*
 	 *
 	 */
@@ -241,13 +400,25 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 	 */
 	@SuppressWarnings("unchecked")
 	<T> T doLookup(Class<?> type, String functionDefinition, String[] expectedOutputMimeTypes) {
+		FunctionLookupEvent lookupEvent = FunctionEvents.beginLookup();
 		FunctionInvocationWrapper function;
 		synchronized (cacheLock) {
 			function = this.wrappedFunctionDefinitions.get(functionDefinition);
 		}
+		boolean cacheHit = function != null;
 		if (function == null) {
+			this.lookupCacheMisses.increment();
 			function = this.compose(type, functionDefinition);
 		}
+		else {
+			this.lookupCacheHits.increment();
+		}
+		if (lookupEvent != null && lookupEvent.shouldCommit()) {
+			lookupEvent.setFunctionDefinition(functionDefinition);
+			lookupEvent.setCacheHit(cacheHit);
+			lookupEvent.setFound(function != null);
+			lookupEvent.commit();
+		}
 
 		if (function != null) {
 			if (!ObjectUtils.isEmpty(expectedOutputMimeTypes)) {
@@ -270,7 +441,7 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 	 */
 	String normalizeFunctionDefinition(String functionDefinition) {
 		functionDefinition = StringUtils.hasText(functionDefinition)
-				? functionDefinition.replaceAll(",", "|")
+				? ScatterGatherFunction.normalizeFunctionDefinition(functionDefinition)
 				: System.getProperty(FunctionProperties.FUNCTION_DEFINITION, "");
 
 		Set<String> names = this.getNames(null);
@@ -304,6 +475,9 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		FunctionInvocationWrapper function = functionRegistration != null
 				? this.invocationWrapperInstance(functionName, functionRegistration.getTarget(), functionRegistration.getType())
 				: null;
+		if (function != null) {
+			function = this.microBatchIfNecessary(functionName, function);
+		}
 		if (functionRegistration != null) {
 			Object userFunction = functionRegistration.getUserFunction();
 			if (userFunction instanceof BiConsumer && function != null) {
@@ -332,15 +506,58 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		return function;
 	}
 
+	/*
+	 * If micro-batching is enabled for a function which accepts and returns a collection
+	 * (e.g., Function<List<Order>, List<Result>>), exposes it as Function<Order, Mono<Result>>.
+	 */
+	@SuppressWarnings("unchecked")
+	private FunctionInvocationWrapper microBatchIfNecessary(String functionName, FunctionInvocationWrapper function) {
+		if (this.functionProperties == null || CollectionUtils.isEmpty(this.functionProperties.getConfiguration())) {
+			return function;
+		}
+		FunctionConfigurationProperties configuration = this.functionProperties.getConfiguration().get(functionName);
+		if (configuration == null || !configuration.getBatching().isEnabled()) {
+			return function;
+		}
+		Type inputType = function.getInputType();
+		Type outputType = function.getOutputType();
+		if (!function.isFunction() || !(function.getTarget() instanceof Function)
+				|| !(inputType instanceof ParameterizedType) || !(outputType instanceof ParameterizedType)
+				|| !Collection.class.isAssignableFrom(FunctionTypeUtils.getRawType(inputType))
+				|| !Collection.class.isAssignableFrom(FunctionTypeUtils.getRawType(outputType))) {
+			logger.warn("Micro-batching is enabled for function '" + functionName + "', but will be ignored "
+					+ "since it is only supported for functions which accept and return a collection "
+					+ "(e.g., Function<List<Foo>, List<Bar>>).");
+			return function;
+		}
+		Type itemInputType = FunctionTypeUtils.getImmediateGenericType(inputType, 0);
+		Type itemOutputType = FunctionTypeUtils.getImmediateGenericType(outputType, 0);
+		Type batchingOutputType = ResolvableType.forClassWithGenerics(Mono.class,
+				ResolvableType.forType(itemOutputType == null ? Object.class : itemOutputType)).getType();
+		MicroBatchingFunction microBatchingFunction = this.getOrCreateRuntimeState(functionName).getOrCreateMicroBatchingFunction(() -> {
+			FunctionProperties.BatchingProperties batching = configuration.getBatching();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Exposing function '" + functionName + "' as micro-batching function with batch size "
+						+ batching.getSize() + ", max wait " + batching.getMaxWait() + " and max in-flight batches " + batching.getMaxInFlight());
+			}
+			return new MicroBatchingFunction(functionName, (Function<Object, Object>) function.getTarget(),
+					batching.getSize(), batching.getMaxWait(), batching.getMaxInFlight());
+		});
+		return this.invocationWrapperInstance(functionName, microBatchingFunction,
+				itemInputType == null ? Object.class : itemInputType, batchingOutputType);
+	}
+
 	/*
 	 *
 	 */
 	private FunctionInvocationWrapper compose(Class<?> type, String functionDefinition) {
-		String[] functionNames = StringUtils.delimitedListToStringArray(functionDefinition.replaceAll(",", "|").trim(), "|");
+		String[] functionNames = ScatterGatherFunction.splitFunctionDefinition(functionDefinition.trim());
 		FunctionInvocationWrapper composedFunction = null;
 
 		for (String functionName : functionNames) {
-			FunctionInvocationWrapper function = this.findFunctionInFunctionRegistrations(functionName);
+			FunctionInvocationWrapper function = ScatterGatherFunction.isSplit(functionName)
+					? this.scatterGather(functionName)
+					: this.findFunctionInFunctionRegistrations(functionName);
 			if (function == null) {
 				if (logger.isDebugEnabled()) {
 					logger.debug("Failed to locate function '" + functionName + "' for function definition '"
@@ -355,6 +572,8 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 				else {
 					FunctionInvocationWrapper andThenFunction =
 							invocationWrapperInstance(functionName, function.getTarget(), function.inputType, function.outputType);
+					andThenFunction.asyncResult = function.asyncResult;
+					andThenFunction.skipInputConversion = function.skipInputConversion;
 					composedFunction = (FunctionInvocationWrapper) composedFunction.andThen((Function<Object, Object>) andThenFunction);
 				}
 				composedFunction = this.enrichInputIfNecessary(composedFunction);
@@ -372,6 +591,39 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		return composedFunction;
 	}
 
+	/*
+	 * Creates function representing scatter-gather segment of function definition (e.g., 'split(a,b,c)').
+	 */
+	private FunctionInvocationWrapper scatterGather(String splitDefinition) {
+		List<FunctionInvocationWrapper> branches = new ArrayList<>();
+		for (String branchName : ScatterGatherFunction.getBranchNames(splitDefinition)) {
+			FunctionInvocationWrapper branch = this.findFunctionInFunctionRegistrations(branchName);
+			if (branch == null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to locate function '" + branchName + "' for '" + splitDefinition
+						+ "' amongst existing function registrations. Will check with the bean factory");
+				}
+				return null;
+			}
+			Assert.isTrue(branch.isFunction(), "Only functions can be used with '" + splitDefinition + "', while '"
+					+ branchName + "' is not a function.");
+			branches.add(this.enrichOutputIfNecessary(this.enrichInputIfNecessary(branch)));
+		}
+		ExecutionMode executionMode = this.functionProperties == null
+				? ExecutionMode.BOUNDED_ELASTIC
+				: this.functionProperties.getSplit().getExecutionMode();
+		FunctionInvocationWrapper function = this.invocationWrapperInstance(splitDefinition,
+				new ScatterGatherFunction(splitDefinition, branches, getExecutionScheduler(executionMode)),
+				ResolvableType.forClassWithGenerics(Message.class, Object.class).getType(),
+				ResolvableType.forClassWithGenerics(Mono.class,
+						ResolvableType.forClassWithGenerics(List.class, Object.class)).getType());
+		// each branch converts the original input to its own input type
+		function.setSkipInputConversion(true);
+		// gathered results of elements of Publisher input are emitted in the order of elements
+		function.asyncResult = true;
+		return function;
+	}
+
 	private FunctionInvocationWrapper enrichInputIfNecessary(FunctionInvocationWrapper composedFunction) {
 		if (this.functionProperties == null) {
 			return composedFunction;
@@ -437,6 +689,34 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 				FunctionTypeUtils.getOutputType(functionType));
 	}
 
+	/*
+	 * Returns Scheduler to offload invocation of imperative functions to or null for ExecutionMode.DIRECT.
+	 */
+	private static Scheduler getExecutionScheduler(ExecutionMode executionMode) {
+		if (executionMode == ExecutionMode.VIRTUAL_THREADS) {
+			synchronized (SimpleFunctionRegistry.class) {
+				if (virtualThreadScheduler == null) {
+					try {
+						virtualThreadScheduler = Schedulers.fromExecutor(new VirtualThreadTaskExecutor("function-"));
+					}
+					catch (UnsupportedOperationException e) {
+						LogFactory.getLog(SimpleFunctionRegistry.class).warn("Virtual threads are not supported by "
+								+ "the current JVM, falling back to bounded elastic scheduler.");
+						virtualThreadScheduler = Schedulers.boundedElastic();
+					}
+				}
+				return virtualThreadScheduler;
+			}
+		}
+		else if (executionMode == ExecutionMode.BOUNDED_ELASTIC) {
+			return Schedulers.boundedElastic();
+		}
+		else if (executionMode == ExecutionMode.PARALLEL) {
+			return Schedulers.parallel();
+		}
+		return null;
+	}
+
 	/**
 	 *
 	 */
@@ -485,6 +765,37 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 
 		private boolean isPojoFunction;
 
+		private Scheduler executionScheduler;
+
+		private int executionConcurrency;
+
+		private boolean executionOrdered;
+
+		private final FunctionExecutionStatistics executionStatistics;
+
+		/*
+		 * Whether target produces a single result asynchronously for non-reactive input (i.e., returns
+		 * CompletionStage, which is exposed as Mono, or Mono), in which case results produced for elements
+		 * of Publisher input are flattened.
+		 */
+		private boolean asyncResult;
+
+		private final FunctionBulkhead bulkhead;
+
+		private final FunctionResultCache resultCache;
+
+		private final FunctionInvocationCoalescer invocationCoalescer;
+
+		private final FunctionInvocationStatistics invocationStatistics;
+
+		private final FunctionLatencyStatistics latencyStatistics;
+
+		/*
+		 * Whether invocation with Message input may take the fast path (see applyFastPath(..)). Updated whenever
+		 * composition changes what it depends on (see isFastPathCandidate()).
+		 */
+		private boolean fastPath;
+
 		FunctionInvocationWrapper(String functionDefinition,  Object target, Type inputType, Type outputType) {
 			if (target instanceof PostProcessingFunction) {
 				this.postProcessor = (PostProcessingFunction) target;
@@ -496,21 +807,30 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			}
 			this.target = target;
 			this.inputType = this.normalizeType(inputType);
+			this.asyncResult = FunctionTypeUtils.isCompletionStage(outputType);
+			if (this.asyncResult) {
+				Type resultType = FunctionTypeUtils.getImmediateGenericType(outputType, 0);
+				outputType = ResolvableType.forClassWithGenerics(Mono.class,
+						ResolvableType.forType(this.normalizeType(resultType == null ? Object.class : resultType))).getType();
+			}
 			this.outputType = this.normalizeType(outputType);
 			this.functionDefinition = functionDefinition;
 			this.message = this.inputType != null && FunctionTypeUtils.isMessage(this.inputType);
-			if (functionProperties != null) {
-				Map<String, FunctionConfigurationProperties> funcConfiguration = functionProperties.getConfiguration();
-				if (!CollectionUtils.isEmpty(funcConfiguration)) {
-					FunctionConfigurationProperties configuration = funcConfiguration.get(functionDefinition);
-					if (configuration == null) {
-						configuration = funcConfiguration.get("default");
-					}
-					if (configuration != null) {
-						propagateInputHeaders = configuration.isCopyInputHeaders();
-					}
-				}
+			FunctionRuntimeState runtimeState = getOrCreateRuntimeState(functionDefinition);
+			this.invocationStatistics = runtimeState.getInvocationStatistics();
+			this.executionStatistics = runtimeState.getExecutionStatistics();
+			this.bulkhead = runtimeState.getBulkhead();
+			this.resultCache = runtimeState.getResultCache();
+			this.invocationCoalescer = runtimeState.getInvocationCoalescer();
+			this.latencyStatistics = runtimeState.getLatencyStatistics();
+			FunctionConfigurationProperties configuration = getFunctionConfiguration(functionDefinition);
+			if (configuration != null) {
+				propagateInputHeaders = configuration.isCopyInputHeaders();
+				this.executionScheduler = getExecutionScheduler(configuration.getExecutionMode());
+				this.executionConcurrency = configuration.getConcurrency();
+				this.executionOrdered = configuration.isOrdered();
 			}
+			this.fastPath = this.isFastPathCandidate();
 		}
 
 		public int hashCode() {
@@ -666,12 +986,65 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 				result = functionAroundWrapper.apply(input, this);
 			}
 			else {
-				result = this.doApply(input);
+				Long deadline = input instanceof Message<?> message ? FunctionDeadline.getDeadline(message.getHeaders()) : null;
+				result = deadline == null ? this.invokeWithinBulkhead(input) : this.invokeWithDeadline(input, deadline);
 			}
 
 			return result;
 		}
 
+		/*
+		 *
+		 */
+		private Object invokeWithinBulkhead(Object input) {
+			return this.bulkhead != null ? this.bulkhead.invoke(input, this::doApply) : this.doApply(input);
+		}
+
+		/*
+		 * Makes deadline available to imperative function via FunctionDeadline and to reactive function via
+		 * Reactor context, cancelling the returned Publisher if it does not complete before the deadline.
+		 */
+		private Object invokeWithDeadline(Object input, long deadline) {
+			if (System.currentTimeMillis() >= deadline) {
+				throw new FunctionDeadlineExceededException(this.functionDefinition, "Invocation of function '"
+						+ this.functionDefinition + "' was not started since its deadline has already passed");
+			}
+			Long previousDeadline = FunctionDeadline.setCurrentDeadline(deadline);
+			Object result;
+			try {
+				result = this.invokeWithinBulkhead(input);
+			}
+			finally {
+				FunctionDeadline.setCurrentDeadline(previousDeadline);
+			}
+
+			if (result instanceof Mono<?> mono) {
+				return Mono.defer(() -> mono.timeout(this.getRemainingTime(deadline), Mono.error(() -> this.deadlineExceeded())))
+					.contextWrite(Context.of(FunctionDeadline.CONTEXT_KEY, deadline));
+			}
+			else if (result instanceof Publisher<?> publisher) {
+				return Flux.defer(() -> Flux.from(publisher).timeout(Mono.delay(this.getRemainingTime(deadline)),
+						value -> Mono.delay(this.getRemainingTime(deadline)), Flux.error(() -> this.deadlineExceeded())))
+					.contextWrite(Context.of(FunctionDeadline.CONTEXT_KEY, deadline));
+			}
+			return result;
+		}
+
+		/*
+		 *
+		 */
+		private Duration getRemainingTime(long deadline) {
+			return Duration.ofMillis(Math.max(0, deadline - System.currentTimeMillis()));
+		}
+
+		/*
+		 *
+		 */
+		private FunctionDeadlineExceededException deadlineExceeded() {
+			return new FunctionDeadlineExceededException(this.functionDefinition, "Invocation of function '"
+					+ this.functionDefinition + "' did not complete before its deadline");
+		}
+
 		@Override
 		public Object get() {
 			return this.apply(null);
@@ -703,6 +1076,18 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			return this.isTypePublisher(this.inputType);
 		}
 
+		/**
+		 * Returns whether invocation with Publisher input produces exactly one result for each element,
+		 * in the order of elements. That is the case for functions which are invoked for each element
+		 * (i.e., are not reactive, composed or routing) and do not produce their results asynchronously
+		 * or out of order.
+		 * @return true if results of invocation with Publisher input correspond to its elements one to one
+		 */
+		public boolean isOneToOne() {
+			return this.isFunction() && !this.isInputTypePublisher() && !this.isComposed() && !this.isRoutingFunction()
+					&& !this.asyncResult && (this.executionScheduler == null || this.executionOrdered);
+		}
+
 		public boolean isOutputTypePublisher() {
 			return this.isTypePublisher(this.outputType);
 		}
@@ -747,6 +1132,7 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 				Consumer wrapper = new ConsumerWrapper((Consumer) afterWrapper.getTarget());
 				afterWrapper.target = wrapper;
 				afterWrapper.inputType = this.outputType;
+				afterWrapper.fastPath = afterWrapper.isFastPathCandidate();
 			}
 			//
 
@@ -777,6 +1163,13 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			else if (this.outputType == null) {
 				throw new IllegalArgumentException("Can NOT compose anything with Consumer");
 			}
+			else if (FunctionTypeUtils.isMono(this.outputType) && !FunctionTypeUtils.isPublisher(afterWrapper.inputType)
+					&& !FunctionTypeUtils.isPublisher(afterWrapper.outputType)) {
+				// imperative function applied to Mono (e.g., 'split(a,b)|merge') still produces Mono
+				composedFunctionType = ResolvableType.forClassWithGenerics(Function.class,
+						ResolvableType.forType(this.inputType),
+						ResolvableType.forClassWithGenerics(Mono.class, ResolvableType.forType(afterWrapper.outputType))).getType();
+			}
 			else {
 				composedFunctionType = ResolvableType.forClassWithGenerics(Function.class,
 						ResolvableType.forType(this.inputType),
@@ -793,6 +1186,7 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			if (((FunctionInvocationWrapper) after).target instanceof PostProcessingFunction) {
 				composedFunction.postProcessor = (PostProcessingFunction) ((FunctionInvocationWrapper) after).target;
 			}
+			composedFunction.fastPath = composedFunction.isFastPathCandidate();
 
 			return (Function<Object, V>) composedFunction;
 		}
@@ -824,14 +1218,91 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		/*
 		 *
 		 */
-		@SuppressWarnings("unchecked")
 		Object doApply(Object input) {
-			Object result;
+			FunctionInvocationEvent invocationEvent = FunctionEvents.beginInvocation();
+			if (invocationEvent == null) {
+				return this.doApplyWithStatistics(input);
+			}
+			Object result = null;
+			Throwable failure = null;
+			try {
+				result = this.doApplyWithStatistics(input);
+				return result;
+			}
+			catch (Throwable e) {
+				failure = e;
+				throw e;
+			}
+			finally {
+				if (invocationEvent.shouldCommit()) {
+					invocationEvent.setFunctionDefinition(this.functionDefinition);
+					invocationEvent.setInputType(input == null ? null : input.getClass());
+					invocationEvent.setReactive(input instanceof Publisher || result instanceof Publisher);
+					invocationEvent.setFailure(failure == null ? null : failure.toString());
+					invocationEvent.commit();
+				}
+			}
+		}
+
+		/*
+		 *
+		 */
+		private Object doApplyWithStatistics(Object input) {
+			if (input instanceof Publisher) {
+				return this.doApplyWithLatencyStatistics(input);
+			}
+			this.invocationStatistics.invocationStarted();
+			try {
+				return this.doApplyWithLatencyStatistics(input);
+			}
+			catch (Throwable e) {
+				this.invocationStatistics.invocationFailed();
+				throw e;
+			}
+			finally {
+				this.invocationStatistics.invocationCompleted();
+			}
+		}
+
+		/*
+		 *
+		 */
+		private Object doApplyWithLatencyStatistics(Object input) {
+			if (input instanceof Message<?> message && !this.isInputTypePublisher()) {
+				if (this.isCloudEventBatchInput(message)) {
+					return this.applyToCloudEventBatch(message);
+				}
+				if (this.fastPath && !this.isCollectionInputToSplit(message)) {
+					return this.applyFastPath(message);
+				}
+			}
 
 			input = this.fluxifyInputIfNecessary(input);
 
+			if (this.latencyStatistics == null || input instanceof Publisher) {
+				return this.convertAndInvoke(input, null);
+			}
+
+			FunctionLatencyHistogram[] latencyHistograms = this.latencyStatistics.getOrCreateHistograms(
+					input instanceof Message<?> message ? message.getHeaders().get(MessageHeaders.CONTENT_TYPE) : null);
+			return this.convertAndInvoke(input, latencyHistograms);
+		}
+
+		/*
+		 *
+		 */
+		@SuppressWarnings("unchecked")
+		private Object convertAndInvoke(Object input, @Nullable FunctionLatencyHistogram[] latencyHistograms) {
+			Object result;
+
+			long phaseStartTime = latencyHistograms == null ? 0 : System.nanoTime();
+
 			Object convertedInput = input == null ? null : this.convertInputIfNecessary(input, this.inputType);
 
+			if (latencyHistograms != null) {
+				phaseStartTime = this.recordLatency(latencyHistograms, Phase.INPUT_CONVERSION, phaseStartTime, null);
+			}
+
 			if (this.isRoutingFunction() || this.isComposed()) {
 				result = ((Function) this.target).apply(convertedInput);
 			}
@@ -840,9 +1311,12 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			}
 			else if (this.isConsumer()) {
 				result = this.invokeConsumer(convertedInput);
+				if (latencyHistograms != null) {
+					this.recordLatency(latencyHistograms, Phase.EXECUTION, phaseStartTime, result);
+				}
 			}
 			else { // Function
-				result = this.invokeFunction(convertedInput);
+				result = this.invokeFunction(convertedInput, latencyHistograms);
 			}
 
 			if (this.postProcessor != null) {
@@ -853,11 +1327,71 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			}
 
 			if (result != null && this.outputType != null) {
+				phaseStartTime = latencyHistograms == null ? 0 : System.nanoTime();
 				result = this.convertOutputIfNecessary(result, this.outputType, this.expectedOutputContentType);
+				if (latencyHistograms != null) {
+					this.recordLatency(latencyHistograms, Phase.OUTPUT_CONVERSION, phaseStartTime, result);
+				}
 			}
 			return result;
 		}
 
+		/*
+		 * Whether function is an imperative function of plain (non-generic) types other than Object, Message,
+		 * Publisher, CompletionStage or collection, which is neither composed nor post-processed and whose
+		 * latencies are not recorded. Everything else is handled by the steps shared with the general invocation path.
+		 */
+		private boolean isFastPathCandidate() {
+			return this.inputType instanceof Class<?> inputClass && this.isFastPathType(inputClass)
+					&& this.outputType instanceof Class<?> outputClass && this.isFastPathType(outputClass)
+					&& this.target instanceof Function && !(this.target instanceof RoutingFunction)
+					&& !(this.target instanceof PassThruFunction) && !this.composed && this.postProcessor == null
+					&& !this.asyncResult && this.latencyStatistics == null;
+		}
+
+		/*
+		 *
+		 */
+		private boolean isFastPathType(Class<?> type) {
+			return type == byte[].class || (type != Object.class && type != Void.class && type != Optional.class
+					&& !type.isArray() && !Modifier.isAbstract(type.getModifiers())
+					&& !Message.class.isAssignableFrom(type) && !Publisher.class.isAssignableFrom(type)
+					&& !CompletionStage.class.isAssignableFrom(type) && !Iterable.class.isAssignableFrom(type)
+					&& !Map.class.isAssignableFrom(type));
+		}
+
+		/*
+		 * Invokes imperative function with Message input (which is neither a batch of Cloud Events nor a collection
+		 * to be split) going through the same conversion, invocation and enrichment steps as the general invocation
+		 * path, while skipping its handling of reactive and collection input and result. Output Message is only
+		 * created if output conversion retains it.
+		 */
+		private Object applyFastPath(Message<?> message) {
+			Object convertedInput = this.convertInputIfNecessary(message, this.inputType);
+			Object result = this.invokeTarget(this.extractInputValue(convertedInput), convertedInput);
+			if (result == null) {
+				return null;
+			}
+			if (convertedInput instanceof OriginalMessageHolder originalMessageHolder
+					&& !this.isEnrichmentRedundant(originalMessageHolder.getOriginalMessage(), result)) {
+				result = this.enrichInvocationResultIfNecessary(originalMessageHolder.getOriginalMessage(), result);
+			}
+			return this.convertOutputIfNecessary(result, this.outputType, this.expectedOutputContentType);
+		}
+
+		/*
+		 * Records latency of the phase which started at the provided time unless the phase produced
+		 * reactive result (in which case the actual work happens later), returning the time it ended.
+		 */
+		private long recordLatency(FunctionLatencyHistogram[] latencyHistograms, Phase phase, long phaseStartTime,
+				@Nullable Object phaseResult) {
+			long phaseEndTime = System.nanoTime();
+			if (!(phaseResult instanceof Publisher) && !(phaseResult instanceof CompletionStage)) {
+				latencyHistograms[phase.ordinal()].record(phaseEndTime - phaseStartTime);
+			}
+			return phaseEndTime;
+		}
+
 		/*
 		 *
 		 */
@@ -889,7 +1423,7 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		 */
 		private Object enrichInvocationResultIfNecessary(Object input, Object result) {
 			if (result != null && !(result instanceof Publisher) && input instanceof Message) {
-				if (functionInvocationHelper != null && CloudEventMessageUtils.isCloudEvent(((Message) input))) {
+				if (this.isResultPostProcessed((Message) input)) {
 					result = functionInvocationHelper.postProcessResult(result, (Message) input);
 				}
 				if (!(result instanceof Message) && !FunctionTypeUtils.isCollectionOfMessage(this.outputType)) {
@@ -899,6 +1433,22 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			return result;
 		}
 
+		/*
+		 * Whether result of invocation with the provided input is post-processed by FunctionInvocationHelper.
+		 */
+		private boolean isResultPostProcessed(Message<?> input) {
+			return functionInvocationHelper != null && CloudEventMessageUtils.isCloudEvent(input);
+		}
+
+		/*
+		 * Whether Message created by enrichInvocationResultIfNecessary(..) from non-reactive result of invocation
+		 * with the provided input would be reduced to the result by output conversion anyway.
+		 */
+		private boolean isEnrichmentRedundant(Message<?> input, Object result) {
+			return !this.isResultPostProcessed(input) && !this.isPojoFunction
+					&& this.isOutputMessageReducedToPayload(result, input, this.outputType, this.expectedOutputContentType);
+		}
+
 		/*
 		 * Will ensure no headers with null values are copied.
 		 */
@@ -914,6 +1464,13 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 
 		@SuppressWarnings("unchecked")
 		private Object fluxifyInputIfNecessary(Object input) {
+			if (input instanceof Message<?> message && this.isCloudEventBatchInput(message)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Input represents batch of Cloud Events. Function '" + this
+							+ "' will be invoked for each event in the batch");
+				}
+				return Flux.fromIterable(CloudEventMessageUtils.toCloudEventMessages(message));
+			}
 			if (input instanceof Message && !((Message) input).getHeaders().containsKey("user-agent") && this.isConsumer() && !this.isInputTypePublisher()) {
 				return input;
 			}
@@ -922,21 +1479,8 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			}
 
 			if (!this.isRoutingFunction() && !(input instanceof Publisher)) {
-				Object payload = input;
-				var treatPayloadAsPlainText = false;
-				if (input instanceof Message msg) {
-					if (msg.getHeaders().containsKey("payload")) {
-						payload = msg.getHeaders().get("payload");
-					}
-					else {
-						payload = msg.getPayload();
-					}
-					treatPayloadAsPlainText = contentTypeHeaderValue(msg).equals(MimeTypeUtils.TEXT_PLAIN_VALUE);
-				}
-
-				if ((!treatPayloadAsPlainText && JsonMapper.isJsonStringRepresentsCollection(payload))
-						&& !FunctionTypeUtils.isTypeCollection(this.inputType)
-						&& !FunctionTypeUtils.isTypeArray(this.inputType)) {
+				if (this.isCollectionInputToSplit(input)) {
+					Object payload = this.getPayloadToSplit(input);
 					logger.debug("Actual input represents a collection while input type of the function does not represent a collection. " +
 						"Therefore framework will attempt invoke function for each element in the collection.");
 					MessageHeaders headers = input instanceof Message ? ((Message) input).getHeaders() : new MessageHeaders(Collections.emptyMap());
@@ -982,6 +1526,85 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			return input;
 		}
 
+		/*
+		 * Whether input represents a collection (e.g., JSON array) while input type of the function does not,
+		 * in which case the function is invoked for each element.
+		 */
+		private boolean isCollectionInputToSplit(Object input) {
+			if (input instanceof Message<?> message
+					&& contentTypeHeaderValue(message).equals(MimeTypeUtils.TEXT_PLAIN_VALUE)) {
+				return false;
+			}
+			Object payload = this.getPayloadToSplit(input);
+			return (payload instanceof Collection || this.isJsonArrayCandidate(payload))
+					&& JsonMapper.isJsonStringRepresentsCollection(payload)
+					&& !FunctionTypeUtils.isTypeCollection(this.inputType)
+					&& !FunctionTypeUtils.isTypeArray(this.inputType);
+		}
+
+		/*
+		 *
+		 */
+		private Object getPayloadToSplit(Object input) {
+			if (input instanceof Message<?> message) {
+				return message.getHeaders().containsKey("payload") ? message.getHeaders().get("payload") : message.getPayload();
+			}
+			return input;
+		}
+
+		/*
+		 * Cheap check whether payload may represent JSON array, sparing its parsing otherwise.
+		 */
+		private boolean isJsonArrayCandidate(Object payload) {
+			if (payload instanceof byte[] bytes) {
+				for (byte b : bytes) {
+					if (!Character.isWhitespace(b)) {
+						return b == '[' || b < 0;
+					}
+				}
+			}
+			else if (payload instanceof String string) {
+				for (int i = 0; i < string.length(); i++) {
+					char c = string.charAt(i);
+					if (!Character.isWhitespace(c)) {
+						return c == '[' || c > 127;
+					}
+				}
+			}
+			return false;
+		}
+
+		/*
+		 * Batch of Cloud Events is only split for functions and consumers that accept individual events.
+		 */
+		private boolean isCloudEventBatchInput(Message<?> message) {
+			return CloudEventMessageUtils.isCloudEventBatch(message)
+					&& functionInvocationHelper != null && !this.isRoutingFunction() && !this.isSupplier()
+					&& !FunctionTypeUtils.isMultipleArgumentType(this.inputType)
+					&& !FunctionTypeUtils.isMono(this.inputType)
+					&& !FunctionTypeUtils.isTypeCollection(this.inputType)
+					&& !FunctionTypeUtils.isTypeArray(this.inputType);
+		}
+
+		/*
+		 * Invokes imperative function (or consumer) once for each event of the batch, returning the list
+		 * of results (or nothing for consumer).
+		 */
+		private Object applyToCloudEventBatch(Message<?> message) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Input represents batch of Cloud Events. Function '" + this
+						+ "' will be invoked for each event in the batch");
+			}
+			List<Object> results = this.isConsumer() ? null : new ArrayList<>();
+			for (Message<?> event : CloudEventMessageUtils.toCloudEventMessages(message)) {
+				Object result = this.doApplyWithLatencyStatistics(event);
+				if (results != null) {
+					results.add(result);
+				}
+			}
+			return results;
+		}
+
 		private String contentTypeHeaderValue(Message<?> msg) {
 			var contentType = msg.getHeaders().get(MessageHeaders.CONTENT_TYPE);
 			if (contentType == null) {
@@ -993,10 +1616,64 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 			return Objects.toString(contentType);
 		}
 
+		/*
+		 * Invokes function for each element on the execution scheduler, allowing up to 'executionConcurrency'
+		 * concurrent invocations while keeping track of pending and in-flight invocations.
+		 */
+		@SuppressWarnings("unchecked")
+		private Flux<Object> invokeFunctionOnExecutionScheduler(Flux<Object> input) {
+			Function<Object, Mono<Object>> invocation = value -> {
+				this.executionStatistics.enqueued();
+				AtomicBoolean started = new AtomicBoolean();
+				return Mono.fromCallable(() -> {
+					boolean counted = started.compareAndSet(false, true);
+					if (counted) {
+						this.executionStatistics.started();
+					}
+					try {
+						return this.invokeFunctionAndEnrichResultIfNecessary(value);
+					}
+					finally {
+						if (counted) {
+							this.executionStatistics.completed();
+						}
+					}
+				})
+				.subscribeOn(this.executionScheduler)
+				.doOnCancel(() -> {
+					if (started.compareAndSet(false, true)) {
+						this.executionStatistics.dequeued();
+					}
+				})
+				.flatMap(result -> this.asyncResult ? (Mono<Object>) result : Mono.just(result));
+			};
+			return this.executionOrdered
+					? input.flatMapSequential(invocation, this.executionConcurrency)
+					: input.flatMap(invocation, this.executionConcurrency);
+		}
+
 		@SuppressWarnings("unchecked")
-		private Object invokeFunction(Object convertedInput) {
+		private Object invokeFunction(Object convertedInput, @Nullable FunctionLatencyHistogram[] latencyHistograms) {
 			Object result;
-			if (!this.isTypePublisher(this.inputType) && convertedInput instanceof Publisher publisherInput) {
+			if (!this.isTypePublisher(this.inputType) && convertedInput instanceof Publisher publisherInput
+					&& this.executionScheduler != null) {
+				result = publisherInput instanceof Mono
+						? Mono.from(publisherInput).publishOn(this.executionScheduler)
+							.map(value -> this.invokeFunctionAndEnrichResultIfNecessary(value))
+							.flatMap(value -> this.asyncResult ? (Mono<Object>) value : Mono.just(value))
+							.doOnError(ex -> logger.error("Failed to invoke function '" + this.functionDefinition + "'", (Throwable) ex))
+						: this.invokeFunctionOnExecutionScheduler(Flux.from(publisherInput))
+							.doOnError(ex -> logger.error("Failed to invoke function '" + this.functionDefinition + "'", (Throwable) ex));
+			}
+			else if (!this.isTypePublisher(this.inputType) && convertedInput instanceof Publisher publisherInput
+					&& this.asyncResult) {
+				result = publisherInput instanceof Mono
+						? Mono.from(publisherInput).flatMap(value -> (Mono<Object>) this.invokeFunctionAndEnrichResultIfNecessary(value))
+							.doOnError(ex -> logger.error("Failed to invoke function '" + this.functionDefinition + "'", (Throwable) ex))
+						: Flux.from(publisherInput).flatMapSequential(value -> (Mono<Object>) this.invokeFunctionAndEnrichResultIfNecessary(value))
+							.doOnError(ex -> logger.error("Failed to invoke function '" + this.functionDefinition + "'", (Throwable) ex));
+			}
+			else if (!this.isTypePublisher(this.inputType) && convertedInput instanceof Publisher publisherInput) {
 				result = publisherInput instanceof Mono
 						? Mono.from(publisherInput).map(value -> this.invokeFunctionAndEnrichResultIfNecessary(value))
 							.doOnError(ex -> logger.error("Failed to invoke function '" + this.functionDefinition + "'", (Throwable) ex))
@@ -1004,7 +1681,7 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 							.doOnError(ex -> logger.error("Failed to invoke function '" + this.functionDefinition + "'", (Throwable) ex));
 			}
 			else {
-				result = this.invokeFunctionAndEnrichResultIfNecessary(convertedInput);
+				result = this.invokeFunctionAndEnrichResultIfNecessary(convertedInput, latencyHistograms);
 				if (result instanceof Flux flux) {
 					result = flux.doOnError(ex -> logger.error("Failed to invoke function '"
 							+ this.functionDefinition + "'", (Throwable) ex));
@@ -1020,8 +1697,15 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		/*
 		 *
 		 */
-		@SuppressWarnings("unchecked")
 		private Object invokeFunctionAndEnrichResultIfNecessary(Object value) {
+			return this.invokeFunctionAndEnrichResultIfNecessary(value, null);
+		}
+
+		/*
+		 *
+		 */
+		@SuppressWarnings("unchecked")
+		private Object invokeFunctionAndEnrichResultIfNecessary(Object value, @Nullable FunctionLatencyHistogram[] latencyHistograms) {
 			AtomicReference<Message<?>> firstInputMessage = new AtomicReference<>();
 
 			Object inputValue;
@@ -1042,32 +1726,116 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 				});
 			}
 			else {
-				inputValue = this.extractValueFromOriginalValueHolderIfNecessary(value);
-			}
-
-			if (!(this.target instanceof PassThruFunction) && inputValue instanceof Message && !this.isInputTypeMessage()) {
-				inputValue = ((Message) inputValue).getPayload();
+				inputValue = this.extractInputValue(value);
 			}
 
 			if (logger.isDebugEnabled()) {
 				logger.debug("Invoking function: " + this + "with input type: " + this.getInputType());
 			}
 
-			Object result;
-			if (inputValue != null && inputValue.getClass().getName().equals("org.springframework.kafka.support.KafkaNull")) {
-				result = ((Function) this.target).apply(null);
-			}
-			else {
-				result = ((Function) this.target).apply(inputValue);
+			long phaseStartTime = latencyHistograms == null ? 0 : System.nanoTime();
+			Object result = this.invokeTarget(inputValue, value);
+
+			if (latencyHistograms != null) {
+				phaseStartTime = this.recordLatency(latencyHistograms, Phase.EXECUTION, phaseStartTime, result);
 			}
 
 			if (result instanceof Publisher && functionInvocationHelper != null) {
 				result = this.postProcessFunction((Publisher) result, firstInputMessage);
 			}
 
-			return value instanceof OriginalMessageHolder originalMessageHolder
-					? this.enrichInvocationResultIfNecessary((originalMessageHolder).getOriginalMessage(), result)
-					: result;
+			if (this.asyncResult && result instanceof CompletionStage stage) {
+				Mono<Object> monoResult = Mono.fromCompletionStage(stage);
+				return value instanceof OriginalMessageHolder originalMessageHolder
+						? monoResult.map(v -> this.enrichInvocationResultIfNecessary(originalMessageHolder.getOriginalMessage(), v))
+						: monoResult;
+			}
+
+			if (value instanceof OriginalMessageHolder originalMessageHolder) {
+				result = this.enrichInvocationResultIfNecessary((originalMessageHolder).getOriginalMessage(), result);
+			}
+			if (latencyHistograms != null) {
+				this.recordLatency(latencyHistograms, Phase.POST_PROCESSING, phaseStartTime, result);
+			}
+			return result;
+		}
+
+		/*
+		 * Returns the value to invoke target function with for the provided (converted) input.
+		 */
+		private Object extractInputValue(Object value) {
+			Object inputValue = this.extractValueFromOriginalValueHolderIfNecessary(value);
+			if (!(this.target instanceof PassThruFunction) && inputValue instanceof Message && !this.isInputTypeMessage()) {
+				inputValue = ((Message<?>) inputValue).getPayload();
+			}
+			return inputValue;
+		}
+
+		/*
+		 * Invokes target function with the provided input value, using result cache and invocation coalescer if configured.
+		 */
+		@SuppressWarnings("unchecked")
+		private Object invokeTarget(Object inputValue, Object originalValue) {
+			if (inputValue != null && inputValue.getClass().getName().equals("org.springframework.kafka.support.KafkaNull")) {
+				return ((Function) this.target).apply(null);
+			}
+			else if (this.resultCache != null && !(inputValue instanceof Publisher)) {
+				return this.invokeFunctionWithResultCache(inputValue, originalValue);
+			}
+			else if (this.invocationCoalescer != null && !(inputValue instanceof Publisher)) {
+				return this.invokeFunctionWithCoalescing(inputValue, originalValue);
+			}
+			return ((Function) this.target).apply(inputValue);
+		}
+
+		/*
+		 * Returns cached result for the input if available, otherwise invokes the function and caches its result.
+		 * Message, Publisher and CompletionStage results are not cached.
+		 */
+		@SuppressWarnings("unchecked")
+		private Object invokeFunctionWithResultCache(Object inputValue, Object originalValue) {
+			Object key = this.resultCache.getKey(inputValue instanceof Message<?> message ? message.getPayload() : inputValue,
+					this.getInputHeaders(inputValue, originalValue));
+			Object result = key == null ? null : this.resultCache.get(key);
+			if (result == null) {
+				result = this.invocationCoalescer != null
+						? this.invokeFunctionWithCoalescing(inputValue, originalValue)
+						: ((Function) this.target).apply(inputValue);
+				if (key != null && result != null && !(result instanceof Message)
+						&& !(result instanceof Publisher) && !(result instanceof CompletionStage)) {
+					this.resultCache.put(key, result);
+				}
+			}
+			else if (logger.isDebugEnabled()) {
+				logger.debug("Using cached result of function '" + this.functionDefinition + "'");
+			}
+			return result;
+		}
+
+		/*
+		 * Invokes the function unless invocation with the same input is already in progress,
+		 * in which case its result is shared.
+		 */
+		@SuppressWarnings("unchecked")
+		private Object invokeFunctionWithCoalescing(Object inputValue, Object originalValue) {
+			Object key = this.invocationCoalescer.getKey(inputValue instanceof Message<?> message ? message.getPayload() : inputValue,
+					this.getInputHeaders(inputValue, originalValue));
+			return key == null
+					? ((Function) this.target).apply(inputValue)
+					: this.invocationCoalescer.invoke(key, () -> ((Function) this.target).apply(inputValue));
+		}
+
+		/*
+		 *
+		 */
+		private MessageHeaders getInputHeaders(Object inputValue, Object originalValue) {
+			if (originalValue instanceof OriginalMessageHolder originalMessageHolder) {
+				return originalMessageHolder.getOriginalMessage().getHeaders();
+			}
+			else if (inputValue instanceof Message<?> message) {
+				return message.getHeaders();
+			}
+			return null;
 		}
 
 		@SuppressWarnings("unchecked")
@@ -1261,17 +2029,28 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 		// need a cleaner solution
 		@SuppressWarnings("unchecked")
 		private Message filterOutHeaders(Message message) {
+			if (!message.getHeaders().containsKey("spring.cloud.stream.sendto.destination")) {
+				return message;
+			}
 			return MessageBuilder.fromMessage(message).removeHeader("spring.cloud.stream.sendto.destination").build();
 		}
 
-		private boolean isExtractPayload(Message<?> message, Type type) {
+		/*
+		 * Whether output conversion reduces output Message with the provided payload and headers of the provided
+		 * message to its payload (rather than retaining it).
+		 */
+		private boolean isOutputMessageReducedToPayload(Object payload, Message<?> message, Type type, String[] contentType) {
+			return !this.skipOutputConversion && !(payload instanceof byte[] && ObjectUtils.isEmpty(contentType))
+					&& this.isExtractPayload(payload, message, type);
+		}
+
+		private boolean isExtractPayload(Object payload, Message<?> message, Type type) {
 			if (FunctionTypeUtils.isCollectionOfMessage(type)) {
 				return true;
 			}
 			if (this.propagateInputHeaders || this.isRoutingFunction() || FunctionTypeUtils.isMessage(type)) {
 				return false;
 			}
-			Object payload = message.getPayload();
 			if ((payload instanceof byte[])) {
 				return false;
 			}
@@ -1302,12 +2081,12 @@ public class SimpleFunctionRegistry implements FunctionRegistry {
 				return this.convertOutputPublisherIfNecessary((Publisher) convertedOutput, type, contentType);
 			}
 
-			if (convertedOutput instanceof Message) {
-				if (((Message) convertedOutput).getPayload() instanceof byte[] && ObjectUtils.isEmpty(contentType)) {
-					return convertedOutput;
+			if (convertedOutput instanceof Message<?> message) {
+				if (this.isOutputMessageReducedToPayload(message.getPayload(), message, type, contentType)) {
+					convertedOutput = message.getPayload();
 				}
-				else if (isExtractPayload((Message<?>) convertedOutput, type)) {
-					convertedOutput = ((Message) convertedOutput).getPayload();
+				else if (message.getPayload() instanceof byte[] && ObjectUtils.isEmpty(contentType)) {
+					return convertedOutput;
 				}
 			}
 
@@ -18,7 +18,9 @@ package org.springframework.cloud.function.context.config;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -26,6 +28,11 @@ import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
 import io.cloudevents.spring.messaging.CloudEventMessageConverter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.joda.time.DateTimeZone;
@@ -40,6 +47,7 @@ import tools.jackson.datatype.joda.JodaModule;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -54,7 +62,13 @@ import org.springframework.cloud.function.context.FunctionRegistration;
 import org.springframework.cloud.function.context.FunctionRegistry;
 import org.springframework.cloud.function.context.MessageRoutingCallback;
 import org.springframework.cloud.function.context.catalog.BeanFactoryAwareFunctionRegistry;
+import org.springframework.cloud.function.context.catalog.FunctionBulkhead;
+import org.springframework.cloud.function.context.catalog.FunctionExecutionStatistics;
+import org.springframework.cloud.function.context.catalog.FunctionInvocationCoalescer;
+import org.springframework.cloud.function.context.catalog.FunctionLatencyStatistics;
+import org.springframework.cloud.function.context.catalog.FunctionResultCache;
 import org.springframework.cloud.function.context.catalog.FunctionTypeUtils;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry;
 import org.springframework.cloud.function.core.FunctionInvocationHelper;
 import org.springframework.cloud.function.json.GsonMapper;
 import org.springframework.cloud.function.json.JacksonMapper;
@@ -201,6 +215,180 @@ public class ContextFunctionCatalogAutoConfiguration {
 		}
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	static class FunctionExecutionMetricsConfiguration {
+
+		/**
+		 * Name of the gauge of input elements waiting for function invocation to start.
+		 */
+		static final String PENDING_METRIC_NAME = "spring.cloud.function.execution.pending";
+
+		/**
+		 * Name of the gauge of function invocations in progress.
+		 */
+		static final String IN_FLIGHT_METRIC_NAME = "spring.cloud.function.execution.in-flight";
+
+		/**
+		 * Name of the gauge of function invocations in progress within the limits of bulkhead.
+		 */
+		static final String BULKHEAD_IN_FLIGHT_METRIC_NAME = "spring.cloud.function.bulkhead.in-flight";
+
+		/**
+		 * Name of the gauge of function invocations waiting for bulkhead permit.
+		 */
+		static final String BULKHEAD_QUEUED_METRIC_NAME = "spring.cloud.function.bulkhead.queued";
+
+		/**
+		 * Name of the counter of function invocations rejected by bulkhead.
+		 */
+		static final String BULKHEAD_REJECTED_METRIC_NAME = "spring.cloud.function.bulkhead.rejected";
+
+		/**
+		 * Name of the counter of function invocations for which cached result was used.
+		 */
+		static final String CACHE_HITS_METRIC_NAME = "spring.cloud.function.cache.hits";
+
+		/**
+		 * Name of the counter of function invocations for which no cached result was available.
+		 */
+		static final String CACHE_MISSES_METRIC_NAME = "spring.cloud.function.cache.misses";
+
+		/**
+		 * Name of the counter of evicted function results.
+		 */
+		static final String CACHE_EVICTIONS_METRIC_NAME = "spring.cloud.function.cache.evictions";
+
+		/**
+		 * Name of the gauge of cached function results.
+		 */
+		static final String CACHE_SIZE_METRIC_NAME = "spring.cloud.function.cache.size";
+
+		/**
+		 * Name of the gauge of total weight of cached function results.
+		 */
+		static final String CACHE_WEIGHT_METRIC_NAME = "spring.cloud.function.cache.weight";
+
+		/**
+		 * Name of the gauge of distinct function invocations in progress which can be coalesced with.
+		 */
+		static final String COALESCING_IN_FLIGHT_METRIC_NAME = "spring.cloud.function.coalescing.in-flight";
+
+		/**
+		 * Name of the counter of function invocations which shared the result of another invocation.
+		 */
+		static final String COALESCING_COALESCED_METRIC_NAME = "spring.cloud.function.coalescing.coalesced";
+
+		/**
+		 * Name of the timer of each phase of function invocation.
+		 */
+		static final String LATENCY_METRIC_NAME = "spring.cloud.function.latency";
+
+		private static final double[] LATENCY_PERCENTILES = { 0.5, 0.95, 0.99 };
+
+		@Bean
+		public MeterBinder functionRuntimeStateMeterBinder(ObjectProvider<FunctionCatalog> functionCatalog) {
+			return registry -> {
+				if (functionCatalog.getIfAvailable() instanceof SimpleFunctionRegistry functionRegistry) {
+					functionRegistry.addRuntimeStateListener(state -> {
+						String functionDefinition = state.getFunctionDefinition();
+						if (state.getExecutionStatistics() != null) {
+							bindExecutionStatistics(registry, functionDefinition, state.getExecutionStatistics());
+						}
+						if (state.getBulkhead() != null) {
+							bindBulkhead(registry, functionDefinition, state.getBulkhead());
+						}
+						if (state.getResultCache() != null) {
+							bindResultCache(registry, functionDefinition, state.getResultCache());
+						}
+						if (state.getInvocationCoalescer() != null) {
+							bindInvocationCoalescer(registry, functionDefinition, state.getInvocationCoalescer());
+						}
+						if (state.getLatencyStatistics() != null) {
+							bindLatencyStatistics(registry, functionDefinition, state.getLatencyStatistics());
+						}
+					});
+				}
+			};
+		}
+
+		private static void bindExecutionStatistics(MeterRegistry registry, String functionDefinition,
+				FunctionExecutionStatistics statistics) {
+			Gauge.builder(PENDING_METRIC_NAME, statistics, FunctionExecutionStatistics::getPending)
+				.tag("function", functionDefinition)
+				.description("Number of input elements waiting for function invocation to start")
+				.register(registry);
+			Gauge.builder(IN_FLIGHT_METRIC_NAME, statistics, FunctionExecutionStatistics::getInFlight)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations in progress")
+				.register(registry);
+		}
+
+		private static void bindBulkhead(MeterRegistry registry, String functionDefinition, FunctionBulkhead bulkhead) {
+			Gauge.builder(BULKHEAD_IN_FLIGHT_METRIC_NAME, bulkhead, FunctionBulkhead::getInFlight)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations in progress within the limits of bulkhead")
+				.register(registry);
+			Gauge.builder(BULKHEAD_QUEUED_METRIC_NAME, bulkhead, FunctionBulkhead::getQueued)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations waiting for bulkhead permit")
+				.register(registry);
+			FunctionCounter.builder(BULKHEAD_REJECTED_METRIC_NAME, bulkhead, FunctionBulkhead::getRejected)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations rejected by bulkhead")
+				.register(registry);
+		}
+
+		private static void bindResultCache(MeterRegistry registry, String functionDefinition, FunctionResultCache resultCache) {
+			FunctionCounter.builder(CACHE_HITS_METRIC_NAME, resultCache, FunctionResultCache::getHits)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations for which cached result was used")
+				.register(registry);
+			FunctionCounter.builder(CACHE_MISSES_METRIC_NAME, resultCache, FunctionResultCache::getMisses)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations for which no cached result was available")
+				.register(registry);
+			FunctionCounter.builder(CACHE_EVICTIONS_METRIC_NAME, resultCache, FunctionResultCache::getEvictions)
+				.tag("function", functionDefinition)
+				.description("Number of function results evicted from cache")
+				.register(registry);
+			Gauge.builder(CACHE_SIZE_METRIC_NAME, resultCache, FunctionResultCache::getSize)
+				.tag("function", functionDefinition)
+				.description("Number of cached function results")
+				.register(registry);
+			Gauge.builder(CACHE_WEIGHT_METRIC_NAME, resultCache, FunctionResultCache::getWeight)
+				.tag("function", functionDefinition)
+				.baseUnit("bytes")
+				.description("Total size of cached function results serialized as JSON")
+				.register(registry);
+		}
+
+		private static void bindInvocationCoalescer(MeterRegistry registry, String functionDefinition,
+				FunctionInvocationCoalescer invocationCoalescer) {
+			Gauge.builder(COALESCING_IN_FLIGHT_METRIC_NAME, invocationCoalescer, FunctionInvocationCoalescer::getInFlight)
+				.tag("function", functionDefinition)
+				.description("Number of distinct function invocations in progress which concurrent invocations are coalesced with")
+				.register(registry);
+			FunctionCounter.builder(COALESCING_COALESCED_METRIC_NAME, invocationCoalescer, FunctionInvocationCoalescer::getCoalesced)
+				.tag("function", functionDefinition)
+				.description("Number of function invocations which shared the result of another invocation")
+				.register(registry);
+		}
+
+		private static void bindLatencyStatistics(MeterRegistry registry, String functionDefinition,
+				FunctionLatencyStatistics statistics) {
+			statistics.addHistogramListener(histogram -> {
+				String phase = histogram.getPhase().name().toLowerCase(Locale.ROOT).replace('_', '-');
+				Timer timer = Timer.builder(LATENCY_METRIC_NAME)
+					.tags("function", functionDefinition, "phase", phase, "contentType", histogram.getContentType())
+					.description("Latency of function invocation phase")
+					.publishPercentiles(LATENCY_PERCENTILES)
+					.register(registry);
+				histogram.addRecordingListener(nanos -> timer.record(nanos, TimeUnit.NANOSECONDS));
+			});
+		}
+	}
+
 	@ComponentScan(basePackages = "${spring.cloud.function.scan.packages:functions}",
 			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = { Supplier.class, Function.class, Consumer.class }),
 			excludeFilters = @Filter(type = FilterType.ANNOTATION, classes = { Configuration.class, Component.class}))
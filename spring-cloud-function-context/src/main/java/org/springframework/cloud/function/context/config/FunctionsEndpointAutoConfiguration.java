@@ -16,11 +16,13 @@
 
 package org.springframework.cloud.function.context.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.function.actuator.FunctionStatisticsEndpoint;
 import org.springframework.cloud.function.actuator.FunctionsEndpoint;
 import org.springframework.cloud.function.context.FunctionCatalog;
 import org.springframework.context.annotation.Bean;
@@ -43,4 +45,11 @@ public class FunctionsEndpointAutoConfiguration {
 		return new FunctionsEndpoint(functionCatalog);
 	}
 
+	@Bean
+	@ConditionalOnAvailableEndpoint
+	public FunctionStatisticsEndpoint functionStatisticsEndpoint(FunctionCatalog functionCatalog,
+			ObjectProvider<RoutingFunction> routingFunction) {
+		return new FunctionStatisticsEndpoint(functionCatalog, routingFunction.getIfAvailable());
+	}
+
 }
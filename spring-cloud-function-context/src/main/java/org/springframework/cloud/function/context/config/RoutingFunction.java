@@ -19,6 +19,8 @@ package org.springframework.cloud.function.context.config;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -27,12 +29,16 @@ import org.apache.commons.logging.LogFactory;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tools.jackson.core.JsonPointer;
 
 import org.springframework.cloud.function.context.FunctionCatalog;
 import org.springframework.cloud.function.context.FunctionProperties;
 import org.springframework.cloud.function.context.MessageRoutingCallback;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
 import org.springframework.cloud.function.context.message.MessageUtils;
+import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.cloud.function.observability.jfr.FunctionEvents;
+import org.springframework.cloud.function.observability.jfr.FunctionRoutingEvent;
 import org.springframework.expression.BeanResolver;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -81,6 +87,12 @@ public class RoutingFunction implements Function<Object, Object> {
 
 	private final MessageRoutingCallback routingCallback;
 
+	private volatile JsonPointer routingJsonPointer;
+
+	private final Map<String, LongAdder> routeHits = new ConcurrentHashMap<>();
+
+	private final LongAdder routeMisses = new LongAdder();
+
 	public RoutingFunction(FunctionCatalog functionCatalog, FunctionProperties functionProperties) {
 		this(functionCatalog, functionProperties, null, null);
 	}
@@ -103,6 +115,7 @@ public class RoutingFunction implements Function<Object, Object> {
 		FunctionProperties functionProperties = new FunctionProperties();
 		functionProperties.setDefinition(propertiesMap.get(FunctionProperties.FUNCTION_DEFINITION));
 		functionProperties.setRoutingExpression(propertiesMap.get(FunctionProperties.ROUTING_EXPRESSION));
+		functionProperties.setRoutingJsonPointer(propertiesMap.get(FunctionProperties.ROUTING_JSON_POINTER));
 		return functionProperties;
 	}
 
@@ -111,6 +124,25 @@ public class RoutingFunction implements Function<Object, Object> {
 		return this.route(input, input instanceof Publisher);
 	}
 
+	/**
+	 * Returns the number of times each function definition was resolved as the route.
+	 * @return number of resolutions keyed by function definition
+	 */
+	public Map<String, Long> getRouteHits() {
+		Map<String, Long> hits = new TreeMap<>();
+		this.routeHits.forEach((definition, count) -> hits.put(definition, count.sum()));
+		return hits;
+	}
+
+	/**
+	 * Returns the number of times the route resolved to a function definition which could not be found
+	 * (i.e., input was routed to {@link #DEFAULT_ROUTE_HANDLER}, if any).
+	 * @return number of unresolved routes
+	 */
+	public long getRouteMisses() {
+		return this.routeMisses.sum();
+	}
+
 
 	/*
 	 * - Check if `this.routingCallback` is present and if it is use it (only for Message input)
@@ -119,13 +151,93 @@ public class RoutingFunction implements Function<Object, Object> {
 	 * If NOT
 	 * - Check if spring.cloud.function.routing-expression is set in header and if it is set use it (only for Message input)
 	 * If NOT
+	 * - Check `spring.cloud.function.routing-json-pointer` is set in FunctionProperties and if it is use it to extract
+	 *   function definition from raw JSON payload (only for Message input)
+	 * If NOT
 	 * - Check `spring.cloud.function.definition` is set in FunctionProperties and if it is use it (Message and Publisher)
 	 * If NOT
 	 * - Check `spring.cloud.function.routing-expression` is set in FunctionProperties and if it is use it (Message and Publisher)
 	 * If NOT
+	 * - For Publisher input route each element individually, or partition the stream by route if
+	 *   `spring.cloud.function.routing.partitioned` is set
+	 * If NOT
 	 * - Fail
 	 */
 	private Object route(Object input, boolean originalInputIsPublisher) {
+		FunctionInvocationWrapper function;
+
+		if (input instanceof Publisher<?> publisher) {
+			if (StringUtils.hasText(functionProperties.getDefinition())) {
+				function = functionFromDefinition(functionProperties.getDefinition());
+			}
+			else if (StringUtils.hasText(functionProperties.getRoutingExpression())) {
+				function = this.functionFromExpression(functionProperties.getRoutingExpression(), input);
+			}
+			else if (functionProperties.getRouting().isPartitioned() && !(input instanceof Mono)) {
+				return this.routePartitioned(Flux.from(publisher));
+			}
+			else {
+				return input instanceof Mono<?> mono
+							? Mono.from(mono).map(v -> route(v, originalInputIsPublisher))
+									: Flux.from(publisher).map(v -> route(v, originalInputIsPublisher));
+			}
+		}
+		else {
+			function = this.resolveRoute(input, originalInputIsPublisher);
+		}
+
+		this.assertNotRoutingToItself(function);
+		return function.apply(input);
+	}
+
+	/*
+	 * Partitions the stream by the function resolved for each individual element and feeds each partition,
+	 * as a single long-lived Flux, into its route-to function merging the outputs. This way the route-to function
+	 * (reactive or imperative) is invoked once per route instead of once per element.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Flux<Object> routePartitioned(Flux<?> flux) {
+		FunctionProperties.RoutingProperties routingProperties = functionProperties.getRouting();
+		return flux.groupBy(v -> {
+			FunctionInvocationWrapper function = this.resolveRoute(v, false);
+			this.assertNotRoutingToItself(function);
+			return function;
+		}, routingProperties.getPrefetch())
+			.flatMap(group -> {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Opening route partition for function " + group.key());
+				}
+				Object result = group.key().apply(group);
+				return result instanceof Publisher publisher ? publisher : Mono.justOrEmpty(result);
+			}, routingProperties.getConcurrency());
+	}
+
+	private FunctionInvocationWrapper resolveRoute(Object input, boolean originalInputIsPublisher) {
+		FunctionRoutingEvent routingEvent = FunctionEvents.beginRouting();
+		if (routingEvent == null) {
+			return this.doResolveRoute(input, originalInputIsPublisher);
+		}
+		FunctionInvocationWrapper function = null;
+		RuntimeException failure = null;
+		try {
+			function = this.doResolveRoute(input, originalInputIsPublisher);
+			return function;
+		}
+		catch (RuntimeException e) {
+			failure = e;
+			throw e;
+		}
+		finally {
+			if (routingEvent.shouldCommit()) {
+				routingEvent.setFunctionDefinition(function == null ? null : function.getFunctionDefinition());
+				routingEvent.setInputType(input == null ? null : input.getClass());
+				routingEvent.setFailure(failure == null ? null : failure.getMessage());
+				routingEvent.commit();
+			}
+		}
+	}
+
+	private FunctionInvocationWrapper doResolveRoute(Object input, boolean originalInputIsPublisher) {
 		FunctionInvocationWrapper function = null;
 
 		if (input instanceof Message<?> message) {
@@ -142,32 +254,31 @@ public class RoutingFunction implements Function<Object, Object> {
 						this.assertOriginalInputIsNotPublisher(originalInputIsPublisher);
 					}
 				}
-				else if (StringUtils.hasText(functionProperties.getRoutingExpression())) {
-					function = this.functionFromExpression(functionProperties.getRoutingExpression(), message);
-				}
-				else if (StringUtils.hasText(functionProperties.getDefinition())) {
-					function = this.functionFromDefinition(functionProperties.getDefinition());
-				}
 				else {
-					throw new IllegalStateException("Failed to establish route, since neither were provided: "
-							+ "'spring.cloud.function.definition' as Message header or as application property or "
-							+ "'spring.cloud.function.routing-expression' as application property. Incoming message: " + input);
+					function = this.functionFromJsonPointer(message);
+					if (function != null) {
+						if (function.isInputTypePublisher()) {
+							this.assertOriginalInputIsNotPublisher(originalInputIsPublisher);
+						}
+						if (logger.isDebugEnabled()) {
+							logger.debug("Resolved function from provided [routing-json-pointer] "
+									+ functionProperties.getRoutingJsonPointer());
+						}
+					}
+					else if (StringUtils.hasText(functionProperties.getRoutingExpression())) {
+						function = this.functionFromExpression(functionProperties.getRoutingExpression(), message);
+					}
+					else if (StringUtils.hasText(functionProperties.getDefinition())) {
+						function = this.functionFromDefinition(functionProperties.getDefinition());
+					}
+					else {
+						throw new IllegalStateException("Failed to establish route, since neither were provided: "
+								+ "'spring.cloud.function.definition' as Message header or as application property or "
+								+ "'spring.cloud.function.routing-expression' as application property. Incoming message: " + input);
+					}
 				}
 			}
 		}
-		else if (input instanceof Publisher<?> publisher) {
-			if (StringUtils.hasText(functionProperties.getDefinition())) {
-				function = functionFromDefinition(functionProperties.getDefinition());
-			}
-			else if (StringUtils.hasText(functionProperties.getRoutingExpression())) {
-				function = this.functionFromExpression(functionProperties.getRoutingExpression(), input);
-			}
-			else {
-				return input instanceof Mono<?> mono
-							? Mono.from(mono).map(v -> route(v, originalInputIsPublisher))
-									: Flux.from(publisher).map(v -> route(v, originalInputIsPublisher));
-			}
-		}
 		else {
 			this.assertOriginalInputIsNotPublisher(originalInputIsPublisher);
 			if (StringUtils.hasText(functionProperties.getRoutingExpression())) {
@@ -183,14 +294,15 @@ public class RoutingFunction implements Function<Object, Object> {
 						+ "'spring.cloud.function.routing-expression' as application property.");
 			}
 		}
+		return function;
+	}
 
+	private void assertNotRoutingToItself(FunctionInvocationWrapper function) {
 		if (this.equals(function.getTarget())) {
 			throw new IllegalStateException("Failed to establish route, and routing to itself is not allowed as it creates a loop. Please provide: "
 					+ "'spring.cloud.function.definition' as Message header or as application property or "
 					+ "'spring.cloud.function.routing-expression' as application property.");
 		}
-
-		return function.apply(input);
 	}
 
 	private FunctionInvocationWrapper locateFunctionFromDefinitionOrExpression(Message<?> message) {
@@ -234,6 +346,35 @@ public class RoutingFunction implements Function<Object, Object> {
 		return function;
 	}
 
+	/*
+	 * Will stream through the raw payload (byte[] or String) extracting the value located at
+	 * 'spring.cloud.function.routing-json-pointer'. The message itself is not modified, so the payload
+	 * is converted only once by the route-to function. Returns null if pointer is not set or value is not found.
+	 */
+	private FunctionInvocationWrapper functionFromJsonPointer(Message<?> message) {
+		String routingJsonPointerValue = functionProperties.getRoutingJsonPointer();
+		if (!StringUtils.hasText(routingJsonPointerValue)) {
+			return null;
+		}
+		JsonPointer jsonPointer = this.routingJsonPointer;
+		if (jsonPointer == null || !jsonPointer.toString().equals(routingJsonPointerValue)) {
+			jsonPointer = JsonPointer.compile(routingJsonPointerValue);
+			this.routingJsonPointer = jsonPointer;
+		}
+		String definition = JsonMapper.extractValueAtJsonPointer(message.getPayload(), jsonPointer);
+		if (!StringUtils.hasText(definition)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("No value found at [routing-json-pointer] " + routingJsonPointerValue
+						+ ". Will fall back to other routing instructions.");
+			}
+			return null;
+		}
+		FunctionInvocationWrapper function = this.resolveFunction(definition);
+		Assert.notNull(function, "Failed to lookup function to route to based on the JSON pointer '"
+				+ routingJsonPointerValue + "' which resolved to '" + definition + "' function definition.");
+		return function;
+	}
+
 	private FunctionInvocationWrapper functionFromExpression(String routingExpression, Object input) {
 		return functionFromExpression(routingExpression, input, false);
 	}
@@ -258,8 +399,12 @@ public class RoutingFunction implements Function<Object, Object> {
 	private FunctionInvocationWrapper resolveFunction(String definition) {
 		FunctionInvocationWrapper function = functionCatalog.lookup(definition);
 		if (function == null) {
+			this.routeMisses.increment();
 			function = functionCatalog.lookup(RoutingFunction.DEFAULT_ROUTE_HANDLER);
 		}
+		else {
+			this.routeHits.computeIfAbsent(definition, key -> new LongAdder()).increment();
+		}
 		return function;
 	}
 
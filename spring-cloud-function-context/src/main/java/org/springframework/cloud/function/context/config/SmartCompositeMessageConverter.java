@@ -22,12 +22,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.function.context.catalog.FunctionTypeUtils;
+import org.springframework.cloud.function.observability.jfr.FunctionEvents;
+import org.springframework.cloud.function.observability.jfr.MessageConversionEvent;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
@@ -53,6 +57,10 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 
 	private final Supplier<Collection<MessageConverterHelper>> messageConverterHelpersSupplier;
 
+	private final Map<Class<?>, MessageConverter> resolvedFromMessageConverters = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, MessageConverter> resolvedToMessageConverters = new ConcurrentHashMap<>();
+
 	public SmartCompositeMessageConverter(Collection<MessageConverter> converters) {
 		this(converters, null);
 	}
@@ -62,6 +70,26 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 		this.messageConverterHelpersSupplier = messageConverterHelpersSupplier;
 	}
 
+	/**
+	 * Returns the converter which most recently converted {@link Message} to the provided type.
+	 * @param targetClass target type of conversion
+	 * @return converter or null if no Message was converted to the provided type yet
+	 */
+	@Nullable
+	public MessageConverter getResolvedFromMessageConverter(Class<?> targetClass) {
+		return this.resolvedFromMessageConverters.get(targetClass);
+	}
+
+	/**
+	 * Returns the converter which most recently converted payload of the provided type to {@link Message}.
+	 * @param payloadClass type of the payload
+	 * @return converter or null if no payload of the provided type was converted yet
+	 */
+	@Nullable
+	public MessageConverter getResolvedToMessageConverter(Class<?> payloadClass) {
+		return this.resolvedToMessageConverters.get(payloadClass);
+	}
+
 	@Override
 	@Nullable
 	public Object fromMessage(Message<?> message, Class<?> targetClass) {
@@ -72,8 +100,9 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 				return message.getPayload();
 			}
 			try {
-				Object result = converter.fromMessage(message, targetClass);
+				Object result = this.attemptFromMessage(converter, message, targetClass, null, false);
 				if (result != null) {
+					this.resolved(this.resolvedFromMessageConverters, targetClass, converter);
 					return result;
 				}
 			}
@@ -112,9 +141,8 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 					MessageConverter converter = (MessageConverter) iterator.next();
 					if (!converter.getClass().getName().endsWith("ApplicationJsonMessageMarshallingConverter")) { // TODO Stream stuff, needs to be removed
 						Message<?> m  = MessageBuilder.withPayload(item).copyHeaders(message.getHeaders()).build(); // TODO Message creating may be expensive
-						Object conversionResult = (converter instanceof SmartMessageConverter & genericItemRawType != genericItemType ?
-								((SmartMessageConverter) converter).fromMessage(m, genericItemRawType, genericItemType) :
-								converter.fromMessage(m, genericItemRawType));
+						Object conversionResult = this.attemptFromMessage(converter, m, genericItemRawType, genericItemType,
+								converter instanceof SmartMessageConverter & genericItemRawType != genericItemType);
 						if (conversionResult != null) {
 							resultList.add(conversionResult);
 							isConverted = true;
@@ -131,10 +159,10 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 		else {
 			for (MessageConverter converter : getConverters()) {
 				if (!converter.getClass().getName().endsWith("ApplicationJsonMessageMarshallingConverter")) { // TODO Stream stuff, needs to be removed
-					result = (converter instanceof SmartMessageConverter ?
-							((SmartMessageConverter) converter).fromMessage(message, targetClass, conversionHint) :
-							converter.fromMessage(message, targetClass));
+					result = this.attemptFromMessage(converter, message, targetClass, conversionHint,
+							converter instanceof SmartMessageConverter);
 					if (result != null) {
+						this.resolved(this.resolvedFromMessageConverters, targetClass, converter);
 						return result;
 					}
 				}
@@ -144,6 +172,82 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 		return result;
 	}
 
+	/*
+	 * Attempts conversion of the Message by the provided converter, recording the attempt as JFR event.
+	 */
+	private Object attemptFromMessage(MessageConverter converter, Message<?> message, Class<?> targetClass,
+			@Nullable Object conversionHint, boolean smart) {
+		MessageConversionEvent conversionEvent = FunctionEvents.beginConversion();
+		Object result = null;
+		RuntimeException failure = null;
+		try {
+			result = smart
+					? ((SmartMessageConverter) converter).fromMessage(message, targetClass, conversionHint)
+					: converter.fromMessage(message, targetClass);
+			return result;
+		}
+		catch (RuntimeException e) {
+			failure = e;
+			throw e;
+		}
+		finally {
+			if (conversionEvent != null && conversionEvent.shouldCommit()) {
+				this.commitConversionEvent(conversionEvent, converter, MessageConversionEvent.FROM_MESSAGE, targetClass,
+						message.getHeaders(), result != null, failure);
+			}
+		}
+	}
+
+	/*
+	 * Attempts conversion of the payload by the provided converter, recording the attempt as JFR event.
+	 */
+	private Message<?> attemptToMessage(MessageConverter converter, Object payload, MessageHeaders headers,
+			@Nullable Object conversionHint, boolean smart) {
+		MessageConversionEvent conversionEvent = FunctionEvents.beginConversion();
+		Message<?> result = null;
+		RuntimeException failure = null;
+		try {
+			result = smart
+					? ((SmartMessageConverter) converter).toMessage(payload, headers, conversionHint)
+					: converter.toMessage(payload, headers);
+			return result;
+		}
+		catch (RuntimeException e) {
+			failure = e;
+			throw e;
+		}
+		finally {
+			if (conversionEvent != null && conversionEvent.shouldCommit()) {
+				this.commitConversionEvent(conversionEvent, converter, MessageConversionEvent.TO_MESSAGE, payload.getClass(),
+						headers, result != null, failure);
+			}
+		}
+	}
+
+	/*
+	 *
+	 */
+	private void commitConversionEvent(MessageConversionEvent conversionEvent, MessageConverter converter, String direction,
+			Class<?> type, MessageHeaders headers, boolean converted, @Nullable RuntimeException failure) {
+		Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+		conversionEvent.setConverter(converter.getClass());
+		conversionEvent.setDirection(direction);
+		conversionEvent.setType(type);
+		conversionEvent.setContentType(contentType == null ? null : contentType.toString());
+		conversionEvent.setConverted(converted);
+		conversionEvent.setFailure(failure == null ? null : failure.toString());
+		conversionEvent.commit();
+	}
+
+	/*
+	 * Remembers the converter which converted the provided type, avoiding the write if it did so last time as well.
+	 */
+	private void resolved(Map<Class<?>, MessageConverter> resolvedConverters, Class<?> type, MessageConverter converter) {
+		if (resolvedConverters.get(type) != converter) {
+			resolvedConverters.put(type, converter);
+		}
+	}
+
 	private void failConversionIfNecessary(Message<?> message, Collection<MessageConverterHelper> messageConverterHelpers, Throwable t) {
 		for (MessageConverterHelper messageConverterHelper : messageConverterHelpers) {
 			if (messageConverterHelper.shouldFailIfCantConvert(message, t)) {
@@ -178,8 +282,9 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 								MessageHeaderAccessor h = new MessageHeaderAccessor();
 								h.copyHeaders(headers);
 								h.setHeader(MessageHeaders.CONTENT_TYPE, supportedMimeType);
-								Message<?> result = converter.toMessage(payload, h.getMessageHeaders());
+								Message<?> result = this.attemptToMessage(converter, payload, h.getMessageHeaders(), null, false);
 								if (result != null) {
+									this.resolved(this.resolvedToMessageConverters, payload.getClass(), converter);
 									return result;
 								}
 							}
@@ -190,8 +295,9 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 					MessageHeaderAccessor h = new MessageHeaderAccessor();
 					h.copyHeaders(headers);
 					h.setHeader(MessageHeaders.CONTENT_TYPE, contentType);
-					Message<?> result = converter.toMessage(payload, h.getMessageHeaders());
+					Message<?> result = this.attemptToMessage(converter, payload, h.getMessageHeaders(), null, false);
 					if (result != null) {
+						this.resolved(this.resolvedToMessageConverters, payload.getClass(), converter);
 						return result;
 					}
 				}
@@ -213,8 +319,9 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 						MessageHeaderAccessor h = new MessageHeaderAccessor();
 						h.copyHeaders(headers);
 						h.setHeader(MessageHeaders.CONTENT_TYPE, supportedMimeType);
-						Message<?> result = ((SmartMessageConverter) converter).toMessage(payload, h.getMessageHeaders(), conversionHint);
+						Message<?> result = this.attemptToMessage(converter, payload, h.getMessageHeaders(), conversionHint, true);
 						if (result != null) {
+							this.resolved(this.resolvedToMessageConverters, payload.getClass(), converter);
 							return result;
 						}
 					}
@@ -223,8 +330,9 @@ public class SmartCompositeMessageConverter extends CompositeMessageConverter {
 					MessageHeaderAccessor h = new MessageHeaderAccessor();
 					h.copyHeaders(headers);
 					h.setHeader(MessageHeaders.CONTENT_TYPE, contentType);
-					Message<?> result = ((SmartMessageConverter) converter).toMessage(payload, h.getMessageHeaders(), conversionHint);
+					Message<?> result = this.attemptToMessage(converter, payload, h.getMessageHeaders(), conversionHint, true);
 					if (result != null) {
+						this.resolved(this.resolvedToMessageConverters, payload.getClass(), converter);
 						return result;
 					}
 				}
@@ -26,6 +26,12 @@ import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.filter.FilteringParserDelegate;
+import tools.jackson.core.filter.JsonPointerBasedFilter;
+import tools.jackson.core.filter.TokenFilter.Inclusion;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
@@ -170,6 +176,36 @@ public abstract class JsonMapper {
 		return false;
 	}
 
+	/**
+	 * Streams through the provided JSON (String or byte[]) looking for a scalar value located at
+	 * the provided {@link JsonPointer} (e.g., '/event/type'). No tree or intermediate object is created
+	 * and parsing stops as soon as the value is found, leaving the rest of the payload unread.
+	 * Primarily intended for internal of the framework (e.g., routing).
+	 * @param value candidate JSON payload
+	 * @param jsonPointer pointer to the value
+	 * @return textual representation of the value or null if value is not JSON, pointer does not
+	 * match anything or matches non-scalar value.
+	 */
+	public static String extractValueAtJsonPointer(Object value, JsonPointer jsonPointer) {
+		if (!(value instanceof byte[]) && !(value instanceof String)) {
+			return null;
+		}
+		try (JsonParser parser = value instanceof byte[] byteValue
+					? mapper.createParser(byteValue)
+					: mapper.createParser((String) value);
+				JsonParser filteringParser = new FilteringParserDelegate(parser,
+					new JsonPointerBasedFilter(jsonPointer), Inclusion.ONLY_INCLUDE_ALL, false)) {
+			JsonToken token = filteringParser.nextToken();
+			return token != null && token.isScalarValue() ? filteringParser.getValueAsString() : null;
+		}
+		catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to extract value at JSON pointer '" + jsonPointer + "'", e);
+			}
+			return null;
+		}
+	}
+
 	public static boolean isJsonContentType(String contentTypeValue) {
 		try {
 			return contentTypeValue != null
@@ -21,6 +21,7 @@ import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.function.context.FunctionProperties;
 import org.springframework.cloud.function.context.catalog.FunctionAroundWrapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,8 +37,12 @@ public class ObservationAutoConfiguration {
 	@ConditionalOnMissingBean
 	@ConditionalOnBean(ObservationRegistry.class)
 	public FunctionAroundWrapper observationFunctionAroundWrapper(ObservationRegistry registry,
-		ObjectProvider<FunctionObservationConvention> functionObservationConvention) {
+		ObjectProvider<FunctionObservationConvention> functionObservationConvention,
+		ObjectProvider<FunctionProperties> functionProperties) {
+		FunctionProperties.ObservabilityProperties observabilityProperties = functionProperties
+			.getIfAvailable(FunctionProperties::new).getObservability();
 		return new ObservationFunctionAroundWrapper(registry,
-			functionObservationConvention.getIfAvailable(() -> null));
+			functionObservationConvention.getIfAvailable(() -> null),
+			observabilityProperties.getReactiveMode(), observabilityProperties.getSampleProbability());
 	}
 }
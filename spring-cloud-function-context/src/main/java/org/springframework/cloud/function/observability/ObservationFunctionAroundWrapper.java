@@ -16,9 +16,19 @@
 
 package org.springframework.cloud.function.observability;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
+import org.springframework.cloud.function.context.FunctionProperties.ReactiveObservationMode;
 import org.springframework.cloud.function.context.catalog.FunctionAroundWrapper;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry;
 import org.springframework.lang.Nullable;
@@ -31,13 +41,37 @@ import org.springframework.messaging.Message;
  * @since 4.0.0
  */
 public class ObservationFunctionAroundWrapper extends FunctionAroundWrapper {
+
+	/**
+	 * Key of the Reactor context entry holding observations of elements being processed (PER_ELEMENT mode).
+	 */
+	private static final String ELEMENT_OBSERVATIONS_KEY = ObservationFunctionAroundWrapper.class.getName() + ".observations";
+
 	private final ObservationRegistry observationRegistry;
 
 	private final FunctionObservationConvention functionObservationConvention;
 
+	private final ReactiveObservationMode reactiveObservationMode;
+
+	private final double sampleProbability;
+
 	public ObservationFunctionAroundWrapper(ObservationRegistry observationRegistry, @Nullable FunctionObservationConvention functionObservationConvention) {
+		this(observationRegistry, functionObservationConvention, ReactiveObservationMode.NONE, 1.0);
+	}
+
+	/**
+	 * @param observationRegistry observation registry
+	 * @param functionObservationConvention custom observation convention
+	 * @param reactiveObservationMode how invocations with Publisher input are observed
+	 * @param sampleProbability probability with which each element is observed in PER_ELEMENT mode
+	 * @since 5.0.4
+	 */
+	public ObservationFunctionAroundWrapper(ObservationRegistry observationRegistry, @Nullable FunctionObservationConvention functionObservationConvention,
+			ReactiveObservationMode reactiveObservationMode, double sampleProbability) {
 		this.observationRegistry = observationRegistry;
 		this.functionObservationConvention = functionObservationConvention;
+		this.reactiveObservationMode = reactiveObservationMode;
+		this.sampleProbability = sampleProbability;
 	}
 
 	@Override
@@ -45,11 +79,118 @@ public class ObservationFunctionAroundWrapper extends FunctionAroundWrapper {
 		return nonReactorStream((Message<?>) message, targetFunction);
 	}
 
+	@Override
+	protected Object doApplyPublisher(Publisher<?> input, SimpleFunctionRegistry.FunctionInvocationWrapper targetFunction) {
+		if (this.reactiveObservationMode == ReactiveObservationMode.PER_SUBSCRIPTION && !this.observationRegistry.isNoop()) {
+			return this.observePerSubscription(targetFunction.apply(input), targetFunction);
+		}
+		else if (this.reactiveObservationMode == ReactiveObservationMode.PER_ELEMENT && !this.observationRegistry.isNoop()
+				&& this.sampleProbability > 0) {
+			// results can only be matched with elements if the function produces one result per element, in order
+			return targetFunction.isOneToOne()
+					? this.observePerElement(input, targetFunction)
+					: this.observePerSubscription(targetFunction.apply(input), targetFunction);
+		}
+		return targetFunction.apply(input);
+	}
+
 	private Object nonReactorStream(Message<?> message,
 		SimpleFunctionRegistry.FunctionInvocationWrapper targetFunction) {
 		return functionProcessingObservation(targetFunction, message).observe(() -> targetFunction.apply(message));
 	}
 
+	/*
+	 * Single observation spans each subscription to the result, and is made available to the function
+	 * (e.g., as parent of observations it creates) via Reactor context.
+	 */
+	private Object observePerSubscription(Object result, SimpleFunctionRegistry.FunctionInvocationWrapper targetFunction) {
+		if (result instanceof Mono<?> mono) {
+			return Mono.deferContextual(contextView -> {
+				Observation observation = this.startObservation(targetFunction, null, contextView);
+				return mono.doOnError(observation::error)
+					.doFinally(signal -> observation.stop())
+					.contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+			});
+		}
+		else if (result instanceof Publisher<?> publisher) {
+			return Flux.deferContextual(contextView -> {
+				Observation observation = this.startObservation(targetFunction, null, contextView);
+				return Flux.from(publisher).doOnError(observation::error)
+					.doFinally(signal -> observation.stop())
+					.contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+			});
+		}
+		return result;
+	}
+
+	/*
+	 * Observation of each (sampled) element is started when the element is emitted to the function and stopped
+	 * when the function emits the next result, so it requires function which emits one result per element
+	 * in the order of elements (see FunctionInvocationWrapper.isOneToOne()). Observations in progress are shared
+	 * between input and output of the function via Reactor context, so each subscription has its own.
+	 */
+	private Object observePerElement(Publisher<?> input, SimpleFunctionRegistry.FunctionInvocationWrapper targetFunction) {
+		Flux<Object> observedInput = Flux.deferContextual(contextView -> {
+			Queue<Observation> observations = contextView.getOrDefault(ELEMENT_OBSERVATIONS_KEY, null);
+			if (observations == null) {
+				return Flux.from(input);
+			}
+			return Flux.<Object>from(input).doOnNext(element -> observations.offer(this.isSampled()
+					? this.startObservation(targetFunction, element instanceof Message<?> message ? message : null, contextView)
+					: Observation.NOOP));
+		});
+
+		Object result = targetFunction.apply(observedInput);
+		if (result instanceof Mono<?> mono) {
+			return Mono.deferContextual(contextView -> {
+				Queue<Observation> observations = contextView.get(ELEMENT_OBSERVATIONS_KEY);
+				return mono.doOnNext(value -> this.stopNextObservation(observations))
+					.doOnError(error -> this.stopAllObservations(observations, error))
+					.doFinally(signal -> this.stopAllObservations(observations, null));
+			})
+			.contextWrite(context -> context.put(ELEMENT_OBSERVATIONS_KEY, new ConcurrentLinkedQueue<Observation>()));
+		}
+		else if (result instanceof Publisher<?> publisher) {
+			return Flux.deferContextual(contextView -> {
+				Queue<Observation> observations = contextView.get(ELEMENT_OBSERVATIONS_KEY);
+				return Flux.from(publisher).doOnNext(value -> this.stopNextObservation(observations))
+					.doOnError(error -> this.stopAllObservations(observations, error))
+					.doFinally(signal -> this.stopAllObservations(observations, null));
+			})
+			.contextWrite(context -> context.put(ELEMENT_OBSERVATIONS_KEY, new ConcurrentLinkedQueue<Observation>()));
+		}
+		return result;
+	}
+
+	private boolean isSampled() {
+		return this.sampleProbability >= 1.0 || ThreadLocalRandom.current().nextDouble() < this.sampleProbability;
+	}
+
+	private void stopNextObservation(Queue<Observation> observations) {
+		Observation observation = observations.poll();
+		if (observation != null) {
+			observation.stop();
+		}
+	}
+
+	private void stopAllObservations(Queue<Observation> observations, @Nullable Throwable error) {
+		Observation observation;
+		while ((observation = observations.poll()) != null) {
+			if (error != null) {
+				observation.error(error);
+			}
+			observation.stop();
+		}
+	}
+
+	private Observation startObservation(SimpleFunctionRegistry.FunctionInvocationWrapper targetFunction,
+			@Nullable Message<?> message, ContextView contextView) {
+		Observation parentObservation = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+		return functionProcessingObservation(targetFunction, message)
+			.parentObservation(parentObservation)
+			.start();
+	}
+
 	private Observation functionProcessingObservation(SimpleFunctionRegistry.FunctionInvocationWrapper targetFunction, Message<?> message) {
 		return FunctionObservation.FUNCTION_PROCESSING_OBSERVATION.observation(this.functionObservationConvention, DefaultFunctionObservationConvention.INSTANCE, () -> new FunctionContext(targetFunction, message), this.observationRegistry);
 	}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.observability.jfr;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Factory of started JFR events, returning null if JFR is not available (e.g., in a runtime image
+ * without {@code jdk.jfr} module), so event classes are never loaded in such case.
+ * Events are recorded only while JFR recording with such events enabled is in progress,
+ * otherwise starting and committing them costs next to nothing.
+ *
+ * @since 5.0.4
+ */
+public final class FunctionEvents {
+
+	private static final boolean jfrPresent = ClassUtils.isPresent("jdk.jfr.Event", FunctionEvents.class.getClassLoader());
+
+	private FunctionEvents() {
+	}
+
+	/**
+	 * Creates and starts {@link FunctionLookupEvent}.
+	 * @return started event or null if JFR is not available
+	 */
+	@Nullable
+	public static FunctionLookupEvent beginLookup() {
+		if (!jfrPresent) {
+			return null;
+		}
+		FunctionLookupEvent event = new FunctionLookupEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Creates and starts {@link FunctionRoutingEvent}.
+	 * @return started event or null if JFR is not available
+	 */
+	@Nullable
+	public static FunctionRoutingEvent beginRouting() {
+		if (!jfrPresent) {
+			return null;
+		}
+		FunctionRoutingEvent event = new FunctionRoutingEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Creates and starts {@link MessageConversionEvent}.
+	 * @return started event or null if JFR is not available
+	 */
+	@Nullable
+	public static MessageConversionEvent beginConversion() {
+		if (!jfrPresent) {
+			return null;
+		}
+		MessageConversionEvent event = new MessageConversionEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Creates and starts {@link FunctionInvocationEvent}.
+	 * @return started event or null if JFR is not available
+	 */
+	@Nullable
+	public static FunctionInvocationEvent beginInvocation() {
+		if (!jfrPresent) {
+			return null;
+		}
+		FunctionInvocationEvent event = new FunctionInvocationEvent();
+		event.begin();
+		return event;
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded for each invocation of a function, including conversion of its input and output.
+ * For functions which produce Publisher the event covers assembly of the reactive pipeline only,
+ * since elements are processed asynchronously.
+ *
+ * @since 5.0.4
+ */
+@Name("org.springframework.cloud.function.FunctionInvocation")
+@Label("Function Invocation")
+@Category("Spring Cloud Function")
+@Description("Invocation of a function")
+@StackTrace(false)
+public final class FunctionInvocationEvent extends Event {
+
+	@Label("Function Definition")
+	private String functionDefinition;
+
+	@Label("Input Type")
+	private Class<?> inputType;
+
+	@Label("Reactive")
+	@Description("Whether the input or result of the invocation is a Publisher")
+	private boolean reactive;
+
+	@Label("Failure")
+	@Description("Exception thrown by the invocation, if any")
+	private String failure;
+
+	public void setFunctionDefinition(String functionDefinition) {
+		this.functionDefinition = functionDefinition;
+	}
+
+	public void setInputType(Class<?> inputType) {
+		this.inputType = inputType;
+	}
+
+	public void setReactive(boolean reactive) {
+		this.reactive = reactive;
+	}
+
+	public void setFailure(String failure) {
+		this.failure = failure;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded for each lookup of a function in the lookup cache of the function catalog,
+ * including composition of the function on cache miss.
+ *
+ * @since 5.0.4
+ */
+@Name("org.springframework.cloud.function.FunctionLookup")
+@Label("Function Lookup")
+@Category("Spring Cloud Function")
+@Description("Lookup of a function in the function catalog")
+@StackTrace(false)
+public final class FunctionLookupEvent extends Event {
+
+	@Label("Function Definition")
+	private String functionDefinition;
+
+	@Label("Cache Hit")
+	@Description("Whether the function was found in the lookup cache")
+	private boolean cacheHit;
+
+	@Label("Found")
+	@Description("Whether the function was found (or composed)")
+	private boolean found;
+
+	public void setFunctionDefinition(String functionDefinition) {
+		this.functionDefinition = functionDefinition;
+	}
+
+	public void setCacheHit(boolean cacheHit) {
+		this.cacheHit = cacheHit;
+	}
+
+	public void setFound(boolean found) {
+		this.found = found;
+	}
+
+}
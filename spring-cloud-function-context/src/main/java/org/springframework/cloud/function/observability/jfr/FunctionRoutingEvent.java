@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded for each routing decision of {@code RoutingFunction} (i.e., resolution of the function
+ * to route the input to via routing callback, Message headers, JSON pointer, expression or definition).
+ *
+ * @since 5.0.4
+ */
+@Name("org.springframework.cloud.function.FunctionRouting")
+@Label("Function Routing")
+@Category("Spring Cloud Function")
+@Description("Resolution of the function to route the input to")
+@StackTrace(false)
+public final class FunctionRoutingEvent extends Event {
+
+	@Label("Function Definition")
+	@Description("Definition of the function the input was routed to")
+	private String functionDefinition;
+
+	@Label("Input Type")
+	private Class<?> inputType;
+
+	@Label("Failure")
+	@Description("Reason the route could not be resolved, if any")
+	private String failure;
+
+	public void setFunctionDefinition(String functionDefinition) {
+		this.functionDefinition = functionDefinition;
+	}
+
+	public void setInputType(Class<?> inputType) {
+		this.inputType = inputType;
+	}
+
+	public void setFailure(String failure) {
+		this.failure = failure;
+	}
+
+}
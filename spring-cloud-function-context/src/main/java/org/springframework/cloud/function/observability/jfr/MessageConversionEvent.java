@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded for each attempt of a {@code MessageConverter} to convert a Message (or payload)
+ * within {@code SmartCompositeMessageConverter}, including attempts which did not convert or failed.
+ *
+ * @since 5.0.4
+ */
+@Name("org.springframework.cloud.function.MessageConversion")
+@Label("Message Conversion")
+@Category("Spring Cloud Function")
+@Description("Attempt of a message converter to convert Message or payload")
+@StackTrace(false)
+public final class MessageConversionEvent extends Event {
+
+	/**
+	 * Direction of conversion from Message to the target type.
+	 */
+	public static final String FROM_MESSAGE = "fromMessage";
+
+	/**
+	 * Direction of conversion from payload to Message.
+	 */
+	public static final String TO_MESSAGE = "toMessage";
+
+	@Label("Converter")
+	private Class<?> converter;
+
+	@Label("Direction")
+	private String direction;
+
+	@Label("Type")
+	@Description("Target type (fromMessage) or payload type (toMessage) of conversion")
+	private Class<?> type;
+
+	@Label("Content Type")
+	private String contentType;
+
+	@Label("Converted")
+	@Description("Whether the converter converted the Message or payload")
+	private boolean converted;
+
+	@Label("Failure")
+	@Description("Exception thrown by the converter, if any")
+	private String failure;
+
+	public void setConverter(Class<?> converter) {
+		this.converter = converter;
+	}
+
+	public void setDirection(String direction) {
+		this.direction = direction;
+	}
+
+	public void setType(Class<?> type) {
+		this.type = type;
+	}
+
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public void setConverted(boolean converted) {
+		this.converted = converted;
+	}
+
+	public void setFailure(String failure) {
+		this.failure = failure;
+	}
+
+}
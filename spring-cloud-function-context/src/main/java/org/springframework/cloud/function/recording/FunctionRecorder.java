@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Append-only log of function input messages, memory-mapped with the fixed maximum size. Once the log is full,
+ * further messages are dropped. If the file already contains a recording, messages are appended to it.
+ * The log starts with {@link #MAGIC} and {@link #VERSION} followed by records (all numbers big-endian)
+ * <pre>
+ * int    length of the record (excluding this field), 0 marks the end of the log
+ * long   time the message was recorded (nanoseconds since epoch)
+ * short  length of function definition, followed by function definition (UTF-8)
+ * short  number of headers, each as short length of name, name (UTF-8), int length of value, value (UTF-8)
+ * int    length of payload, followed by payload
+ * </pre>
+ * Length of the record is written after the rest of the record, so the log is readable even if the
+ * application terminates while a record is being written. See {@link FunctionRecordingReader}.
+ *
+ * @since 5.0.4
+ */
+public class FunctionRecorder implements AutoCloseable {
+
+	/**
+	 * Marker of the recording file ('SCFR').
+	 */
+	public static final int MAGIC = 0x53434652;
+
+	/**
+	 * Version of the recording format.
+	 */
+	public static final int VERSION = 1;
+
+	static final int FILE_HEADER_LENGTH = 8;
+
+	private final FileChannel channel;
+
+	private final MappedByteBuffer buffer;
+
+	private final long startEpochNanos;
+
+	private final long startNanoTime;
+
+	private final LongAdder recorded = new LongAdder();
+
+	private final LongAdder dropped = new LongAdder();
+
+	private int position;
+
+	public FunctionRecorder(Path file, long maxSize) {
+		Assert.isTrue(maxSize > FILE_HEADER_LENGTH && maxSize <= Integer.MAX_VALUE,
+				"'maxSize' must be greater than " + FILE_HEADER_LENGTH + " and at most " + Integer.MAX_VALUE);
+		try {
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			long existingSize = this.channel.size();
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(maxSize, existingSize));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to open recording file " + file, e);
+		}
+		if (this.buffer.getInt(0) == 0) {
+			this.buffer.putInt(0, MAGIC);
+			this.buffer.putInt(4, VERSION);
+			this.position = FILE_HEADER_LENGTH;
+		}
+		else {
+			Assert.state(this.buffer.getInt(0) == MAGIC && this.buffer.getInt(4) == VERSION,
+					() -> "File " + file + " is not a function recording of version " + VERSION);
+			this.position = endOfRecords(this.buffer);
+		}
+		Instant now = Instant.now();
+		this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+		this.startNanoTime = System.nanoTime();
+	}
+
+	/**
+	 * Appends the message to the log, unless the log is full.
+	 * @param functionDefinition definition of the function which input the message is
+	 * @param headers headers of the message
+	 * @param payload payload of the message
+	 * @return true if the message was recorded, false if it was dropped since the log is full
+	 */
+	public boolean record(String functionDefinition, Map<String, String> headers, byte[] payload) {
+		long timestamp = this.startEpochNanos + (System.nanoTime() - this.startNanoTime);
+		byte[] definitionBytes = shortBytes(functionDefinition);
+		byte[][] headerBytes = new byte[headers.size() * 2][];
+		int length = 8 + 2 + definitionBytes.length + 2 + 4 + payload.length;
+		int i = 0;
+		for (Map.Entry<String, String> header : headers.entrySet()) {
+			headerBytes[i] = shortBytes(header.getKey());
+			headerBytes[i + 1] = header.getValue().getBytes(StandardCharsets.UTF_8);
+			length += 2 + headerBytes[i].length + 4 + headerBytes[i + 1].length;
+			i += 2;
+		}
+
+		synchronized (this) {
+			// keep room for the end marker
+			if ((long) this.position + 4 + length + 4 > this.buffer.capacity()) {
+				this.dropped.increment();
+				return false;
+			}
+			int offset = this.position + 4;
+			this.buffer.putLong(offset, timestamp);
+			offset += 8;
+			offset = this.putShortBytes(offset, definitionBytes);
+			this.buffer.putShort(offset, (short) headers.size());
+			offset += 2;
+			for (int j = 0; j < headerBytes.length; j += 2) {
+				offset = this.putShortBytes(offset, headerBytes[j]);
+				this.buffer.putInt(offset, headerBytes[j + 1].length);
+				this.buffer.put(offset + 4, headerBytes[j + 1]);
+				offset += 4 + headerBytes[j + 1].length;
+			}
+			this.buffer.putInt(offset, payload.length);
+			this.buffer.put(offset + 4, payload);
+			this.buffer.putInt(this.position, length);
+			this.position += 4 + length;
+		}
+		this.recorded.increment();
+		return true;
+	}
+
+	/**
+	 * Returns the number of messages recorded since the recorder was created.
+	 * @return number of recorded messages
+	 */
+	public long getRecorded() {
+		return this.recorded.sum();
+	}
+
+	/**
+	 * Returns the number of messages dropped since the log is full.
+	 * @return number of dropped messages
+	 */
+	public long getDropped() {
+		return this.dropped.sum();
+	}
+
+	/**
+	 * Returns the size of the recording (including messages recorded before the recorder was created).
+	 * @return size in bytes
+	 */
+	public synchronized int getSize() {
+		return this.position;
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			this.buffer.force();
+			this.channel.close();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private int putShortBytes(int offset, byte[] bytes) {
+		this.buffer.putShort(offset, (short) bytes.length);
+		this.buffer.put(offset + 2, bytes);
+		return offset + 2 + bytes.length;
+	}
+
+	/*
+	 * Function definition and header names are prefixed with short length.
+	 */
+	private static byte[] shortBytes(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		Assert.isTrue(bytes.length <= Short.MAX_VALUE, () -> "Function definition and header names must not exceed "
+				+ Short.MAX_VALUE + " bytes: " + value);
+		return bytes;
+	}
+
+	/*
+	 * Returns position of the end marker (or end of the buffer) following the last complete record.
+	 */
+	static int endOfRecords(ByteBuffer buffer) {
+		int position = FILE_HEADER_LENGTH;
+		while (position + 4 <= buffer.limit()) {
+			int length = buffer.getInt(position);
+			if (length <= 0 || (long) position + 4 + length > buffer.limit()) {
+				break;
+			}
+			position += 4 + length;
+		}
+		return position;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+
+import org.springframework.cloud.function.context.catalog.FunctionAroundWrapper;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * {@link FunctionAroundWrapper} which records (sampled) input messages of the selected functions
+ * with {@link FunctionRecorder} before invoking the function. Payloads other than byte[] and String
+ * are recorded as JSON. Since only one {@link FunctionAroundWrapper} is applied to the invocation,
+ * another wrapper (e.g., the one providing observations) can be provided as delegate.
+ *
+ * @since 5.0.4
+ */
+public class FunctionRecordingAroundWrapper extends FunctionAroundWrapper {
+
+	private static final Log logger = LogFactory.getLog(FunctionRecordingAroundWrapper.class);
+
+	private final FunctionRecorder recorder;
+
+	private final JsonMapper jsonMapper;
+
+	private final Set<String> functionDefinitions;
+
+	private final double sampleProbability;
+
+	private final Set<String> excludedHeaders;
+
+	private final FunctionAroundWrapper delegate;
+
+	/**
+	 * @param recorder recorder of messages
+	 * @param jsonMapper mapper used to record payloads other than byte[] and String
+	 * @param functionDefinitions definitions of functions to record (all if empty)
+	 * @param sampleProbability probability with which each message is recorded
+	 * @param excludedHeaders names of headers (case-insensitive) not to record
+	 * @param delegate wrapper to apply to the invocation after the message is recorded
+	 */
+	public FunctionRecordingAroundWrapper(FunctionRecorder recorder, JsonMapper jsonMapper, Collection<String> functionDefinitions,
+			double sampleProbability, Collection<String> excludedHeaders, @Nullable FunctionAroundWrapper delegate) {
+		this.recorder = recorder;
+		this.jsonMapper = jsonMapper;
+		this.functionDefinitions = Set.copyOf(functionDefinitions);
+		this.sampleProbability = sampleProbability;
+		this.excludedHeaders = excludedHeaders.stream()
+			.map(name -> name.toLowerCase(Locale.ROOT))
+			.collect(Collectors.toUnmodifiableSet());
+		this.delegate = delegate;
+	}
+
+	@Override
+	protected Object doApply(Object input, FunctionInvocationWrapper targetFunction) {
+		if ((this.functionDefinitions.isEmpty() || this.functionDefinitions.contains(targetFunction.getFunctionDefinition()))
+				&& (this.sampleProbability >= 1.0 || ThreadLocalRandom.current().nextDouble() < this.sampleProbability)) {
+			try {
+				this.record(targetFunction.getFunctionDefinition(), (Message<?>) input);
+			}
+			catch (RuntimeException e) {
+				logger.warn("Failed to record input of function '" + targetFunction.getFunctionDefinition() + "'", e);
+			}
+		}
+		return this.delegate == null ? targetFunction.apply(input) : this.delegate.apply(input, targetFunction);
+	}
+
+	@Override
+	protected Object doApplyPublisher(Publisher<?> input, FunctionInvocationWrapper targetFunction) {
+		return this.delegate == null ? targetFunction.apply(input) : this.delegate.apply(input, targetFunction);
+	}
+
+	private void record(String functionDefinition, Message<?> message) {
+		Map<String, String> headers = new LinkedHashMap<>();
+		message.getHeaders().forEach((name, value) -> {
+			if (value != null && !MessageHeaders.ID.equals(name) && !MessageHeaders.TIMESTAMP.equals(name)
+					&& !this.excludedHeaders.contains(name.toLowerCase(Locale.ROOT))) {
+				headers.put(name, value.toString());
+			}
+		});
+		Object payload = message.getPayload();
+		byte[] payloadBytes = payload instanceof byte[] bytes ? bytes
+				: payload instanceof String string ? string.getBytes(StandardCharsets.UTF_8)
+				: this.jsonMapper.toJson(payload);
+		if (!this.recorder.record(functionDefinition, headers, payloadBytes) && logger.isDebugEnabled()) {
+			logger.debug("Input of function '" + functionDefinition + "' was not recorded since the recording is full");
+		}
+	}
+
+}
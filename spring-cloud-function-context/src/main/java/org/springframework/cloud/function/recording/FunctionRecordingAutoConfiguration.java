@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.catalog.FunctionAroundWrapper;
+import org.springframework.cloud.function.json.JsonMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.Assert;
+
+/**
+ * Records input messages of functions when {@code spring.cloud.function.recording.enabled} is set
+ * (see {@link FunctionProperties.RecordingProperties}). The {@link FunctionAroundWrapper} configured
+ * by other configurations (e.g., observation) is applied after the message is recorded.
+ *
+ * @since 5.0.4
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = FunctionProperties.PREFIX + ".recording", name = "enabled", havingValue = "true")
+@AutoConfigureAfter(name = "org.springframework.cloud.function.observability.ObservationAutoConfiguration")
+public class FunctionRecordingAutoConfiguration {
+
+	private static final String WRAPPER_BEAN_NAME = "functionRecordingAroundWrapper";
+
+	@Bean(destroyMethod = "close")
+	public FunctionRecorder functionRecorder(FunctionProperties functionProperties) {
+		FunctionProperties.RecordingProperties recording = functionProperties.getRecording();
+		return new FunctionRecorder(Path.of(recording.getFile()), recording.getMaxSize().toBytes());
+	}
+
+	@Bean(WRAPPER_BEAN_NAME)
+	@Primary
+	public FunctionAroundWrapper functionRecordingAroundWrapper(FunctionRecorder functionRecorder, JsonMapper jsonMapper,
+			FunctionProperties functionProperties, ListableBeanFactory beanFactory) {
+		List<String> delegateNames = Arrays.stream(beanFactory.getBeanNamesForType(FunctionAroundWrapper.class, true, false))
+			.filter(name -> !WRAPPER_BEAN_NAME.equals(name))
+			.toList();
+		Assert.state(delegateNames.size() <= 1, () -> "Function recording supports at most one other FunctionAroundWrapper, "
+				+ "but found " + delegateNames);
+		FunctionAroundWrapper delegate = delegateNames.isEmpty() ? null
+				: beanFactory.getBean(delegateNames.get(0), FunctionAroundWrapper.class);
+		FunctionProperties.RecordingProperties recording = functionProperties.getRecording();
+		return new FunctionRecordingAroundWrapper(functionRecorder, jsonMapper, recording.getFunctions(),
+				recording.getSampleProbability(), recording.getExcludedHeaders(), delegate);
+	}
+
+}
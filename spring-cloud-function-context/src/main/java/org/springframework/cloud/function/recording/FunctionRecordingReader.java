@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.springframework.util.Assert;
+
+/**
+ * Reads messages recorded by {@link FunctionRecorder} in the order they were recorded.
+ *
+ * @since 5.0.4
+ */
+public class FunctionRecordingReader implements Iterator<RecordedMessage>, AutoCloseable {
+
+	private final FileChannel channel;
+
+	private final MappedByteBuffer buffer;
+
+	private final int end;
+
+	private int position = FunctionRecorder.FILE_HEADER_LENGTH;
+
+	public FunctionRecordingReader(Path file) {
+		try {
+			this.channel = FileChannel.open(file, StandardOpenOption.READ);
+			Assert.state(this.channel.size() <= Integer.MAX_VALUE, () -> "File " + file + " is too large");
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to open recording file " + file, e);
+		}
+		Assert.state(this.buffer.limit() >= FunctionRecorder.FILE_HEADER_LENGTH
+				&& this.buffer.getInt(0) == FunctionRecorder.MAGIC && this.buffer.getInt(4) == FunctionRecorder.VERSION,
+				() -> "File " + file + " is not a function recording of version " + FunctionRecorder.VERSION);
+		this.end = FunctionRecorder.endOfRecords(this.buffer);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.position < this.end;
+	}
+
+	@Override
+	public RecordedMessage next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		int length = this.buffer.getInt(this.position);
+		int offset = this.position + 4;
+		long timestamp = this.buffer.getLong(offset);
+		offset += 8;
+		String functionDefinition = this.getString(offset + 2, this.buffer.getShort(offset));
+		offset += 2 + this.buffer.getShort(offset);
+		int headerCount = this.buffer.getShort(offset);
+		offset += 2;
+		Map<String, String> headers = new LinkedHashMap<>();
+		for (int i = 0; i < headerCount; i++) {
+			short nameLength = this.buffer.getShort(offset);
+			String name = this.getString(offset + 2, nameLength);
+			offset += 2 + nameLength;
+			int valueLength = this.buffer.getInt(offset);
+			headers.put(name, this.getString(offset + 4, valueLength));
+			offset += 4 + valueLength;
+		}
+		byte[] payload = new byte[this.buffer.getInt(offset)];
+		this.buffer.get(offset + 4, payload);
+		this.position += 4 + length;
+		return new RecordedMessage(functionDefinition, timestamp, headers, payload);
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.channel.close();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String getString(int offset, int length) {
+		byte[] bytes = new byte[length];
+		this.buffer.get(offset, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * Replays messages recorded by {@link FunctionRecorder} through the {@link FunctionCatalog}, preserving the
+ * intervals between the messages (optionally accelerated), and reports latency distribution of each function.
+ * Latency of each invocation is measured from the time it was scheduled to start, so invocations delayed because
+ * all threads were busy (e.g., since the function got slower) are accounted for. Reactive results are awaited.
+ *
+ * @since 5.0.4
+ */
+public class FunctionRecordingReplayer {
+
+	private static final Log logger = LogFactory.getLog(FunctionRecordingReplayer.class);
+
+	private final FunctionCatalog functionCatalog;
+
+	public FunctionRecordingReplayer(FunctionCatalog functionCatalog) {
+		this.functionCatalog = functionCatalog;
+	}
+
+	/**
+	 * Replays the recording.
+	 * @param recording recording file
+	 * @param speed speed of the replay relative to the recording (e.g., 1.0 for original speed, 10.0 for ten times faster),
+	 * 0 to invoke functions as fast as possible (in which case latency is measured from the actual start of invocation)
+	 * @param concurrency maximum number of concurrent invocations
+	 * @return statistics of each replayed function by function definition
+	 * @throws InterruptedException if interrupted while waiting for the invocations
+	 */
+	public Map<String, FunctionReplayStatistics> replay(Path recording, double speed, int concurrency) throws InterruptedException {
+		Assert.isTrue(speed >= 0, "'speed' must not be negative");
+		Assert.isTrue(concurrency > 0, "'concurrency' must be positive");
+		Map<String, FunctionInvocationWrapper> functions = new ConcurrentHashMap<>();
+		Map<String, ReplayResults> results = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try (FunctionRecordingReader reader = new FunctionRecordingReader(recording)) {
+			long firstTimestamp = -1;
+			long start = System.nanoTime();
+			while (reader.hasNext()) {
+				RecordedMessage message = reader.next();
+				if (firstTimestamp < 0) {
+					firstTimestamp = message.getTimestamp();
+				}
+				FunctionInvocationWrapper function = functions.computeIfAbsent(message.getFunctionDefinition(),
+						this::lookup);
+				ReplayResults functionResults = results.computeIfAbsent(message.getFunctionDefinition(), definition -> new ReplayResults());
+				long scheduledTime = speed == 0 ? 0 : start + (long) ((message.getTimestamp() - firstTimestamp) / speed);
+				if (scheduledTime != 0) {
+					long delay;
+					while ((delay = scheduledTime - System.nanoTime()) > 0) {
+						LockSupport.parkNanos(delay);
+					}
+				}
+				executor.execute(() -> {
+					long startTime = scheduledTime == 0 ? System.nanoTime() : scheduledTime;
+					boolean failed = false;
+					try {
+						Object result = function.apply(message.toMessage());
+						if (result instanceof Publisher<?> publisher) {
+							Flux.from(publisher).blockLast();
+						}
+					}
+					catch (RuntimeException e) {
+						failed = true;
+						if (logger.isDebugEnabled()) {
+							logger.debug("Replayed invocation of function '" + message.getFunctionDefinition() + "' failed", e);
+						}
+					}
+					functionResults.add(System.nanoTime() - startTime, failed);
+				});
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+		Map<String, FunctionReplayStatistics> statistics = new TreeMap<>();
+		results.forEach((definition, functionResults) -> statistics.put(definition, functionResults.toStatistics(definition)));
+		return statistics;
+	}
+
+	private FunctionInvocationWrapper lookup(String functionDefinition) {
+		FunctionInvocationWrapper function = this.functionCatalog.lookup(functionDefinition);
+		Assert.state(function != null, () -> "Recorded function '" + functionDefinition + "' is not present in the catalog");
+		return function;
+	}
+
+	/*
+	 *
+	 */
+	private static final class ReplayResults {
+
+		private long[] latencies = new long[64];
+
+		private int count;
+
+		private long errors;
+
+		synchronized void add(long latency, boolean failed) {
+			if (this.count == this.latencies.length) {
+				this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+			}
+			this.latencies[this.count++] = latency;
+			if (failed) {
+				this.errors++;
+			}
+		}
+
+		synchronized FunctionReplayStatistics toStatistics(String functionDefinition) {
+			return new FunctionReplayStatistics(functionDefinition, Arrays.copyOf(this.latencies, this.count), this.errors);
+		}
+
+	}
+
+}
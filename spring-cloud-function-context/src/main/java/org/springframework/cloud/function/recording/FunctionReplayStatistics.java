@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Latency distribution of replayed invocations of a single function (see {@link FunctionRecordingReplayer}).
+ *
+ * @since 5.0.4
+ */
+public class FunctionReplayStatistics {
+
+	private final String functionDefinition;
+
+	private final long[] latencies;
+
+	private final long errors;
+
+	FunctionReplayStatistics(String functionDefinition, long[] latencies, long errors) {
+		this.functionDefinition = functionDefinition;
+		this.latencies = latencies.clone();
+		Arrays.sort(this.latencies);
+		this.errors = errors;
+	}
+
+	/**
+	 * Returns definition of the replayed function.
+	 * @return function definition
+	 */
+	public String getFunctionDefinition() {
+		return this.functionDefinition;
+	}
+
+	/**
+	 * Returns the number of replayed invocations, including the failed ones.
+	 * @return number of invocations
+	 */
+	public int getCount() {
+		return this.latencies.length;
+	}
+
+	/**
+	 * Returns the number of replayed invocations which failed with exception.
+	 * @return number of failed invocations
+	 */
+	public long getErrors() {
+		return this.errors;
+	}
+
+	/**
+	 * Returns the latency below which the provided fraction of invocations falls.
+	 * @param percentile percentile (0.0 - 1.0)
+	 * @return latency in nanoseconds or 0 if nothing has been replayed
+	 */
+	public long getPercentile(double percentile) {
+		if (this.latencies.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(Math.min(1.0, Math.max(0.0, percentile)) * this.latencies.length);
+		return this.latencies[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Returns the mean latency.
+	 * @return latency in nanoseconds or 0 if nothing has been replayed
+	 */
+	public long getMean() {
+		return this.latencies.length == 0 ? 0 : (long) Arrays.stream(this.latencies).average().orElse(0);
+	}
+
+	/**
+	 * Returns the maximum latency.
+	 * @return latency in nanoseconds or 0 if nothing has been replayed
+	 */
+	public long getMax() {
+		return this.latencies.length == 0 ? 0 : this.latencies[this.latencies.length - 1];
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "%s: count=%d, errors=%d, mean=%.3fms, p50=%.3fms, p90=%.3fms, p99=%.3fms, "
+				+ "p99.9=%.3fms, max=%.3fms", this.functionDefinition, this.getCount(), this.errors, millis(this.getMean()),
+				millis(this.getPercentile(0.5)), millis(this.getPercentile(0.9)), millis(this.getPercentile(0.99)),
+				millis(this.getPercentile(0.999)), millis(this.getMax()));
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+}
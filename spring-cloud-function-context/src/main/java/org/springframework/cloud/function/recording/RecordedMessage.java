@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Input message of a function read from a recording (see {@link FunctionRecordingReader}).
+ *
+ * @since 5.0.4
+ */
+public class RecordedMessage {
+
+	private final String functionDefinition;
+
+	private final long timestamp;
+
+	private final Map<String, String> headers;
+
+	private final byte[] payload;
+
+	public RecordedMessage(String functionDefinition, long timestamp, Map<String, String> headers, byte[] payload) {
+		this.functionDefinition = functionDefinition;
+		this.timestamp = timestamp;
+		this.headers = headers;
+		this.payload = payload;
+	}
+
+	/**
+	 * Returns definition of the function which input the message was.
+	 * @return function definition
+	 */
+	public String getFunctionDefinition() {
+		return this.functionDefinition;
+	}
+
+	/**
+	 * Returns time the message was recorded.
+	 * @return nanoseconds since epoch
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Returns recorded headers of the message (values converted to String).
+	 * @return headers
+	 */
+	public Map<String, String> getHeaders() {
+		return this.headers;
+	}
+
+	/**
+	 * Returns recorded payload of the message.
+	 * @return payload
+	 */
+	public byte[] getPayload() {
+		return this.payload;
+	}
+
+	/**
+	 * Creates new message with the recorded payload and headers.
+	 * @return message
+	 */
+	public Message<byte[]> toMessage() {
+		return MessageBuilder.withPayload(this.payload).copyHeaders(this.headers).build();
+	}
+
+	@Override
+	public String toString() {
+		return "RecordedMessage [functionDefinition=" + this.functionDefinition + ", timestamp=" + this.timestamp
+				+ ", headers=" + this.headers + ", payload=" + this.payload.length + " bytes]";
+	}
+
+}
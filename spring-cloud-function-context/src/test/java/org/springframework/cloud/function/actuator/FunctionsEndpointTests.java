@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.function.actuator;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -25,11 +26,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.function.context.config.RoutingFunction;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  *
@@ -52,6 +59,57 @@ public class FunctionsEndpointTests {
 		assertThat(allFunctionsinCatalog.containsKey("reverse"));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void functionStatistics() {
+		ApplicationContext context = new SpringApplicationBuilder(SampleConfiguration.class)
+				.run("--spring.cloud.function.observability.latency-timers=true");
+		FunctionCatalog catalog = context.getBean(FunctionCatalog.class);
+		FunctionInvocationWrapper uppercase = catalog.lookup("uppercase");
+		uppercase.apply(MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build());
+		catalog.lookup("uppercase");
+		FunctionInvocationWrapper router = catalog.lookup(RoutingFunction.FUNCTION_NAME);
+		router.apply(MessageBuilder.withPayload("hello").setHeader(FunctionProperties.FUNCTION_DEFINITION, "reverse").build());
+
+		FunctionStatisticsEndpoint endpoint = new FunctionStatisticsEndpoint(catalog, context.getBean(RoutingFunction.class));
+		Map<String, Object> statistics = endpoint.statistics();
+
+		Map<String, Object> functions = (Map<String, Object>) statistics.get("functions");
+		assertThat(functions).containsKeys("uppercase", "reverse", RoutingFunction.FUNCTION_NAME);
+		Map<String, Object> uppercaseStatistics = (Map<String, Object>) functions.get("uppercase");
+		assertThat(uppercaseStatistics).containsEntry("invocations", 1L).containsEntry("errors", 0L).containsEntry("in-flight", 0);
+		Map<String, Map<String, Map<String, Object>>> latency = (Map<String, Map<String, Map<String, Object>>>) uppercaseStatistics.get("latency");
+		assertThat(latency.get("text/plain")).containsKeys("input-conversion", "execution", "output-conversion", "post-processing");
+		assertThat(latency.get("text/plain").get("execution")).containsEntry("count", 1L);
+		assertThat((Map<String, Object>) uppercaseStatistics.get("converters")).containsKeys("input", "output");
+		assertThat(endpoint.function("uppercase")).isEqualTo(uppercaseStatistics);
+
+		Map<String, Object> lookupCache = (Map<String, Object>) statistics.get("lookup-cache");
+		assertThat((long) lookupCache.get("hits")).isGreaterThanOrEqualTo(1);
+		assertThat((List<String>) lookupCache.get("entries")).contains("uppercase", "reverse");
+		assertThat((List<String>) statistics.get("message-converters")).isNotEmpty();
+
+		Map<String, Object> routing = (Map<String, Object>) statistics.get("routing");
+		assertThat((Map<String, Long>) routing.get("routes")).containsEntry("reverse", 1L);
+		assertThat(routing).containsEntry("misses", 0L).containsEntry("hit-rate", 1.0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void functionStatisticsWithoutLatencyTimers() {
+		ApplicationContext context = new SpringApplicationBuilder(FailingConfiguration.class).run();
+		FunctionCatalog catalog = context.getBean(FunctionCatalog.class);
+		FunctionInvocationWrapper failIfEmpty = catalog.lookup("failIfEmpty");
+		failIfEmpty.apply(MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build());
+		failIfEmpty.apply("hello");
+		assertThatThrownBy(() -> failIfEmpty.apply("")).isInstanceOf(IllegalArgumentException.class);
+
+		FunctionStatisticsEndpoint endpoint = new FunctionStatisticsEndpoint(catalog, null);
+		Map<String, Object> functionStatistics = endpoint.function("failIfEmpty");
+		assertThat(functionStatistics).containsEntry("invocations", 3L).containsEntry("errors", 1L).containsEntry("in-flight", 0)
+			.doesNotContainKey("latency");
+	}
+
 	@EnableAutoConfiguration
 	@Configuration
 	public static class SampleConfiguration {
@@ -71,4 +129,19 @@ public class FunctionsEndpointTests {
 			return v -> new StringBuilder(v).reverse().toString();
 		}
 	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	public static class FailingConfiguration {
+
+		@Bean
+		public Function<String, String> failIfEmpty() {
+			return v -> {
+				if (v.isEmpty()) {
+					throw new IllegalArgumentException("Value must not be empty");
+				}
+				return v;
+			};
+		}
+	}
 }
@@ -17,9 +17,13 @@
 package org.springframework.cloud.function.cloudevent;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -333,6 +337,81 @@ public class CloudEventFunctionTests {
 		assertThat(CloudEventMessageUtils.getSource(resultMessage)).isEqualTo(URI.create("http://spring.io/"));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testStructuredBatchImperative() throws Exception {
+		Function<Object, Object> function = this.lookup("springRelease", TestConfiguration.class);
+
+		Message<String> inputMessage = MessageBuilder
+				.withPayload(batchPayload())
+				.setHeader(MessageHeaders.CONTENT_TYPE, CloudEventMessageUtils.APPLICATION_CLOUDEVENTS_BATCH_VALUE + "+json")
+				.build();
+		assertThat(CloudEventMessageUtils.isCloudEventBatch(inputMessage)).isTrue();
+
+		List<Message<SpringReleaseEvent>> resultMessages = (List<Message<SpringReleaseEvent>>) function.apply(inputMessage);
+		assertThat(resultMessages).hasSize(2);
+		assertThat(resultMessages.get(0).getPayload().getReleaseName()).isEqualTo("Spring Framework");
+		assertThat(resultMessages.get(1).getPayload().getReleaseName()).isEqualTo("Spring Boot");
+		for (Message<SpringReleaseEvent> resultMessage : resultMessages) {
+			assertThat(resultMessage.getPayload().getVersion()).isEqualTo("2.0");
+			assertThat(CloudEventMessageUtils.isCloudEvent(resultMessage)).isTrue();
+			assertThat(CloudEventMessageUtils.getType(resultMessage)).isEqualTo(SpringReleaseEvent.class.getName());
+		}
+	}
+
+	@Test
+	public void testStructuredBatchImperativeConsumer() throws Exception {
+		ApplicationContext context = new SpringApplicationBuilder(TestConfiguration.class).run(
+				"--logging.level.org.springframework.cloud.function=DEBUG", "--spring.main.lazy-initialization=true");
+		Function<Object, Object> function = context.getBean(FunctionCatalog.class).lookup("springReleaseConsumer");
+
+		Message<String> inputMessage = MessageBuilder
+				.withPayload(batchPayload())
+				.setHeader(MessageHeaders.CONTENT_TYPE, CloudEventMessageUtils.APPLICATION_CLOUDEVENTS_BATCH_VALUE + "+json")
+				.build();
+
+		assertThat(function.apply(inputMessage)).isNull();
+		assertThat(context.getBean(TestConfiguration.class).consumedEvents)
+			.extracting(SpringReleaseEvent::getReleaseName)
+			.containsExactly("Spring Framework", "Spring Boot");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testStructuredBatchReactive() throws Exception {
+		Function<Object, Object> function = this.lookup("springReleaseReactive", TestConfiguration.class);
+
+		Message<byte[]> inputMessage = MessageBuilder
+				.withPayload(batchPayload().getBytes(StandardCharsets.UTF_8))
+				.setHeader(MessageHeaders.CONTENT_TYPE, CloudEventMessageUtils.APPLICATION_CLOUDEVENTS_BATCH_VALUE + "+json")
+				.build();
+
+		List<Message<SpringReleaseEvent>> resultMessages = ((Flux<Message<SpringReleaseEvent>>) function.apply(inputMessage))
+				.collectList().block();
+		assertThat(resultMessages).hasSize(2);
+		assertThat(resultMessages.get(0).getPayload().getReleaseName()).isEqualTo("Spring Framework");
+		assertThat(resultMessages.get(1).getPayload().getReleaseName()).isEqualTo("Spring Boot");
+		assertThat(resultMessages.get(1).getPayload().getVersion()).isEqualTo("2.0");
+	}
+
+	private static String batchPayload() {
+		return "[{\n" +
+				"    \"specversion\" : \"1.0\",\n" +
+				"    \"type\" : \"org.springframework\",\n" +
+				"    \"source\" : \"https://spring.io/\",\n" +
+				"    \"id\" : \"A234-1234-1234\",\n" +
+				"    \"datacontenttype\" : \"application/json\",\n" +
+				"    \"data\" : {\"version\" : \"1.0\", \"releaseName\" : \"Spring Framework\", \"releaseDate\" : \"24-03-2004\"}\n" +
+				"},\n" +
+				"{\n" +
+				"    \"specversion\" : \"1.0\",\n" +
+				"    \"type\" : \"org.springframework\",\n" +
+				"    \"source\" : \"https://spring.io/\",\n" +
+				"    \"id\" : \"A234-1234-1235\",\n" +
+				"    \"data\" : {\"version\" : \"1.0\", \"releaseName\" : \"Spring Boot\", \"releaseDate\" : \"01-04-2014\"}\n" +
+				"}]";
+	}
+
 	private Function<Object, Object> lookup(String functionDefinition, Class<?>... configClass) {
 		ApplicationContext context = new SpringApplicationBuilder(configClass).run(
 				"--logging.level.org.springframework.cloud.function=DEBUG", "--spring.main.lazy-initialization=true");
@@ -342,11 +421,19 @@ public class CloudEventFunctionTests {
 	@EnableAutoConfiguration
 	@Configuration
 	public static class TestConfiguration {
+
+		final List<SpringReleaseEvent> consumedEvents = new CopyOnWriteArrayList<>();
+
 		@Bean
 		Function<Message<Person>, Message<Person>> echo() {
 			return Function.identity();
 		}
 
+		@Bean
+		Consumer<SpringReleaseEvent> springReleaseConsumer() {
+			return this.consumedEvents::add;
+		}
+
 		@Bean
 		Function<SpringReleaseEvent, SpringReleaseEvent> springRelease() {
 			return event -> {
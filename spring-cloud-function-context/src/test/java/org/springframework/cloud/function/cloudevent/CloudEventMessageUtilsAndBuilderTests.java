@@ -17,14 +17,19 @@
 package org.springframework.cloud.function.cloudevent;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.MessageBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * @author Oleg Zhurakousky
@@ -98,6 +103,25 @@ public class CloudEventMessageUtilsAndBuilderTests {
 		assertThat(CloudEventMessageUtils.getSpecVersion(httpMessage)).isEqualTo("1.0");
 	}
 
+	@Test
+	void buildCreatesMessageHeadersAtBuildTime() throws Exception {
+		Message<String> message = CloudEventMessageBuilder.withData("hello").build(CloudEventMessageUtils.KAFKA_ATTR_PREFIX);
+		long builtAt = System.currentTimeMillis();
+		Thread.sleep(50);
+
+		MessageHeaders headers = message.getHeaders();
+		assertThat(headers.getId()).isNotNull();
+		assertThat(headers.getTimestamp()).isLessThanOrEqualTo(builtAt);
+		assertThat(message.getHeaders()).isSameAs(headers);
+		assertThat(CloudEventMessageUtils.getId(message)).isEqualTo(headers.get("ce_id"));
+	}
+
+	@Test
+	void buildRequiresId() {
+		assertThatIllegalArgumentException().isThrownBy(() -> CloudEventMessageBuilder.withData("hello").setId(null).build())
+			.withMessageContaining("id");
+	}
+
 	@Test
 	void buildWithKafkaPrefixUsesContentTypeHeaderForDataContentType() {
 		Message<String> kafkaMessage = CloudEventMessageBuilder.withData("hello")
@@ -162,4 +186,114 @@ public class CloudEventMessageUtilsAndBuilderTests {
 				.containsEntry("x", "x1")
 				.containsEntry("x|x", "x2");
 	}
+
+	@Test
+	void isCloudEventCandidate() {
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader(MessageHeaders.CONTENT_TYPE, "application/json").setHeader("x", "x").build().getHeaders()))
+			.isFalse();
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader("Ce-Type", "blah").build().getHeaders())).isTrue();
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader("ce_type", "blah").build().getHeaders())).isTrue();
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader("cloudEvents:type", "blah").build().getHeaders())).isTrue();
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader("specversion", "1.0").build().getHeaders())).isTrue();
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader(MessageHeaders.CONTENT_TYPE, "application/cloudevents+json").build().getHeaders())).isTrue();
+		assertThat(CloudEventMessageUtils.isCloudEventCandidate(MessageBuilder.withPayload("hello")
+				.setHeader("content-type", "application/cloudevents+json; charset=utf-8").build().getHeaders())).isTrue();
+	}
+
+	@Test
+	void preProcessInputSkipsCanonicalizationOfNonCloudEvents() {
+		CloudEventsFunctionInvocationHelper helper = new CloudEventsFunctionInvocationHelper(null);
+		Message<?> inputMessage = MessageBuilder.withPayload("hello").setHeader("x", "x").build();
+		assertThat(helper.preProcessInput(inputMessage, null)).isSameAs(inputMessage);
+		assertThat(helper.getSkippedCount()).isEqualTo(1);
+		assertThat(helper.getCanonicalizedCount()).isEqualTo(0);
+
+		inputMessage = MessageBuilder.withPayload("hello").setHeader("ce_type", "blah").build();
+		assertThat(helper.preProcessInput(inputMessage, null).getHeaders()).containsKey("ce-type");
+		assertThat(helper.getSkippedCount()).isEqualTo(1);
+		assertThat(helper.getCanonicalizedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void builtMessageExposesParsedAttributes() {
+		Message<String> message = CloudEventMessageBuilder.withData("hello")
+				.setSource("https://foo.bar")
+				.setType("blah")
+				.setSubject("subject")
+				.setHeader("x", "x")
+				.build(CloudEventMessageUtils.KAFKA_ATTR_PREFIX);
+
+		assertThat(CloudEventMessageUtils.isCloudEvent(message)).isTrue();
+		assertThat(CloudEventMessageUtils.getSource(message)).isEqualTo(URI.create("https://foo.bar"));
+		assertThat(CloudEventMessageUtils.getType(message)).isEqualTo("blah");
+		assertThat(CloudEventMessageUtils.getSubject(message)).isEqualTo("subject");
+		assertThat(CloudEventMessageUtils.getSpecVersion(message)).isEqualTo("1.0");
+		assertThat(CloudEventMessageUtils.getId(message)).isEqualTo(message.getHeaders().get("ce_id"));
+		assertThat(CloudEventMessageUtils.getAttributes(message)).containsOnlyKeys("ce_id", "ce_source",
+				"ce_type", "ce_subject", "ce_specversion");
+		assertThat(message.getHeaders()).containsEntry("x", "x").containsKey(MessageHeaders.ID);
+		assertThat(message.getHeaders()).isSameAs(message.getHeaders());
+
+		Message<String> copy = MessageBuilder.fromMessage(message).build();
+		assertThat(CloudEventMessageUtils.getAttributes(copy)).isEqualTo(CloudEventMessageUtils.getAttributes(message));
+		assertThat(CloudEventMessageUtils.getId(copy)).isEqualTo(CloudEventMessageUtils.getId(message));
+	}
+
+	@Test
+	void builderUsesProvidedIdGenerator() {
+		UUID id = UUID.randomUUID();
+		Message<String> message = CloudEventMessageBuilder.withData("hello").setIdGenerator(() -> id).build();
+		assertThat(CloudEventMessageUtils.getId(message)).isEqualTo(id.toString());
+
+		UUID generated = new ThreadLocalRandomIdGenerator().generateId();
+		assertThat(generated.version()).isEqualTo(4);
+		assertThat(generated.variant()).isEqualTo(2);
+		assertThat(new ThreadLocalRandomIdGenerator().generateId()).isNotEqualTo(generated);
+	}
+
+	@Test
+	void toCanonicalDecodesStructuredCloudEventWithoutDeserializingData() {
+		String payload = "{\"specversion\":\"1.0\",\"type\":\"blah\",\"source\":\"https://foo.bar\",\"id\":\"1\","
+				+ "\"ext\":5,\"data\":{\"name\":\"Ricky\",\"tags\":[1,2]}}";
+		Message<?> inputMessage = MessageBuilder.withPayload(payload)
+				.setHeader(MessageHeaders.CONTENT_TYPE, "application/cloudevents+json").build();
+
+		Message<?> binaryMessage = CloudEventMessageUtils.toCanonical(inputMessage, null);
+
+		assertThat(CloudEventMessageUtils.isCloudEvent(binaryMessage)).isTrue();
+		assertThat(new String((byte[]) binaryMessage.getPayload(), StandardCharsets.UTF_8))
+				.isEqualTo("{\"name\":\"Ricky\",\"tags\":[1,2]}");
+		assertThat(binaryMessage.getHeaders())
+				.containsEntry(MessageHeaders.CONTENT_TYPE, "application/json")
+				.containsEntry("ce-id", "1")
+				.containsEntry("ce-ext", 5);
+		assertThat(CloudEventMessageUtils.getSource(binaryMessage)).isEqualTo(URI.create("https://foo.bar"));
+	}
+
+	@Test
+	void toCloudEventMessagesDecodesBatchLazily() {
+		String payload = "[{\"specversion\":\"1.0\",\"type\":\"blah\",\"source\":\"https://foo.bar\",\"id\":\"1\","
+				+ "\"datacontenttype\":\"text/plain\",\"data\":\"hello\"},"
+				+ "{\"specversion\":\"1.0\",\"type\":\"blah\",\"source\":\"https://foo.bar\",\"id\":\"2\","
+				+ "\"data_base64\":\"aGVsbG8=\"}, 5]";
+		Message<?> inputMessage = MessageBuilder.withPayload(payload.getBytes(StandardCharsets.UTF_8))
+				.setHeader(MessageHeaders.CONTENT_TYPE, "application/cloudevents-batch+json").build();
+		assertThat(CloudEventMessageUtils.isCloudEventBatch(inputMessage)).isTrue();
+
+		Iterator<Message<?>> events = CloudEventMessageUtils.toCloudEventMessages(inputMessage).iterator();
+		Message<?> event = events.next();
+		assertThat(event.getPayload()).isEqualTo("hello");
+		assertThat(CloudEventMessageUtils.getId(event)).isEqualTo("1");
+		assertThat(event.getHeaders()).containsEntry(MessageHeaders.CONTENT_TYPE, "text/plain");
+		event = events.next();
+		assertThat(event.getPayload()).isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+		assertThat(CloudEventMessageUtils.getId(event)).isEqualTo("2");
+		assertThatIllegalArgumentException().isThrownBy(events::hasNext);
+	}
 }
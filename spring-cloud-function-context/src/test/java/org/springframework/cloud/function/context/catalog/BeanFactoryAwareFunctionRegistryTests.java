@@ -20,6 +20,7 @@ package org.springframework.cloud.function.context.catalog;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -31,11 +32,18 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -43,6 +51,11 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -50,6 +63,8 @@ import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuple3;
 import reactor.util.function.Tuples;
@@ -82,6 +97,7 @@ import org.springframework.util.ReflectionUtils;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 
 /**
@@ -920,6 +936,850 @@ public class BeanFactoryAwareFunctionRegistryTests {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testImperativeFunctionOffloadingForPublisherInput() {
+		String callerThread = Thread.currentThread().getName();
+		try (ConfigurableApplicationContext ac = new SpringApplicationBuilder(BlockingFunctionConfiguration.class)
+				.run("--logging.level.org.springframework.cloud.function=DEBUG",
+						"--spring.main.lazy-initialization=true")) {
+			FunctionInvocationWrapper function = ac.getBean(FunctionCatalog.class).lookup("blockingUppercase");
+			List<String> result = ((Flux<String>) function.apply(Flux.just("a", "b", "c"))).collectList().block();
+			assertThat(result).containsExactly("A", "B", "C");
+			assertThat(ac.getBean(BlockingFunctionConfiguration.class).threads).containsOnly(callerThread);
+		}
+		for (String executionMode : new String[] {"bounded-elastic", "virtual-threads"}) {
+			try (ConfigurableApplicationContext ac = new SpringApplicationBuilder(BlockingFunctionConfiguration.class)
+					.run("--logging.level.org.springframework.cloud.function=DEBUG",
+							"--spring.main.lazy-initialization=true",
+							"--spring.cloud.function.configuration.blockingUppercase.execution-mode=" + executionMode,
+							"--spring.cloud.function.configuration.blockingUppercase.concurrency=2")) {
+				FunctionInvocationWrapper function = ac.getBean(FunctionCatalog.class).lookup("blockingUppercase");
+				List<String> result = ((Flux<String>) function.apply(Flux.just("a", "b", "c", "d", "e"))).collectList().block();
+				assertThat(result).containsExactly("A", "B", "C", "D", "E");
+				assertThat(ac.getBean(BlockingFunctionConfiguration.class).threads).doesNotContain(callerThread);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testUnorderedParallelExecutionForPublisherInput() {
+		try (ConfigurableApplicationContext ac = new SpringApplicationBuilder(BlockingFunctionConfiguration.class)
+				.run("--logging.level.org.springframework.cloud.function=DEBUG",
+						"--spring.main.lazy-initialization=true",
+						"--spring.cloud.function.configuration.blockingUppercase.execution-mode=parallel",
+						"--spring.cloud.function.configuration.blockingUppercase.ordered=false",
+						"--spring.cloud.function.configuration.blockingUppercase.concurrency=4")) {
+			BeanFactoryAwareFunctionRegistry catalog = ac.getBean(BeanFactoryAwareFunctionRegistry.class);
+			Map<String, FunctionRuntimeState> states = new HashMap<>();
+			catalog.addRuntimeStateListener(state -> states.put(state.getFunctionDefinition(), state));
+			FunctionInvocationWrapper function = catalog.lookup("blockingUppercase");
+			assertThat(states).containsOnlyKeys("blockingUppercase");
+			FunctionExecutionStatistics functionStatistics = catalog.getRuntimeState("blockingUppercase").getExecutionStatistics();
+			assertThat(functionStatistics).isNotNull();
+			assertThat(states.get("blockingUppercase")).isSameAs(catalog.getRuntimeState("blockingUppercase"));
+
+			AtomicInteger maxInFlight = new AtomicInteger();
+			List<String> result = ((Flux<String>) function.apply(Flux.range(0, 20).map(String::valueOf)))
+				.doOnNext(v -> maxInFlight.accumulateAndGet(functionStatistics.getInFlight(), Math::max))
+				.collectList().block();
+			assertThat(result).hasSize(20);
+			assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+			assertThat(functionStatistics.getPending()).isZero();
+			assertThat(functionStatistics.getInFlight()).isZero();
+			assertThat(ac.getBean(BlockingFunctionConfiguration.class).threads).allMatch(name -> name.startsWith("parallel"));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMicroBatchingOfListFunction() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.batchUppercase.batching.enabled=true",
+				"--spring.cloud.function.configuration.batchUppercase.batching.size=5",
+				"--spring.cloud.function.configuration.batchUppercase.batching.max-wait=1s"},
+				BatchingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("batchUppercase");
+		assertThat(function.getInputType()).isEqualTo(String.class);
+
+		List<Mono<String>> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			results.add((Mono<String>) function.apply("item" + i));
+		}
+		List<String> result = Flux.mergeSequential(results).collectList().block(Duration.ofSeconds(5));
+		assertThat(result).containsExactly("ITEM0", "ITEM1", "ITEM2", "ITEM3", "ITEM4",
+				"ITEM5", "ITEM6", "ITEM7", "ITEM8", "ITEM9");
+		assertThat(this.context.getBean(BatchingFunctionConfiguration.class).batchSizes).containsExactly(5, 5);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMicroBatchingSharesBatchesAcrossLookups() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.batchUppercase.batching.enabled=true",
+				"--spring.cloud.function.configuration.batchUppercase.batching.size=4",
+				"--spring.cloud.function.configuration.batchUppercase.batching.max-wait=1m"},
+				BatchingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("batchUppercase");
+		Field wrappedFunctionDefinitionsField = ReflectionUtils.findField(SimpleFunctionRegistry.class,
+				"wrappedFunctionDefinitions");
+		wrappedFunctionDefinitionsField.setAccessible(true);
+		((Map<?, ?>) wrappedFunctionDefinitionsField.get(catalog)).clear();
+		FunctionInvocationWrapper anotherFunction = catalog.lookup("batchUppercase");
+		assertThat(anotherFunction).isNotSameAs(function);
+
+		List<Mono<String>> results = new ArrayList<>();
+		results.add((Mono<String>) function.apply("a"));
+		results.add((Mono<String>) anotherFunction.apply("b"));
+		results.add((Mono<String>) function.apply("c"));
+		results.add((Mono<String>) anotherFunction.apply("d"));
+		assertThat(Flux.mergeSequential(results).collectList().block(Duration.ofSeconds(5)))
+			.containsExactly("A", "B", "C", "D");
+		assertThat(this.context.getBean(BatchingFunctionConfiguration.class).batchSizes).containsExactly(4);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testMicroBatchingFlushesBufferedElementsWhenContextIsClosed() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.batchUppercase.batching.enabled=true",
+				"--spring.cloud.function.configuration.batchUppercase.batching.size=10",
+				"--spring.cloud.function.configuration.batchUppercase.batching.max-wait=1m"},
+				BatchingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("batchUppercase");
+		Mono<String> first = (Mono<String>) function.apply("a");
+		Mono<String> second = (Mono<String>) function.apply("b");
+
+		((ConfigurableApplicationContext) this.context).close();
+		assertThat(first.block(Duration.ofSeconds(5))).isEqualTo("A");
+		assertThat(second.block(Duration.ofSeconds(5))).isEqualTo("B");
+		assertThatThrownBy(() -> ((Mono<String>) function.apply("c")).block(Duration.ofSeconds(5)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void testMicroBatchingPropagatesErrorToEachCaller() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.batchFailure.batching.enabled=true",
+				"--spring.cloud.function.configuration.batchFailure.batching.size=2"},
+				BatchingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("batchFailure");
+		Mono<?> first = (Mono<?>) function.apply("a");
+		Mono<?> second = (Mono<?>) function.apply("b");
+		assertThatThrownBy(() -> first.block(Duration.ofSeconds(5))).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> second.block(Duration.ofSeconds(5))).isInstanceOf(IllegalStateException.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCompletionStageFunction() {
+		FunctionCatalog catalog = this.configureCatalog(CompletionStageFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("asyncUppercase");
+		assertThat(function.isOutputTypePublisher()).isTrue();
+		assertThat(FunctionTypeUtils.isMono(function.getOutputType())).isTrue();
+		assertThat(FunctionTypeUtils.getImmediateGenericType(function.getOutputType(), 0)).isEqualTo(String.class);
+
+		Mono<String> result = (Mono<String>) function.apply("hello");
+		assertThat(result.block(Duration.ofSeconds(5))).isEqualTo("HELLO");
+
+		List<String> results = ((Flux<String>) function.apply(Flux.just("a", "b", "c"))).collectList().block(Duration.ofSeconds(5));
+		assertThat(results).containsExactly("A", "B", "C");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCompletionStageFunctionWithMessageAndOutputConversion() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.asyncPerson.copy-input-headers=true"},
+				CompletionStageFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("asyncPerson", "application/json");
+
+		Message<byte[]> result = ((Mono<Message<byte[]>>) function.apply(MessageBuilder.withPayload("Ricky")
+				.setHeader("foo", "bar").build())).block(Duration.ofSeconds(5));
+		assertThat(new String(result.getPayload(), StandardCharsets.UTF_8)).contains("\"name\":\"Ricky\"");
+		assertThat(result.getHeaders().get("foo")).isEqualTo("bar");
+
+		Mono<?> failure = (Mono<?>) catalog.<FunctionInvocationWrapper>lookup("asyncFailure").apply("hello");
+		assertThatThrownBy(() -> failure.block(Duration.ofSeconds(5))).isInstanceOf(IllegalStateException.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScatterGatherComposition() {
+		FunctionCatalog catalog = this.configureCatalog(ScatterGatherFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("split(enrichName, enrichAddress, enrichRating)|merge");
+		assertThat(FunctionTypeUtils.isMono(function.getOutputType())).isTrue();
+
+		long start = System.currentTimeMillis();
+		String result = ((Mono<String>) function.apply("Ricky")).block(Duration.ofSeconds(5));
+		long elapsed = System.currentTimeMillis() - start;
+		assertThat(result).isEqualTo("name:Ricky, address:Ricky, rating:5");
+		// branches sleep 300ms each, so sequential execution would take at least 900ms
+		assertThat(elapsed).isLessThan(900);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScatterGatherCompositionWithMessageAndPrecedingFunction() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.split.execution-mode=direct"}, ScatterGatherFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("trim,split(enrichName,enrichRating),merge", "text/plain");
+
+		Message<?> result = ((Mono<Message<?>>) function.apply(MessageBuilder.withPayload("  Ricky ".getBytes())
+				.setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build())).block(Duration.ofSeconds(5));
+		assertThat(result.getPayload()).isEqualTo("name:Ricky, rating:5");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScatterGatherCompositionWithFluxInput() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.split.execution-mode=direct"}, ScatterGatherFunctionConfiguration.class);
+
+		FunctionInvocationWrapper function = catalog.lookup("split(enrichName,enrichRating)|merge");
+		StepVerifier.create((Flux<String>) function.apply(Flux.just("Ricky", "Julian")))
+			.expectNext("name:Ricky, rating:5", "name:Julian, rating:5")
+			.verifyComplete();
+
+		FunctionInvocationWrapper gatherFunction = catalog.lookup("split(enrichName,enrichRating)");
+		StepVerifier.create((Flux<List<Object>>) gatherFunction.apply(Flux.just("Ricky", "Julian")))
+			.expectNext(List.of("name:Ricky", 5), List.of("name:Julian", 5))
+			.verifyComplete();
+	}
+
+	@Test
+	public void testScatterGatherCompositionRequiresBranches() {
+		FunctionCatalog catalog = this.configureCatalog(ScatterGatherFunctionConfiguration.class);
+		assertThatThrownBy(() -> catalog.lookup("split()|merge"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("at least one function");
+	}
+
+	@Test
+	public void testBulkheadRejectsInvocationBeyondMaxConcurrency() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.latchedUppercase.bulkhead.max-concurrency=1",
+				"--spring.cloud.function.configuration.latchedUppercase.bulkhead.policy=reject"},
+				BulkheadFunctionConfiguration.class);
+		BulkheadFunctionConfiguration configuration = this.context.getBean(BulkheadFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("latchedUppercase");
+		FunctionBulkhead bulkhead = ((SimpleFunctionRegistry) catalog).getRuntimeState("latchedUppercase").getBulkhead();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> first = executor.submit(() -> function.apply("a"));
+			assertThat(configuration.started.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(bulkhead.getInFlight()).isEqualTo(1);
+
+			assertThatThrownBy(() -> function.apply("b")).isInstanceOf(FunctionRejectedException.class);
+			assertThat(bulkhead.getRejected()).isEqualTo(1);
+
+			configuration.release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+			assertThat(bulkhead.getInFlight()).isZero();
+			assertThat(function.apply("c")).isEqualTo("C");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testBulkheadQueuesInvocationsBeyondMaxConcurrency() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.slowUppercase.bulkhead.max-concurrency=2",
+				"--spring.cloud.function.configuration.slowUppercase.bulkhead.max-queue=10"},
+				BulkheadFunctionConfiguration.class);
+		BulkheadFunctionConfiguration configuration = this.context.getBean(BulkheadFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("slowUppercase");
+		FunctionBulkhead bulkhead = ((SimpleFunctionRegistry) catalog).getRuntimeState("slowUppercase").getBulkhead();
+
+		ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			for (int i = 0; i < 6; i++) {
+				String value = "value" + i;
+				results.add(executor.submit(() -> function.apply(value)));
+			}
+			for (int i = 0; i < 6; i++) {
+				assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("VALUE" + i);
+			}
+			assertThat(configuration.maxConcurrency.get()).isEqualTo(2);
+			assertThat(bulkhead.getRejected()).isZero();
+			assertThat(bulkhead.getQueued()).isZero();
+			assertThat(bulkhead.getInFlight()).isZero();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testBulkheadRejectsInsteadOfWaitingOnNonBlockingThread() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.latchedUppercase.bulkhead.max-concurrency=1",
+				"--spring.cloud.function.configuration.latchedUppercase.bulkhead.policy=wait"},
+				BulkheadFunctionConfiguration.class);
+		BulkheadFunctionConfiguration configuration = this.context.getBean(BulkheadFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("latchedUppercase");
+		FunctionBulkhead bulkhead = ((SimpleFunctionRegistry) catalog).getRuntimeState("latchedUppercase").getBulkhead();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> first = executor.submit(() -> function.apply("a"));
+			assertThat(configuration.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThatThrownBy(() -> Mono.fromCallable(() -> function.apply("b"))
+					.subscribeOn(Schedulers.parallel())
+					.block(Duration.ofSeconds(5)))
+				.isInstanceOf(FunctionRejectedException.class);
+			assertThat(bulkhead.getRejected()).isEqualTo(1);
+			assertThat(bulkhead.getQueued()).isZero();
+
+			configuration.release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+			assertThat(bulkhead.getInFlight()).isZero();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBulkheadWithPublisherInput() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.delayedUppercase.bulkhead.max-concurrency=1",
+				"--spring.cloud.function.configuration.delayedUppercase.bulkhead.max-wait=50ms"},
+				BulkheadFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("delayedUppercase");
+		FunctionBulkhead bulkhead = ((SimpleFunctionRegistry) catalog).getRuntimeState("delayedUppercase").getBulkhead();
+
+		Mono<String> first = (Mono<String>) function.apply(Mono.just("a"));
+		Mono<String> second = (Mono<String>) function.apply(Mono.just("b"));
+		StepVerifier.create(Flux.merge(first, second.onErrorResume(FunctionRejectedException.class, e -> Mono.just("rejected"))))
+			.expectNext("rejected")
+			.expectNext("A")
+			.verifyComplete();
+		assertThat(bulkhead.getRejected()).isEqualTo(1);
+		assertThat(bulkhead.getInFlight()).isZero();
+		assertThat(bulkhead.getQueued()).isZero();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBulkheadHoldsSinglePermitPerSubscriptionToStream() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.uppercaseFlux.bulkhead.max-concurrency=1",
+				"--spring.cloud.function.configuration.uppercaseFlux.bulkhead.policy=reject"},
+				BulkheadFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercaseFlux");
+		FunctionBulkhead bulkhead = ((SimpleFunctionRegistry) catalog).getRuntimeState("uppercaseFlux").getBulkhead();
+
+		List<Integer> inFlight = new ArrayList<>();
+		StepVerifier.create(((Flux<String>) function.apply(Flux.just("a", "b", "c")))
+				.doOnNext(value -> inFlight.add(bulkhead.getInFlight())))
+			.expectNext("A", "B", "C")
+			.verifyComplete();
+		assertThat(inFlight).containsExactly(1, 1, 1);
+		assertThat(bulkhead.getRejected()).isZero();
+		assertThat(bulkhead.getInFlight()).isZero();
+	}
+
+	@Test
+	public void testCoalescingOfConcurrentInvocations() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.latchedCountingUppercase.coalescing.enabled=true"},
+				CoalescingFunctionConfiguration.class);
+		CoalescingFunctionConfiguration configuration = this.context.getBean(CoalescingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("latchedCountingUppercase");
+		FunctionInvocationCoalescer invocationCoalescer = ((SimpleFunctionRegistry) catalog).getRuntimeState("latchedCountingUppercase").getInvocationCoalescer();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			results.add(executor.submit(() -> function.apply("a")));
+			assertThat(configuration.started.await(5, TimeUnit.SECONDS)).isTrue();
+			for (int i = 0; i < 3; i++) {
+				results.add(executor.submit(() -> function.apply("a")));
+			}
+			long deadline = System.currentTimeMillis() + 5000;
+			while (invocationCoalescer.getCoalesced() < 3 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertThat(invocationCoalescer.getCoalesced()).isEqualTo(3);
+			assertThat(function.apply("b")).isEqualTo("B");
+
+			configuration.release.countDown();
+			for (Future<Object> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+			}
+			assertThat(configuration.invocations.get()).isEqualTo(2);
+			assertThat(invocationCoalescer.getInFlight()).isZero();
+
+			assertThat(function.apply("a")).isEqualTo("A");
+			assertThat(configuration.invocations.get()).isEqualTo(3);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCoalescingOfConcurrentReactiveInvocations() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.delayedCountingUppercase.coalescing.enabled=true"},
+				CoalescingFunctionConfiguration.class);
+		CoalescingFunctionConfiguration configuration = this.context.getBean(CoalescingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("delayedCountingUppercase");
+		FunctionInvocationCoalescer invocationCoalescer = ((SimpleFunctionRegistry) catalog).getRuntimeState("delayedCountingUppercase").getInvocationCoalescer();
+
+		// the second invocation arrives while the result of the first one is subscribed
+		Mono<String> first = (Mono<String>) function.apply("a");
+		Mono<String> second = Mono.defer(() -> (Mono<String>) function.apply("a"));
+		StepVerifier.create(Flux.merge(first, second))
+			.expectNext("A", "A")
+			.verifyComplete();
+		assertThat(configuration.invocations.get()).isEqualTo(1);
+		assertThat(invocationCoalescer.getCoalesced()).isEqualTo(1);
+		assertThat(invocationCoalescer.getInFlight()).isZero();
+
+		StepVerifier.create((Mono<String>) function.apply("a"))
+			.expectNext("A")
+			.verifyComplete();
+		assertThat(configuration.invocations.get()).isEqualTo(2);
+
+		// result which is never subscribed is not retained
+		function.apply("a");
+		assertThat(invocationCoalescer.getInFlight()).isZero();
+		StepVerifier.create((Mono<String>) function.apply("a"))
+			.expectNext("A")
+			.verifyComplete();
+		assertThat(configuration.invocations.get()).isEqualTo(3);
+		assertThat(invocationCoalescer.getCoalesced()).isEqualTo(1);
+	}
+
+	@Test
+	public void testCoalescingDoesNotBlockNonBlockingThread() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.latchedCountingUppercase.coalescing.enabled=true"},
+				CoalescingFunctionConfiguration.class);
+		CoalescingFunctionConfiguration configuration = this.context.getBean(CoalescingFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("latchedCountingUppercase");
+		FunctionInvocationCoalescer invocationCoalescer = ((SimpleFunctionRegistry) catalog).getRuntimeState("latchedCountingUppercase").getInvocationCoalescer();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> first = executor.submit(() -> function.apply("a"));
+			assertThat(configuration.started.await(5, TimeUnit.SECONDS)).isTrue();
+			CompletableFuture<Object> second = Mono.fromCallable(() -> function.apply("a"))
+				.subscribeOn(Schedulers.parallel())
+				.toFuture();
+			long deadline = System.currentTimeMillis() + 5000;
+			while (configuration.invocations.get() < 2 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			// invoked on the non-blocking thread rather than waiting for the first invocation
+			assertThat(configuration.invocations.get()).isEqualTo(2);
+
+			configuration.release.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+			assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+			assertThat(invocationCoalescer.getCoalesced()).isZero();
+			assertThat(invocationCoalescer.getInFlight()).isZero();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDeadlineAvailableToImperativeFunction() {
+		FunctionCatalog catalog = this.configureCatalog(DeadlineFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("remainingTime");
+
+		String result = (String) function.apply(MessageBuilder.withPayload("hello")
+			.setHeader(FunctionDeadline.DEADLINE_HEADER, System.currentTimeMillis() + 10000).build());
+		assertThat(Long.parseLong(result)).isBetween(1L, 10000L);
+		assertThat(FunctionDeadline.getRemainingTime()).isNull();
+
+		result = (String) function.apply(MessageBuilder.withPayload("hello").build());
+		assertThat(result).isEqualTo("none");
+	}
+
+	@Test
+	public void testDeadlineAlreadyPassed() {
+		FunctionCatalog catalog = this.configureCatalog(DeadlineFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("remainingTime");
+
+		assertThatThrownBy(() -> function.apply(MessageBuilder.withPayload("hello")
+			.setHeader(FunctionDeadline.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() - 1)).build()))
+			.isInstanceOf(FunctionDeadlineExceededException.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDeadlineCancelsReactiveFunction() {
+		FunctionCatalog catalog = this.configureCatalog(DeadlineFunctionConfiguration.class);
+		DeadlineFunctionConfiguration configuration = this.context.getBean(DeadlineFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("slowReactiveRemainingTime");
+
+		Mono<Message<String>> result = (Mono<Message<String>>) function.apply(MessageBuilder.withPayload("hello")
+			.setHeader(FunctionDeadline.DEADLINE_HEADER, System.currentTimeMillis() + 1000).build());
+		StepVerifier.create(result)
+			.expectError(FunctionDeadlineExceededException.class)
+			.verify(Duration.ofSeconds(5));
+		assertThat(configuration.cancelled.get()).isTrue();
+		assertThat(configuration.remainingTime.get()).isBetween(1L, 1000L);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReactiveObservationPerElement() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.reactive-mode=per-element"},
+				ReactiveObservationConfiguration.class);
+		TestObservationRegistry registry = this.context.getBean(TestObservationRegistry.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercase");
+
+		StepVerifier.create((Flux<String>) function.apply(Flux.just("a", "b", "c")))
+			.expectNext("A", "B", "C")
+			.verifyComplete();
+		TestObservationRegistryAssert.assertThat(registry)
+			.hasNumberOfObservationsWithNameEqualTo("spring.cloud.function", 3)
+			.forAllObservationsWithNameEqualTo("spring.cloud.function",
+				observation -> observation.hasLowCardinalityKeyValue("spring.cloud.function.definition", "uppercase"));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReactiveObservationPerElementFallsBackToSubscriptionForFilteringFunction() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.reactive-mode=per-element"},
+				ReactiveObservationConfiguration.class);
+		TestObservationRegistry registry = this.context.getBean(TestObservationRegistry.class);
+		FunctionInvocationWrapper function = catalog.lookup("vowelsFlux");
+
+		// results can not be matched with elements, since 'b' and 'c' produce no result
+		StepVerifier.create((Flux<String>) function.apply(Flux.just("a", "b", "c", "e")))
+			.expectNext("A", "E")
+			.verifyComplete();
+		TestObservationRegistryAssert.assertThat(registry)
+			.hasNumberOfObservationsWithNameEqualTo("spring.cloud.function", 1)
+			.hasSingleObservationThat()
+			.hasLowCardinalityKeyValue("spring.cloud.function.definition", "vowelsFlux")
+			.hasBeenStarted()
+			.hasBeenStopped();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReactiveObservationPerSubscription() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.reactive-mode=per-subscription"},
+				ReactiveObservationConfiguration.class);
+		TestObservationRegistry registry = this.context.getBean(TestObservationRegistry.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercaseFlux");
+
+		StepVerifier.create((Flux<String>) function.apply(Flux.just("a", "b", "c")))
+			.expectNext("A", "B", "C")
+			.verifyComplete();
+		TestObservationRegistryAssert.assertThat(registry)
+			.hasNumberOfObservationsWithNameEqualTo("spring.cloud.function", 1)
+			.hasSingleObservationThat()
+			.hasBeenStarted()
+			.hasBeenStopped();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testReactiveObservationDisabledByDefault() {
+		FunctionCatalog catalog = this.configureCatalog(ReactiveObservationConfiguration.class);
+		TestObservationRegistry registry = this.context.getBean(TestObservationRegistry.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercaseFlux");
+
+		StepVerifier.create((Flux<String>) function.apply(Flux.just("a", "b", "c")))
+			.expectNext("A", "B", "C")
+			.verifyComplete();
+		TestObservationRegistryAssert.assertThat(registry).doesNotHaveAnyObservation();
+	}
+
+	@Test
+	public void testLatencyTimersPerPhaseAndContentType() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.latency-timers=true"},
+				LatencyFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercase");
+		function.apply(MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build());
+		function.apply(MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build());
+		function.apply("hello");
+
+		FunctionLatencyStatistics statistics = ((SimpleFunctionRegistry) catalog).getRuntimeState("uppercase").getLatencyStatistics();
+		for (FunctionLatencyStatistics.Phase phase : FunctionLatencyStatistics.Phase.values()) {
+			assertThat(statistics.getHistogram(phase, "text/plain").getCount()).isEqualTo(2);
+			assertThat(statistics.getHistogram(phase, FunctionLatencyStatistics.NO_CONTENT_TYPE).getCount()).isEqualTo(1);
+		}
+		assertThat(statistics.getHistograms()).hasSize(8);
+	}
+
+	@Test
+	public void testLatencyTimersPublishedAsMicrometerTimers() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.latency-timers=true"},
+				LatencyFunctionConfiguration.class);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		this.context.getBean("functionRuntimeStateMeterBinder", MeterBinder.class).bindTo(meterRegistry);
+		FunctionInvocationWrapper function = catalog.lookup("uppercase");
+		function.apply(MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build());
+		function.apply(MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build());
+
+		Timer timer = meterRegistry.get("spring.cloud.function.latency")
+			.tags("function", "uppercase", "phase", "execution", "contentType", "text/plain")
+			.timer();
+		assertThat(timer.count()).isEqualTo(2);
+		assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+		assertThat(timer.count()).isEqualTo(((SimpleFunctionRegistry) catalog).getRuntimeState("uppercase").getLatencyStatistics()
+			.getHistogram(FunctionLatencyStatistics.Phase.EXECUTION, "text/plain").getCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLatencyTimersIgnoreReactiveInvocations() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.latency-timers=true"},
+				LatencyFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercaseFlux");
+		StepVerifier.create((Flux<String>) function.apply(Flux.just("a", "b")))
+			.expectNext("A", "B")
+			.verifyComplete();
+
+		assertThat(((SimpleFunctionRegistry) catalog).getRuntimeState("uppercaseFlux").getLatencyStatistics().getHistograms()).isEmpty();
+	}
+
+	@Test
+	public void testLatencyTimersDisabledByDefault() {
+		FunctionCatalog catalog = this.configureCatalog(LatencyFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("uppercase");
+		function.apply("hello");
+
+		assertThat(((SimpleFunctionRegistry) catalog).getRuntimeState("uppercase").getLatencyStatistics()).isNull();
+	}
+
+	@Test
+	public void testLatencyStatisticsNormalizeAndLimitContentTypes() {
+		FunctionLatencyStatistics statistics = new FunctionLatencyStatistics();
+		FunctionLatencyHistogram[] histograms = statistics.getOrCreateHistograms("text/plain");
+		assertThat(statistics.getOrCreateHistograms("text/plain;charset=UTF-8")).isSameAs(histograms);
+		assertThat(statistics.getOrCreateHistograms(" TEXT/PLAIN ")).isSameAs(histograms);
+		assertThat(statistics.getOrCreateHistograms(MimeType.valueOf("text/plain;charset=UTF-8"))).isSameAs(histograms);
+		assertThat(statistics.getOrCreateHistograms("multipart/form-data; boundary=abc")[0].getContentType())
+			.isEqualTo("multipart/form-data");
+
+		for (int i = 0; i < FunctionLatencyStatistics.MAX_CONTENT_TYPES * 2; i++) {
+			statistics.getOrCreateHistograms("application/x-type-" + i);
+		}
+		assertThat(statistics.getOrCreateHistograms("application/x-another-type")[0].getContentType())
+			.isEqualTo(FunctionLatencyStatistics.OTHER_CONTENT_TYPE);
+		assertThat(statistics.getOrCreateHistograms("text/plain")).isSameAs(histograms);
+		assertThat(statistics.getHistograms())
+			.hasSize((FunctionLatencyStatistics.MAX_CONTENT_TYPES + 1) * FunctionLatencyStatistics.Phase.values().length);
+	}
+
+	@Test
+	public void testLatencyHistogramPercentiles() {
+		FunctionLatencyHistogram histogram = new FunctionLatencyHistogram(FunctionLatencyStatistics.Phase.EXECUTION,
+				FunctionLatencyStatistics.NO_CONTENT_TYPE);
+		assertThat(histogram.getPercentile(0.5)).isZero();
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000);
+		}
+		assertThat(histogram.getCount()).isEqualTo(1000);
+		assertThat(histogram.getTotalTime()).isEqualTo(500500000L);
+		assertThat(histogram.getMaxTime()).isEqualTo(1000000L);
+		assertThat(histogram.getPercentile(0.5)).isBetween(500000L, 562500L);
+		assertThat(histogram.getPercentile(0.99)).isBetween(990000L, 1000000L);
+		assertThat(histogram.getPercentile(1.0)).isEqualTo(1000000L);
+	}
+
+	@Test
+	public void testFastPathProducesSameResultAsGeneralInvocationPath() {
+		// latency timers require general invocation path
+		FunctionCatalog generalCatalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.observability.latency-timers=true"},
+				FastPathFunctionConfiguration.class);
+		FunctionCatalog fastCatalog = this.configureCatalog(FastPathFunctionConfiguration.class);
+
+		List<Message<?>> uppercaseInputs = List.of(
+				MessageBuilder.withPayload("hello".getBytes(StandardCharsets.UTF_8))
+					.setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build(),
+				MessageBuilder.withPayload("hello").setHeader("foo", "bar").build(),
+				MessageBuilder.withPayload("\"hello\"".getBytes(StandardCharsets.UTF_8))
+					.setHeader(MessageHeaders.CONTENT_TYPE, "application/json").build(),
+				MessageBuilder.withPayload("[\"a\", \"b\"]".getBytes(StandardCharsets.UTF_8))
+					.setHeader(MessageHeaders.CONTENT_TYPE, "application/json").build(),
+				MessageBuilder.withPayload("[a]").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain").build(),
+				MessageBuilder.withPayload("hello").setHeader("payload", "[\"a\", \"b\"]").build(),
+				MessageBuilder.withPayload("hello").setHeader("spring.cloud.stream.sendto.destination", "foo").build(),
+				MessageBuilder.withPayload("hello").setHeader("scf-func-name", "uppercase").build(),
+				MessageBuilder.withPayload("hello").setHeader("partitionKey", "foo").build(),
+				MessageBuilder.withPayload("hello").setHeader(MessageHeaders.CONTENT_TYPE, "text/plain")
+					.setHeader("ce-id", "1").setHeader("ce-source", "https://spring.io/")
+					.setHeader("ce-type", "org.springframework").setHeader("ce-specversion", "1.0").build(),
+				new GenericMessage<>("hello", Collections.singletonMap("foo", null)));
+		List<Message<?>> olderInputs = List.of(
+				MessageBuilder.withPayload("{\"name\":\"bob\",\"id\":42}".getBytes(StandardCharsets.UTF_8))
+					.setHeader(MessageHeaders.CONTENT_TYPE, "application/json").setHeader("foo", "bar").build(),
+				MessageBuilder.withPayload("{\"name\":\"bob\",\"id\":42}").build());
+
+		for (String[] acceptedOutputTypes : new String[][] {{}, {"application/json"}, {"text/plain"}}) {
+			for (Message<?> input : uppercaseInputs) {
+				assertThat(this.invocationResult(fastCatalog, "uppercase", acceptedOutputTypes, input, true))
+					.isEqualTo(this.invocationResult(generalCatalog, "uppercase", acceptedOutputTypes, input, false));
+			}
+		}
+		for (String[] acceptedOutputTypes : new String[][] {{}, {"application/json"}}) {
+			for (Message<?> input : olderInputs) {
+				assertThat(this.invocationResult(fastCatalog, "older", acceptedOutputTypes, input, true))
+					.isEqualTo(this.invocationResult(generalCatalog, "older", acceptedOutputTypes, input, false));
+			}
+		}
+		for (String[] acceptedOutputTypes : new String[][] {{}, {"text/plain"}}) {
+			for (Message<?> input : uppercaseInputs) {
+				assertThat(this.invocationResult(fastCatalog, "uppercaseBytes", acceptedOutputTypes, input, true))
+					.isEqualTo(this.invocationResult(generalCatalog, "uppercaseBytes", acceptedOutputTypes, input, false));
+			}
+		}
+		// composition is decided after the composed function is created
+		for (Message<?> input : uppercaseInputs) {
+			assertThat(this.invocationResult(fastCatalog, "uppercase|uppercaseBytes", new String[0], input, false))
+				.isEqualTo(this.invocationResult(generalCatalog, "uppercase|uppercaseBytes", new String[0], input, false));
+		}
+	}
+
+	/*
+	 * Invokes function returning comparable representation of the result (i.e., Message payload as String
+	 * and its headers except id and timestamp).
+	 */
+	private Object invocationResult(FunctionCatalog catalog, String definition, String[] acceptedOutputTypes,
+			Message<?> input, boolean fastPath) {
+		FunctionInvocationWrapper function = catalog.lookup(definition, acceptedOutputTypes);
+		Field fastPathField = ReflectionUtils.findField(FunctionInvocationWrapper.class, "fastPath");
+		fastPathField.setAccessible(true);
+		assertThat(ReflectionUtils.getField(fastPathField, function)).isEqualTo(fastPath);
+
+		return this.comparableResult(function.apply(input));
+	}
+
+	private Object comparableResult(Object result) {
+		if (result instanceof Message<?> message) {
+			Map<String, Object> headers = new HashMap<>(message.getHeaders());
+			headers.remove(MessageHeaders.ID);
+			headers.remove(MessageHeaders.TIMESTAMP);
+			// Cloud Event attributes generated for each result
+			headers.keySet().removeIf(name -> name.matches("ce[-_](id|time)"));
+			Object payload = message.getPayload() instanceof byte[] bytes
+					? new String(bytes, StandardCharsets.UTF_8) : message.getPayload().toString();
+			return List.of(payload, headers);
+		}
+		return result instanceof Flux<?> flux
+				? flux.map(this::comparableResult).collectList().block() : String.valueOf(result);
+	}
+
+	@Test
+	public void testRuntimeStateCreatedOncePerFunctionWithAllConfiguredComponents() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.countingUppercase.cache.enabled=true",
+				"--spring.cloud.function.configuration.countingUppercase.bulkhead.max-concurrency=2",
+				"--spring.cloud.function.configuration.countingUppercase.coalescing.enabled=true",
+				"--spring.cloud.function.observability.latency-timers=true"},
+				ResultCacheFunctionConfiguration.class);
+		SimpleFunctionRegistry functionRegistry = (SimpleFunctionRegistry) catalog;
+		List<FunctionRuntimeState> states = new ArrayList<>();
+		functionRegistry.addRuntimeStateListener(states::add);
+
+		FunctionInvocationWrapper function = catalog.lookup("countingUppercase");
+		assertThat(function.apply("a")).isEqualTo("A");
+		assertThat((Object) catalog.lookup("countingUppercase")).isNotNull();
+
+		FunctionRuntimeState state = functionRegistry.getRuntimeState("countingUppercase");
+		assertThat(states).containsExactly(state);
+		assertThat(state.getResultCache()).isNotNull();
+		assertThat(state.getBulkhead()).isNotNull();
+		assertThat(state.getInvocationCoalescer()).isNotNull();
+		assertThat(state.getLatencyStatistics()).isNotNull();
+		assertThat(state.getExecutionStatistics()).isNull();
+		assertThat(state.getInvocationStatistics().getInvocations()).isEqualTo(1);
+		assertThat(state.getResultCache().getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	public void testResultCacheEvictsLeastRecentlyUsedResults() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.countingUppercase.cache.enabled=true",
+				"--spring.cloud.function.configuration.countingUppercase.cache.max-entries=2"},
+				ResultCacheFunctionConfiguration.class);
+		ResultCacheFunctionConfiguration configuration = this.context.getBean(ResultCacheFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("countingUppercase");
+		FunctionResultCache resultCache = ((SimpleFunctionRegistry) catalog).getRuntimeState("countingUppercase").getResultCache();
+
+		assertThat(function.apply("a")).isEqualTo("A");
+		assertThat(function.apply("a")).isEqualTo("A");
+		assertThat(configuration.invocations.get()).isEqualTo(1);
+		assertThat(resultCache.getHits()).isEqualTo(1);
+		assertThat(resultCache.getMisses()).isEqualTo(1);
+
+		function.apply("b");
+		function.apply("c");
+		assertThat(resultCache.getSize()).isEqualTo(2);
+		assertThat(resultCache.getEvictions()).isEqualTo(1);
+		assertThat(function.apply("a")).isEqualTo("A");
+		assertThat(configuration.invocations.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void testResultCacheWithKeyExpressionAndTtl() throws Exception {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.countingGreeting.cache.enabled=true",
+				"--spring.cloud.function.configuration.countingGreeting.cache.key-expression=payload.name + headers['lang']",
+				"--spring.cloud.function.configuration.countingGreeting.cache.ttl=200ms"},
+				ResultCacheFunctionConfiguration.class);
+		ResultCacheFunctionConfiguration configuration = this.context.getBean(ResultCacheFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("countingGreeting");
+		FunctionResultCache resultCache = ((SimpleFunctionRegistry) catalog).getRuntimeState("countingGreeting").getResultCache();
+
+		function.apply(MessageBuilder.withPayload("{\"name\":\"Ricky\",\"id\":1}").setHeader("lang", "en").build());
+		function.apply(MessageBuilder.withPayload("{\"name\":\"Ricky\",\"id\":2}").setHeader("lang", "en").build());
+		assertThat(configuration.invocations.get()).isEqualTo(1);
+		function.apply(MessageBuilder.withPayload("{\"name\":\"Ricky\",\"id\":1}").setHeader("lang", "fr").build());
+		assertThat(configuration.invocations.get()).isEqualTo(2);
+
+		Thread.sleep(300);
+		function.apply(MessageBuilder.withPayload("{\"name\":\"Ricky\",\"id\":1}").setHeader("lang", "en").build());
+		assertThat(configuration.invocations.get()).isEqualTo(3);
+		assertThat(resultCache.getEvictions()).isEqualTo(1);
+	}
+
+	@Test
+	public void testResultCacheMaxWeight() {
+		FunctionCatalog catalog = this.configureCatalogWithProperties(new String[] {
+				"--spring.cloud.function.configuration.countingUppercase.cache.enabled=true",
+				"--spring.cloud.function.configuration.countingUppercase.cache.max-weight=10B"},
+				ResultCacheFunctionConfiguration.class);
+		FunctionInvocationWrapper function = catalog.lookup("countingUppercase");
+		FunctionResultCache resultCache = ((SimpleFunctionRegistry) catalog).getRuntimeState("countingUppercase").getResultCache();
+
+		function.apply("hello");
+		function.apply("world");
+		assertThat(resultCache.getWeight()).isEqualTo(10);
+		function.apply("!");
+		assertThat(resultCache.getSize()).isEqualTo(2);
+		assertThat(resultCache.getWeight()).isEqualTo(6);
+		function.apply("result too large to be cached");
+		assertThat(resultCache.getSize()).isEqualTo(2);
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Test
 	public void testArrayPayloadOnFluxFunction() throws Exception {
@@ -1208,6 +2068,308 @@ public class BeanFactoryAwareFunctionRegistryTests {
 		}
 	}
 
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class BlockingFunctionConfiguration {
+
+		final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		@Bean
+		public Function<String, String> blockingUppercase() {
+			return x -> {
+				this.threads.add(Thread.currentThread().getName());
+				try {
+					Thread.sleep(10);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return x.toUpperCase(Locale.ROOT);
+			};
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class BulkheadFunctionConfiguration {
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final AtomicInteger concurrency = new AtomicInteger();
+
+		final AtomicInteger maxConcurrency = new AtomicInteger();
+
+		@Bean
+		public Function<String, String> latchedUppercase() {
+			return value -> {
+				this.started.countDown();
+				try {
+					this.release.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return value.toUpperCase(Locale.ROOT);
+			};
+		}
+
+		@Bean
+		public Function<String, String> slowUppercase() {
+			return value -> {
+				this.maxConcurrency.accumulateAndGet(this.concurrency.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(100);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				this.concurrency.decrementAndGet();
+				return value.toUpperCase(Locale.ROOT);
+			};
+		}
+
+		@Bean
+		public Function<Mono<String>, Mono<String>> delayedUppercase() {
+			return mono -> mono.delayElement(Duration.ofMillis(300)).map(value -> value.toUpperCase(Locale.ROOT));
+		}
+
+		@Bean
+		public Function<Flux<String>, Flux<String>> uppercaseFlux() {
+			return flux -> flux.map(value -> value.toUpperCase(Locale.ROOT));
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class CoalescingFunctionConfiguration {
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Bean
+		public Function<String, String> latchedCountingUppercase() {
+			return value -> {
+				this.invocations.incrementAndGet();
+				if (value.equals("a")) {
+					this.started.countDown();
+					try {
+						this.release.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return value.toUpperCase(Locale.ROOT);
+			};
+		}
+
+		@Bean
+		public Function<String, Mono<String>> delayedCountingUppercase() {
+			return value -> Mono.fromCallable(() -> {
+				this.invocations.incrementAndGet();
+				return value.toUpperCase(Locale.ROOT);
+			}).delayElement(Duration.ofMillis(100));
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class DeadlineFunctionConfiguration {
+
+		final AtomicBoolean cancelled = new AtomicBoolean();
+
+		final AtomicLong remainingTime = new AtomicLong();
+
+		@Bean
+		public Function<String, String> remainingTime() {
+			return value -> {
+				Duration remaining = FunctionDeadline.getRemainingTime();
+				return remaining == null ? "none" : String.valueOf(remaining.toMillis());
+			};
+		}
+
+		@Bean
+		public Function<String, Mono<String>> slowReactiveRemainingTime() {
+			return value -> Mono.deferContextual(context -> {
+				this.remainingTime.set(FunctionDeadline.getRemainingTime(context).toMillis());
+				return Mono.just(value).delayElement(Duration.ofSeconds(5));
+			})
+			.doOnCancel(() -> this.cancelled.set(true));
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class ReactiveObservationConfiguration {
+
+		@Bean
+		public TestObservationRegistry observationRegistry() {
+			return TestObservationRegistry.create();
+		}
+
+		@Bean
+		public Function<Flux<String>, Flux<String>> uppercaseFlux() {
+			return flux -> flux.map(value -> value.toUpperCase(Locale.ROOT));
+		}
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return value -> value.toUpperCase(Locale.ROOT);
+		}
+
+		@Bean
+		public Function<Flux<String>, Flux<String>> vowelsFlux() {
+			return flux -> flux.filter(value -> "aeiou".contains(value)).map(value -> value.toUpperCase(Locale.ROOT));
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class LatencyFunctionConfiguration {
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return value -> value.toUpperCase(Locale.ROOT);
+		}
+
+		@Bean
+		public Function<Flux<String>, Flux<String>> uppercaseFlux() {
+			return flux -> flux.map(value -> value.toUpperCase(Locale.ROOT));
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class FastPathFunctionConfiguration {
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return value -> value.toUpperCase(Locale.ROOT);
+		}
+
+		@Bean
+		public Function<Person, Person> older() {
+			return person -> new Person(person.getName(), person.getId() + 1);
+		}
+
+		@Bean
+		public Function<String, byte[]> uppercaseBytes() {
+			return value -> value.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class ResultCacheFunctionConfiguration {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Bean
+		public Function<String, String> countingUppercase() {
+			return value -> {
+				this.invocations.incrementAndGet();
+				return value.toUpperCase(Locale.ROOT);
+			};
+		}
+
+		@Bean
+		public Function<Person, String> countingGreeting() {
+			return person -> {
+				this.invocations.incrementAndGet();
+				return "Hello " + person.getName();
+			};
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class ScatterGatherFunctionConfiguration {
+
+		@Bean
+		public Function<String, String> trim() {
+			return String::trim;
+		}
+
+		@Bean
+		public Function<String, String> enrichName() {
+			return value -> this.sleepAndReturn("name:" + value);
+		}
+
+		@Bean
+		public Function<String, String> enrichAddress() {
+			return value -> this.sleepAndReturn("address:" + value);
+		}
+
+		@Bean
+		public Function<String, Integer> enrichRating() {
+			return value -> {
+				this.sleepAndReturn(value);
+				return 5;
+			};
+		}
+
+		@Bean
+		public Function<List<Object>, String> merge() {
+			return values -> values.stream().map(v -> v instanceof Integer ? "rating:" + v : String.valueOf(v))
+					.collect(Collectors.joining(", "));
+		}
+
+		private String sleepAndReturn(String value) {
+			try {
+				Thread.sleep(300);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return value;
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class CompletionStageFunctionConfiguration {
+
+		@Bean
+		public Function<String, CompletableFuture<String>> asyncUppercase() {
+			return value -> CompletableFuture.supplyAsync(() -> value.toUpperCase(Locale.ROOT));
+		}
+
+		@Bean
+		public Function<String, CompletionStage<Person>> asyncPerson() {
+			return value -> CompletableFuture.supplyAsync(() -> new Person(value, 1));
+		}
+
+		@Bean
+		public Function<String, CompletableFuture<String>> asyncFailure() {
+			return value -> CompletableFuture.failedFuture(new IllegalStateException("intentional"));
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class BatchingFunctionConfiguration {
+
+		final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+		@Bean
+		public Function<List<String>, List<String>> batchUppercase() {
+			return batch -> {
+				this.batchSizes.add(batch.size());
+				return batch.stream().map(v -> v.toUpperCase(Locale.ROOT)).toList();
+			};
+		}
+
+		@Bean
+		public Function<List<String>, List<String>> batchFailure() {
+			return batch -> batch.subList(0, 1);
+		}
+	}
+
 	@EnableAutoConfiguration
 	@Configuration
 	protected static class SampleFunctionConfiguration {
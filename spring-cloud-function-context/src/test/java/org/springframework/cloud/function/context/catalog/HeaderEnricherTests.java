@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.context.catalog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HeaderEnricherTests {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testHeadersAppliedAsOverlay() {
+		Map<String, String> mappings = new LinkedHashMap<>();
+		mappings.put("key1", "'hello1'");
+		mappings.put("upperFoo", "headers.foo.toUpperCase()");
+		mappings.put("bar", "null");
+		mappings.put("id", "'not-allowed'");
+		HeaderEnricher enricher = new HeaderEnricher(Map.of("0", mappings), null);
+
+		Message<String> input = MessageBuilder.withPayload("hello")
+				.setHeader("foo", "foo")
+				.setHeader("bar", "bar")
+				.build();
+		for (int i = 0; i < 3; i++) {
+			Message<String> result = (Message<String>) enricher.apply(input);
+			MessageHeaders headers = result.getHeaders();
+			assertThat(result.getPayload()).isEqualTo("hello");
+			assertThat(headers.get("key1")).isEqualTo("hello1");
+			assertThat(headers.get("upperFoo", String.class)).isEqualTo("FOO");
+			assertThat(headers.get("foo")).isEqualTo("foo");
+			assertThat(headers.containsKey("bar")).isFalse();
+			assertThat(headers.getId()).isNotNull().isNotEqualTo(input.getHeaders().getId());
+			assertThat(headers.getTimestamp()).isNotNull();
+			assertThat(headers.keySet()).containsExactlyInAnyOrder("id", "timestamp", "foo", "key1", "upperFoo");
+
+			Message<String> copy = MessageBuilder.fromMessage(result).setHeader("baz", "baz").build();
+			assertThat(copy.getHeaders()).containsEntry("upperFoo", "FOO").containsEntry("baz", "baz")
+				.doesNotContainKey("bar");
+		}
+	}
+
+	@Test
+	public void testNonMessageInputIsReturnedAsIs() {
+		HeaderEnricher enricher = new HeaderEnricher(Map.of("0", Map.of("key1", "'hello1'")), null);
+		assertThat(enricher.apply("hello")).isEqualTo("hello");
+	}
+
+}
@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -189,6 +190,56 @@ public class SimpleFunctionRegistryTests {
 		assertThat(instanceA).isNotSameAs(instanceb).isNotSameAs(instanceC);
 	}
 
+	@Test
+	public void testCacheableFunctionRegistration() {
+		AtomicInteger invocations = new AtomicInteger();
+		Function<String, String> uppercase = value -> {
+			invocations.incrementAndGet();
+			return value.toUpperCase(Locale.ROOT);
+		};
+		FunctionRegistration<Function<String, String>> registration = new FunctionRegistration<>(uppercase, "uppercase")
+			.type(ResolvableType.forClassWithGenerics(Function.class, String.class, String.class).getType());
+		registration.getProperties().put("cacheable", "true");
+		SimpleFunctionRegistry catalog = new SimpleFunctionRegistry(this.conversionService, this.messageConverter,
+				new JacksonMapper(new ObjectMapper()));
+		catalog.register(registration);
+
+		FunctionInvocationWrapper function = catalog.lookup("uppercase");
+		assertThat(function.apply("hello")).isEqualTo("HELLO");
+		assertThat(function.apply("hello")).isEqualTo("HELLO");
+		assertThat(invocations.get()).isEqualTo(1);
+		FunctionResultCache resultCache = catalog.getRuntimeState("uppercase").getResultCache();
+		assertThat(resultCache.getHits()).isEqualTo(1);
+		assertThat(resultCache.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	public void testCacheableFunctionRegistrationWithMessageInput() {
+		AtomicInteger invocations = new AtomicInteger();
+		Function<String, String> uppercase = value -> {
+			invocations.incrementAndGet();
+			return value.toUpperCase(Locale.ROOT);
+		};
+		FunctionRegistration<Function<String, String>> registration = new FunctionRegistration<>(uppercase, "uppercase")
+			.type(ResolvableType.forClassWithGenerics(Function.class, String.class, String.class).getType());
+		registration.getProperties().put("cacheable", "true");
+		SimpleFunctionRegistry catalog = new SimpleFunctionRegistry(this.conversionService, this.messageConverter,
+				new JacksonMapper(new ObjectMapper()));
+		catalog.register(registration);
+
+		FunctionInvocationWrapper function = catalog.lookup("uppercase");
+		Message<byte[]> message = MessageBuilder.withPayload("hello".getBytes(StandardCharsets.UTF_8))
+			.setHeader(MessageHeaders.CONTENT_TYPE, "text/plain")
+			.build();
+		Object firstResult = function.apply(message);
+		Object secondResult = function.apply(message);
+		assertThat(secondResult).isEqualTo(firstResult);
+		assertThat(invocations.get()).isEqualTo(1);
+		FunctionResultCache resultCache = catalog.getRuntimeState("uppercase").getResultCache();
+		assertThat(resultCache.getHits()).isEqualTo(1);
+		assertThat(resultCache.getMisses()).isEqualTo(1);
+	}
+
 	@Test
 	public void testSCF768() {
 		ResolvableType map = ResolvableType.forClassWithGenerics(Map.class, String.class, Person.class);
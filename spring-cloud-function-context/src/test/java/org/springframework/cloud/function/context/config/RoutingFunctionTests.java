@@ -16,9 +16,11 @@
 
 package org.springframework.cloud.function.context.config;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.assertj.core.api.Assertions;
@@ -57,6 +59,8 @@ public class RoutingFunctionTests {
 	public void before() {
 		System.clearProperty("spring.cloud.function.definition");
 		System.clearProperty("spring.cloud.function.routing-expression");
+		System.clearProperty("spring.cloud.function.routing-json-pointer");
+		System.clearProperty("spring.cloud.function.routing.partitioned");
 		if (context != null) {
 			context.close();
 		}
@@ -329,6 +333,82 @@ public class RoutingFunctionTests {
 		assertThat(function.apply(message)).isEqualTo("HELLO");
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testInvocationWithRoutingJsonPointer() {
+		System.setProperty(FunctionProperties.PREFIX + ".routing-json-pointer", "/event/type");
+		FunctionCatalog functionCatalog = this.configureCatalog();
+		Function function = functionCatalog.lookup(RoutingFunction.FUNCTION_NAME);
+		assertThat(function).isNotNull();
+		byte[] payload = "{\"id\":1,\"event\":{\"type\":\"uppercase\",\"data\":[1,2]},\"name\":\"hello\"}"
+				.getBytes(StandardCharsets.UTF_8);
+		Message<byte[]> message = MessageBuilder.withPayload(payload).build();
+		assertThat(function.apply(message)).isEqualTo(new String(payload, StandardCharsets.UTF_8).toUpperCase());
+		// payload remains untouched
+		assertThat(message.getPayload()).isEqualTo(payload);
+
+		message = MessageBuilder.withPayload("{\"event\":{\"type\":\"reverse\"}}".getBytes(StandardCharsets.UTF_8)).build();
+		assertThat(function.apply(message)).isEqualTo("}}\"esrever\":\"epyt\"{:\"tneve\"{");
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testRoutingJsonPointerFallsBackToDefinitionWhenValueNotFound() {
+		System.setProperty(FunctionProperties.PREFIX + ".routing-json-pointer", "/event/type");
+		System.setProperty(FunctionProperties.PREFIX + ".definition", "reverse");
+		FunctionCatalog functionCatalog = this.configureCatalog();
+		Function function = functionCatalog.lookup(RoutingFunction.FUNCTION_NAME);
+		Message<String> message = MessageBuilder.withPayload("{\"name\":\"hello\"}").build();
+		assertThat(function.apply(message)).isEqualTo("}\"olleh\":\"eman\"{");
+
+		message = MessageBuilder.withPayload("{\"event\":{\"type\":\"uppercase\"}}")
+				.setHeader(FunctionProperties.PREFIX + ".definition", "reverse").build();
+		assertThat(function.apply(message)).isEqualTo("}}\"esacreppu\":\"epyt\"{:\"tneve\"{");
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testPartitionedReactiveRouting() {
+		System.setProperty(FunctionProperties.PREFIX + ".routing.partitioned", "true");
+		FunctionCatalog functionCatalog = this.configureCatalog(PartitionedRoutingConfiguration.class);
+		Function function = functionCatalog.lookup(RoutingFunction.FUNCTION_NAME);
+		assertThat(function).isNotNull();
+		Flux<Message<String>> input = Flux.just("a", "b", "c", "d", "e")
+				.map(v -> MessageBuilder.withPayload(v)
+						.setHeader(FunctionProperties.PREFIX + ".definition",
+								v.equals("b") || v.equals("d") ? "uppercase" : "countingEcho")
+						.build());
+
+		List<Object> results = ((Flux<Object>) function.apply(input))
+				.map(v -> v instanceof Message message ? message.getPayload() : v)
+				.map(v -> v instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : v)
+				.collectList().block();
+
+		assertThat(results).containsExactlyInAnyOrder("a", "B", "c", "D", "e");
+		PartitionedRoutingConfiguration config = this.context.getBean(PartitionedRoutingConfiguration.class);
+		assertThat(config.countingEchoInvocations.get()).isEqualTo(1);
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class PartitionedRoutingConfiguration {
+
+		final AtomicInteger countingEchoInvocations = new AtomicInteger();
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return String::toUpperCase;
+		}
+
+		@Bean
+		public Function<Flux<String>, Flux<String>> countingEcho() {
+			return flux -> {
+				countingEchoInvocations.incrementAndGet();
+				return flux;
+			};
+		}
+	}
+
 	@EnableAutoConfiguration
 	@Configuration
 	protected static class RoutingFunctionConfiguration {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.observability.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.cloud.function.context.config.RoutingFunction;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FunctionEventsTests {
+
+	@Test
+	public void eventsAreRecordedWhileRecordingIsActive() throws Exception {
+		Path recordingFile = Files.createTempFile("function-events", ".jfr");
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SampleConfiguration.class).run();
+				Recording recording = new Recording()) {
+			FunctionCatalog catalog = context.getBean(FunctionCatalog.class);
+			catalog.lookup("uppercase");
+
+			recording.enable(FunctionLookupEvent.class);
+			recording.enable(FunctionRoutingEvent.class);
+			recording.enable(MessageConversionEvent.class);
+			recording.enable(FunctionInvocationEvent.class);
+			recording.start();
+			FunctionInvocationWrapper router = catalog.lookup(RoutingFunction.FUNCTION_NAME);
+			router.apply(MessageBuilder.withPayload("\"hello\"".getBytes())
+				.setHeader(FunctionProperties.FUNCTION_DEFINITION, "uppercase")
+				.setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+				.build());
+			recording.stop();
+			recording.dump(recordingFile);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+			assertThat(events).anySatisfy(event -> {
+				assertThat(event.getEventType().getName()).isEqualTo("org.springframework.cloud.function.FunctionLookup");
+				assertThat(event.getString("functionDefinition")).isEqualTo("uppercase");
+				assertThat(event.getBoolean("cacheHit")).isTrue();
+			});
+			assertThat(events).anySatisfy(event -> {
+				assertThat(event.getEventType().getName()).isEqualTo("org.springframework.cloud.function.FunctionRouting");
+				assertThat(event.getString("functionDefinition")).isEqualTo("uppercase");
+			});
+			assertThat(events).anySatisfy(event -> {
+				assertThat(event.getEventType().getName()).isEqualTo("org.springframework.cloud.function.MessageConversion");
+				assertThat(event.getString("direction")).isEqualTo(MessageConversionEvent.FROM_MESSAGE);
+				assertThat(event.getBoolean("converted")).isTrue();
+			});
+			assertThat(events).anySatisfy(event -> {
+				assertThat(event.getEventType().getName()).isEqualTo("org.springframework.cloud.function.FunctionInvocation");
+				assertThat(event.getString("functionDefinition")).isEqualTo("uppercase");
+				assertThat(event.getString("failure")).isNull();
+			});
+		}
+		finally {
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class SampleConfiguration {
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return value -> value.toUpperCase(Locale.ROOT);
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class FunctionRecorderTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void recordedMessagesAreReadInOrder() {
+		Path file = this.directory.resolve("recording.bin");
+		try (FunctionRecorder recorder = new FunctionRecorder(file, 4096)) {
+			assertThat(recorder.record("uppercase", Map.of("contentType", "text/plain"), bytes("hello"))).isTrue();
+			assertThat(recorder.record("reverse|uppercase", Map.of(), bytes("bye"))).isTrue();
+			assertThat(recorder.getRecorded()).isEqualTo(2);
+		}
+
+		List<RecordedMessage> messages = read(file);
+		assertThat(messages).hasSize(2);
+		assertThat(messages.get(0).getFunctionDefinition()).isEqualTo("uppercase");
+		assertThat(messages.get(0).getHeaders()).containsExactly(Map.entry("contentType", "text/plain"));
+		assertThat(messages.get(0).toMessage().getPayload()).isEqualTo(bytes("hello"));
+		assertThat(messages.get(1).getFunctionDefinition()).isEqualTo("reverse|uppercase");
+		assertThat(messages.get(1).getHeaders()).isEmpty();
+		assertThat(messages.get(1).getTimestamp()).isGreaterThanOrEqualTo(messages.get(0).getTimestamp());
+	}
+
+	@Test
+	public void messagesAreDroppedOnceRecordingIsFull() {
+		Path file = this.directory.resolve("recording.bin");
+		try (FunctionRecorder recorder = new FunctionRecorder(file, 256)) {
+			int recorded = 0;
+			while (recorder.record("uppercase", Map.of(), new byte[32])) {
+				recorded++;
+			}
+			assertThat(recorded).isPositive();
+			assertThat(recorder.getDropped()).isEqualTo(1);
+			assertThat(recorder.getSize()).isLessThanOrEqualTo(256);
+			assertThat(read(file)).hasSize(recorded);
+		}
+	}
+
+	@Test
+	public void messagesAreAppendedToExistingRecording() {
+		Path file = this.directory.resolve("recording.bin");
+		try (FunctionRecorder recorder = new FunctionRecorder(file, 4096)) {
+			recorder.record("uppercase", Map.of(), bytes("hello"));
+		}
+		try (FunctionRecorder recorder = new FunctionRecorder(file, 4096)) {
+			recorder.record("reverse", Map.of(), bytes("bye"));
+		}
+		assertThat(read(file)).extracting(RecordedMessage::getFunctionDefinition).containsExactly("uppercase", "reverse");
+	}
+
+	@Test
+	public void fileWhichIsNotRecordingIsRejected() throws Exception {
+		Path file = Files.write(this.directory.resolve("recording.bin"), bytes("not a recording"));
+		assertThatIllegalStateException().isThrownBy(() -> new FunctionRecorder(file, 4096));
+		assertThatIllegalStateException().isThrownBy(() -> new FunctionRecordingReader(file));
+	}
+
+	private static List<RecordedMessage> read(Path file) {
+		List<RecordedMessage> messages = new ArrayList<>();
+		try (FunctionRecordingReader reader = new FunctionRecordingReader(file)) {
+			reader.forEachRemaining(messages::add);
+		}
+		return messages;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.recording;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.function.context.FunctionCatalog;
+import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FunctionRecordingTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void inputOfSelectedFunctionsIsRecordedAndReplayed() throws Exception {
+		Path file = this.directory.resolve("recording.bin");
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SampleConfiguration.class).run(
+				"--spring.cloud.function.recording.enabled=true",
+				"--spring.cloud.function.recording.functions=uppercase",
+				"--spring.cloud.function.recording.file=" + file)) {
+			FunctionCatalog catalog = context.getBean(FunctionCatalog.class);
+			FunctionInvocationWrapper uppercase = catalog.lookup("uppercase");
+			FunctionInvocationWrapper reverse = catalog.lookup("reverse");
+			for (int i = 0; i < 3; i++) {
+				assertThat(uppercase.apply(MessageBuilder.withPayload("hello" + i)
+					.setHeader("Authorization", "secret")
+					.setHeader("region", "eu")
+					.build())).isEqualTo("HELLO" + i);
+				reverse.apply(MessageBuilder.withPayload("hello").build());
+			}
+			assertThat(context.getBean(FunctionRecorder.class).getRecorded()).isEqualTo(3);
+		}
+
+		List<RecordedMessage> messages = new ArrayList<>();
+		try (FunctionRecordingReader reader = new FunctionRecordingReader(file)) {
+			reader.forEachRemaining(messages::add);
+		}
+		assertThat(messages).extracting(RecordedMessage::getFunctionDefinition).containsOnly("uppercase");
+		assertThat(messages.get(0).getPayload()).isEqualTo("hello0".getBytes());
+		assertThat(messages.get(0).getHeaders()).containsEntry("region", "eu").doesNotContainKeys("Authorization", "id");
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SampleConfiguration.class).run()) {
+			Map<String, FunctionReplayStatistics> statistics = new FunctionRecordingReplayer(
+					context.getBean(FunctionCatalog.class)).replay(file, 10, 2);
+			assertThat(statistics).containsOnlyKeys("uppercase");
+			assertThat(statistics.get("uppercase").getCount()).isEqualTo(3);
+			assertThat(statistics.get("uppercase").getErrors()).isZero();
+			assertThat(statistics.get("uppercase").getPercentile(0.5)).isPositive()
+				.isLessThanOrEqualTo(statistics.get("uppercase").getMax());
+		}
+	}
+
+	@EnableAutoConfiguration
+	@Configuration
+	protected static class SampleConfiguration {
+
+		@Bean
+		public Function<String, String> uppercase() {
+			return value -> value.toUpperCase(Locale.ROOT);
+		}
+
+		@Bean
+		public Function<String, String> reverse() {
+			return value -> new StringBuilder(value).reverse().toString();
+		}
+	}
+
+}
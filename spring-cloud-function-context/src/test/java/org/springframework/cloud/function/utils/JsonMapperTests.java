@@ -26,6 +26,7 @@ import com.google.gson.Gson;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.core.JsonPointer;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.JsonNodeFactory;
 import tools.jackson.databind.node.ObjectNode;
@@ -75,6 +76,19 @@ public class JsonMapperTests {
 		assertThat(JsonMapper.isJsonStringRepresentsCollection(nodeAsString)).isFalse();
 	}
 
+	@Test
+	public void extractValueAtJsonPointer() {
+		String json = "{\"id\":1,\"event\":{\"type\":\"created\",\"tags\":[\"a\",\"b\"]},\"count\":5}";
+		assertThat(JsonMapper.extractValueAtJsonPointer(json, JsonPointer.compile("/event/type"))).isEqualTo("created");
+		assertThat(JsonMapper.extractValueAtJsonPointer(json.getBytes(StandardCharsets.UTF_8),
+				JsonPointer.compile("/event/tags/1"))).isEqualTo("b");
+		assertThat(JsonMapper.extractValueAtJsonPointer(json, JsonPointer.compile("/count"))).isEqualTo("5");
+		assertThat(JsonMapper.extractValueAtJsonPointer(json, JsonPointer.compile("/event"))).isNull();
+		assertThat(JsonMapper.extractValueAtJsonPointer(json, JsonPointer.compile("/foo"))).isNull();
+		assertThat(JsonMapper.extractValueAtJsonPointer("hello", JsonPointer.compile("/foo"))).isNull();
+		assertThat(JsonMapper.extractValueAtJsonPointer(5, JsonPointer.compile("/foo"))).isNull();
+	}
+
 	// see https://github.com/spring-cloud/spring-cloud-function/issues/1189
 	@Test
 	public void testJsonDateTimeConversion() {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load generator sending requests at fixed rate, regardless of how fast responses arrive.
+ * Latency of each request is measured from the time it was scheduled to be sent rather than from the time
+ * it was actually sent, so stalls of the server (or of the generator itself, e.g., when the limit
+ * of in-flight requests is reached) are fully accounted for instead of being hidden by coordinated omission.
+ *
+ * @since 5.0.4
+ */
+public class ConstantRateLoadGenerator {
+
+	private final int rate;
+
+	private final int maxInFlight;
+
+	/**
+	 * @param rate requests per second
+	 * @param maxInFlight maximum number of requests awaiting response
+	 */
+	public ConstantRateLoadGenerator(int rate, int maxInFlight) {
+		this.rate = rate;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Sends requests for the provided duration and waits for all responses.
+	 * @param name name of the report
+	 * @param duration duration of sending
+	 * @param request sends single request asynchronously, returned future completes when the response is received
+	 * @return latency report
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public LatencyReport run(String name, Duration duration, Supplier<CompletableFuture<?>> request) throws InterruptedException {
+		int count = (int) Math.max(1, duration.toMillis() * this.rate / 1000);
+		long interval = TimeUnit.SECONDS.toNanos(1) / this.rate;
+		AtomicLongArray latencies = new AtomicLongArray(count);
+		AtomicInteger recorded = new AtomicInteger();
+		AtomicInteger errors = new AtomicInteger();
+		AtomicLong lastResponse = new AtomicLong();
+		Semaphore inFlight = new Semaphore(this.maxInFlight);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			long scheduled = start + i * interval;
+			long now = System.nanoTime();
+			while (now < scheduled) {
+				LockSupport.parkNanos(scheduled - now);
+				now = System.nanoTime();
+			}
+			inFlight.acquire();
+			CompletableFuture<?> response;
+			try {
+				response = request.get();
+			}
+			catch (RuntimeException e) {
+				response = CompletableFuture.failedFuture(e);
+			}
+			response.whenComplete((result, failure) -> {
+				long completed = System.nanoTime();
+				if (failure == null) {
+					latencies.set(recorded.getAndIncrement(), completed - scheduled);
+				}
+				else {
+					errors.incrementAndGet();
+				}
+				lastResponse.accumulateAndGet(completed, Math::max);
+				inFlight.release();
+			});
+		}
+		if (!inFlight.tryAcquire(this.maxInFlight, 60, TimeUnit.SECONDS)) {
+			throw new IllegalStateException(name + ": responses of " + (this.maxInFlight - inFlight.availablePermits())
+					+ " requests have not been received within 60 seconds");
+		}
+		long[] values = new long[recorded.get()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = latencies.get(i);
+		}
+		return new LatencyReport(name, this.rate, values, errors.get(), lastResponse.get() - start);
+	}
+
+}
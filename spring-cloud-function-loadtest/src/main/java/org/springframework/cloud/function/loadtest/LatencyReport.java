@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Latencies of requests sent at fixed rate by {@link ConstantRateLoadGenerator}.
+ *
+ * @since 5.0.4
+ */
+public class LatencyReport {
+
+	private static final double[] PERCENTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+	private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p99.9" };
+
+	private final String name;
+
+	private final int rate;
+
+	private final long[] latencies;
+
+	private final int errors;
+
+	private final long elapsedTime;
+
+	LatencyReport(String name, int rate, long[] latencies, int errors, long elapsedTime) {
+		this.name = name;
+		this.rate = rate;
+		this.latencies = latencies;
+		Arrays.sort(this.latencies);
+		this.errors = errors;
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * Returns header of the table printed by {@link #toString()}.
+	 * @return header
+	 */
+	public static String header() {
+		StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "%-28s%10s%12s%10s%8s", "mode", "rate", "throughput", "count", "errors"));
+		for (String percentile : PERCENTILE_NAMES) {
+			header.append(String.format(Locale.ROOT, "%11s", percentile + " ms"));
+		}
+		return header.append(String.format(Locale.ROOT, "%11s", "max ms")).toString();
+	}
+
+	/**
+	 * Returns the latency below which the provided fraction of latencies falls.
+	 * @param percentile percentile (0.0 - 1.0)
+	 * @return latency in nanoseconds or 0 if no response was received
+	 */
+	public long getPercentile(double percentile) {
+		if (this.latencies.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * this.latencies.length) - 1;
+		return this.latencies[Math.max(0, Math.min(index, this.latencies.length - 1))];
+	}
+
+	/**
+	 * Returns the number of successful requests per second.
+	 * @return throughput
+	 */
+	public double getThroughput() {
+		return this.elapsedTime == 0 ? 0 : this.latencies.length * 1e9 / this.elapsedTime;
+	}
+
+	public int getErrors() {
+		return this.errors;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%-28s%10d%12.1f%10d%8d", this.name, this.rate,
+				this.getThroughput(), this.latencies.length, this.errors));
+		for (double percentile : PERCENTILES) {
+			row.append(String.format(Locale.ROOT, "%11.3f", this.getPercentile(percentile) / 1e6));
+		}
+		long max = this.latencies.length == 0 ? 0 : this.latencies[this.latencies.length - 1];
+		return row.append(String.format(Locale.ROOT, "%11.3f", max / 1e6)).toString();
+	}
+
+}
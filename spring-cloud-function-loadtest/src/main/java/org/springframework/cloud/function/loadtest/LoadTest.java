@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Drives {@link LoadTestMode modes} of Spring MVC and Spring WebFlux function endpoints and of gRPC server
+ * at fixed request rate (see {@link ConstantRateLoadGenerator}) and prints latency percentiles of each mode.
+ * Arguments are names of modes to run (all by default) and the following options:
+ * <ul>
+ * <li>{@code --rate=N} - requests per second (1000 by default)</li>
+ * <li>{@code --duration=N} - seconds of measurement per mode (30 by default)</li>
+ * <li>{@code --warmup=N} - seconds of warm up (at the same rate) per mode, not included in results (10 by default)</li>
+ * <li>{@code --max-in-flight=N} - maximum number of requests awaiting response (1000 by default)</li>
+ * </ul>
+ *
+ * @since 5.0.4
+ */
+public final class LoadTest {
+
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int rate = 1000;
+		int duration = 30;
+		int warmup = 10;
+		int maxInFlight = 1000;
+		List<LoadTestMode> modes = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--rate=")) {
+				rate = Integer.parseInt(arg.substring("--rate=".length()));
+			}
+			else if (arg.startsWith("--duration=")) {
+				duration = Integer.parseInt(arg.substring("--duration=".length()));
+			}
+			else if (arg.startsWith("--warmup=")) {
+				warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+			}
+			else if (arg.startsWith("--max-in-flight=")) {
+				maxInFlight = Integer.parseInt(arg.substring("--max-in-flight=".length()));
+			}
+			else if (StringUtils.hasText(arg)) {
+				modes.add(LoadTestMode.valueOf(arg.trim().toUpperCase(Locale.ROOT)));
+			}
+		}
+		if (modes.isEmpty()) {
+			modes.addAll(Arrays.asList(LoadTestMode.values()));
+		}
+
+		ConstantRateLoadGenerator generator = new ConstantRateLoadGenerator(rate, maxInFlight);
+		HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		Map<String, LoadTestServer> servers = new LinkedHashMap<>();
+		List<LatencyReport> reports = new ArrayList<>();
+		try {
+			for (LoadTestMode mode : modes) {
+				LoadTestServer server = servers.computeIfAbsent(mode.serverKey(), key -> mode.startServer());
+				Supplier<CompletableFuture<?>> requests = mode.requests(server, httpClient);
+				if (warmup > 0) {
+					generator.run(mode.name(), Duration.ofSeconds(warmup), requests);
+				}
+				LatencyReport report = generator.run(mode.name(), Duration.ofSeconds(duration), requests);
+				System.out.println(LatencyReport.header() + System.lineSeparator() + report);
+				reports.add(report);
+			}
+		}
+		finally {
+			for (LoadTestServer server : servers.values()) {
+				server.close();
+			}
+		}
+
+		System.out.println();
+		System.out.println(LatencyReport.header());
+		reports.forEach(System.out::println);
+	}
+
+}
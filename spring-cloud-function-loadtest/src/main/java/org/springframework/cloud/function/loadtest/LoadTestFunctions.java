@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.loadtest;
+
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Functions exposed by web and gRPC servers under load.
+ *
+ * @since 5.0.4
+ */
+@EnableAutoConfiguration
+@Configuration(proxyBeanMethods = false)
+public class LoadTestFunctions {
+
+	/**
+	 * Number of elements of streams produced or consumed by streaming functions.
+	 */
+	public static final int STREAM_SIZE = 10;
+
+	@Bean
+	public Function<String, String> uppercase() {
+		return value -> value.toUpperCase(Locale.ROOT);
+	}
+
+	@Bean
+	public Supplier<Flux<String>> ticks() {
+		return () -> Flux.range(0, STREAM_SIZE).map(i -> "tick " + i);
+	}
+
+	@Bean
+	public Function<String, Flux<String>> repeat() {
+		return value -> Flux.range(0, STREAM_SIZE).map(i -> value);
+	}
+
+	@Bean
+	public Function<Flux<String>, String> join() {
+		return flux -> String.join(",", flux.collectList().block());
+	}
+
+	@Bean
+	public Function<Flux<String>, Flux<String>> uppercaseReactive() {
+		return flux -> flux.map(value -> value.toUpperCase(Locale.ROOT));
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import io.grpc.stub.StreamObserver;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.cloud.function.grpc.GrpcSpringMessage;
+import org.springframework.cloud.function.grpc.GrpcUtils;
+import org.springframework.cloud.function.grpc.MessagingServiceGrpc;
+import org.springframework.cloud.function.grpc.MessagingServiceGrpc.MessagingServiceStub;
+
+/**
+ * Interaction modes driven by {@link LoadTest}, each with the server it requires (Spring MVC, Spring WebFlux
+ * or gRPC with a given function definition) and the request it sends. Streaming modes send or receive
+ * {@link LoadTestFunctions#STREAM_SIZE} elements per request, and their latency is the time until the stream completes.
+ *
+ * @since 5.0.4
+ */
+public enum LoadTestMode {
+
+	/**
+	 * POST to Spring MVC function endpoint.
+	 */
+	MVC_POST(WebApplicationType.SERVLET, null),
+
+	/**
+	 * GET (input as path variable) from Spring MVC function endpoint.
+	 */
+	MVC_GET(WebApplicationType.SERVLET, null),
+
+	/**
+	 * GET of server-sent events from Spring MVC supplier endpoint.
+	 */
+	MVC_SSE(WebApplicationType.SERVLET, null),
+
+	/**
+	 * POST to Spring WebFlux function endpoint.
+	 */
+	WEBFLUX_POST(WebApplicationType.REACTIVE, null),
+
+	/**
+	 * GET (input as path variable) from Spring WebFlux function endpoint.
+	 */
+	WEBFLUX_GET(WebApplicationType.REACTIVE, null),
+
+	/**
+	 * GET of server-sent events from Spring WebFlux supplier endpoint.
+	 */
+	WEBFLUX_SSE(WebApplicationType.REACTIVE, null),
+
+	/**
+	 * gRPC request-reply.
+	 */
+	GRPC_REQUEST_REPLY(WebApplicationType.NONE, "uppercase"),
+
+	/**
+	 * gRPC server streaming.
+	 */
+	GRPC_SERVER_STREAM(WebApplicationType.NONE, "repeat"),
+
+	/**
+	 * gRPC client streaming.
+	 */
+	GRPC_CLIENT_STREAM(WebApplicationType.NONE, "join"),
+
+	/**
+	 * gRPC bi-directional streaming.
+	 */
+	GRPC_BI_STREAM(WebApplicationType.NONE, "uppercaseReactive");
+
+	private static final byte[] PAYLOAD = "hello".getBytes(StandardCharsets.UTF_8);
+
+	private final WebApplicationType webApplicationType;
+
+	private final String grpcFunctionDefinition;
+
+	LoadTestMode(WebApplicationType webApplicationType, String grpcFunctionDefinition) {
+		this.webApplicationType = webApplicationType;
+		this.grpcFunctionDefinition = grpcFunctionDefinition;
+	}
+
+	/**
+	 * Returns key of the server this mode requires, so modes with the same key can share the server.
+	 * @return server key
+	 */
+	public String serverKey() {
+		return this.grpcFunctionDefinition == null ? this.webApplicationType.name() : "GRPC:" + this.grpcFunctionDefinition;
+	}
+
+	/**
+	 * Starts the server this mode requires.
+	 * @return started server
+	 */
+	public LoadTestServer startServer() {
+		return this.grpcFunctionDefinition == null
+				? LoadTestServer.web(this.webApplicationType)
+				: LoadTestServer.grpc(this.grpcFunctionDefinition);
+	}
+
+	/**
+	 * Creates sender of requests of this mode.
+	 * @param server server started by {@link #startServer()}
+	 * @param httpClient HTTP client shared by web modes
+	 * @return sender of single request, returning future completed with the response
+	 */
+	public Supplier<CompletableFuture<?>> requests(LoadTestServer server, HttpClient httpClient) {
+		return switch (this) {
+			case MVC_POST, WEBFLUX_POST -> http(httpClient, HttpRequest.newBuilder(server.uri("/uppercase"))
+				.header("Content-Type", "text/plain")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(PAYLOAD))
+				.build());
+			case MVC_GET, WEBFLUX_GET -> http(httpClient, HttpRequest.newBuilder(server.uri("/uppercase/hello")).GET().build());
+			case MVC_SSE, WEBFLUX_SSE -> http(httpClient, HttpRequest.newBuilder(server.uri("/ticks"))
+				.header("Accept", "text/event-stream")
+				.GET()
+				.build());
+			case GRPC_REQUEST_REPLY -> () -> {
+				GrpcResponse response = new GrpcResponse();
+				MessagingServiceGrpc.newStub(server.channel()).requestReply(message(), response);
+				return response.future;
+			};
+			case GRPC_SERVER_STREAM -> () -> {
+				GrpcResponse response = new GrpcResponse();
+				MessagingServiceGrpc.newStub(server.channel()).serverStream(message(), response);
+				return response.future;
+			};
+			case GRPC_CLIENT_STREAM, GRPC_BI_STREAM -> () -> {
+				GrpcResponse response = new GrpcResponse();
+				MessagingServiceStub stub = MessagingServiceGrpc.newStub(server.channel());
+				StreamObserver<GrpcSpringMessage> requests = this == GRPC_CLIENT_STREAM
+						? stub.clientStream(response) : stub.biStream(response);
+				for (int i = 0; i < LoadTestFunctions.STREAM_SIZE; i++) {
+					requests.onNext(message());
+				}
+				requests.onCompleted();
+				return response.future;
+			};
+		};
+	}
+
+	private static Supplier<CompletableFuture<?>> http(HttpClient httpClient, HttpRequest request) {
+		return () -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+			if (response.statusCode() != 200) {
+				throw new IllegalStateException("Unexpected status " + response.statusCode() + " of " + request.uri());
+			}
+			return response;
+		});
+	}
+
+	private static GrpcSpringMessage message() {
+		return GrpcUtils.toGrpcSpringMessage(PAYLOAD, Map.of("contentType", "text/plain"));
+	}
+
+	/*
+	 * Completes the future once the (possibly streamed) response completes.
+	 */
+	private static final class GrpcResponse implements StreamObserver<GrpcSpringMessage> {
+
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		@Override
+		public void onNext(GrpcSpringMessage value) {
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			this.future.completeExceptionally(t);
+		}
+
+		@Override
+		public void onCompleted() {
+			this.future.complete(null);
+		}
+
+	}
+
+}
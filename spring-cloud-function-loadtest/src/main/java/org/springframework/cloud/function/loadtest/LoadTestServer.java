@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.function.loadtest;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.Assert;
+
+/**
+ * Application with {@link LoadTestFunctions} listening on loopback: Spring MVC or Spring WebFlux function endpoints,
+ * or gRPC {@link org.springframework.cloud.function.grpc.GrpcServer} with the provided function definition.
+ *
+ * @since 5.0.4
+ */
+public final class LoadTestServer implements AutoCloseable {
+
+	private static final String[] COMMON_PROPERTIES = { "--spring.jmx.enabled=false", "--spring.main.banner-mode=off",
+		"--logging.level.org.springframework.cloud.function=WARN", "--server.address=127.0.0.1" };
+
+	private final ConfigurableApplicationContext context;
+
+	private final int port;
+
+	private ManagedChannel channel;
+
+	private LoadTestServer(ConfigurableApplicationContext context, int port) {
+		this.context = context;
+		this.port = port;
+	}
+
+	/**
+	 * Starts Spring MVC (servlet) or Spring WebFlux (reactive) application with function endpoints on a random port.
+	 * @param webApplicationType servlet or reactive
+	 * @return started server
+	 */
+	public static LoadTestServer web(WebApplicationType webApplicationType) {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestFunctions.class)
+			.web(webApplicationType)
+			.properties("server.port=0", "spring.cloud.function.grpc.server=false")
+			.run(COMMON_PROPERTIES);
+		return new LoadTestServer(context, context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+	}
+
+	/**
+	 * Starts gRPC server on a random port.
+	 * @param functionDefinition definition of the function to invoke
+	 * @return started server
+	 */
+	public static LoadTestServer grpc(String functionDefinition) {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestFunctions.class)
+			.web(WebApplicationType.NONE)
+			.properties("spring.cloud.function.grpc.port=0", "spring.cloud.function.definition=" + functionDefinition)
+			.run(COMMON_PROPERTIES);
+		// gRPC server starts asynchronously
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!context.getEnvironment().containsProperty("local.grpc.server.port") && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(50);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		Assert.state(context.getEnvironment().containsProperty("local.grpc.server.port"), "gRPC server has not started");
+		return new LoadTestServer(context, context.getEnvironment().getRequiredProperty("local.grpc.server.port", Integer.class));
+	}
+
+	/**
+	 * Returns URI of the provided path of the web server.
+	 * @param path path (e.g., '/uppercase')
+	 * @return URI
+	 */
+	public URI uri(String path) {
+		return URI.create("http://127.0.0.1:" + this.port + path);
+	}
+
+	/**
+	 * Returns channel connected to the gRPC server (shared by all requests).
+	 * @return channel
+	 */
+	public synchronized ManagedChannel channel() {
+		if (this.channel == null) {
+			this.channel = ManagedChannelBuilder.forAddress("127.0.0.1", this.port).usePlaintext().build();
+		}
+		return this.channel;
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		if (this.channel != null) {
+			this.channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+		}
+		this.context.close();
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.function.web;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -63,6 +64,18 @@ public class FunctionHttpProperties {
 	 */
 	public List<String> requestOnlyHeaders = Collections.emptyList();
 
+	/**
+	 * Maximum time function invocation may take, after which its (reactive) result is cancelled.
+	 * If the client requests shorter timeout via 'timeout-header', the shorter one applies. Not limited if not set.
+	 */
+	public Duration timeout;
+
+	/**
+	 * Name of the request header via which the client may specify how long it is willing to wait
+	 * for the result (e.g., '500' or '500ms').
+	 */
+	public String timeoutHeader = "X-Request-Timeout";
+
 	public String getGet() {
 		return this.get;
 	}
@@ -110,4 +123,20 @@ public class FunctionHttpProperties {
 	public void setRequestOnlyHeaders(List<String> requestOnlyHeaders) {
 		this.requestOnlyHeaders = requestOnlyHeaders;
 	}
+
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	public String getTimeoutHeader() {
+		return this.timeoutHeader;
+	}
+
+	public void setTimeoutHeader(String timeoutHeader) {
+		this.timeoutHeader = timeoutHeader;
+	}
 }
@@ -183,6 +183,7 @@ public class FunctionController {
 		headers.putAll(request.getRequest().getHeaders());
 		headers.set("uri", request.getRequest().getURI().toString());
 		FunctionWrapper wrapper = new FunctionWrapper(function, null);
+		FunctionWebRequestProcessingHelper.enrichDeadlineHeader(headers, this.functionHttpProperties);
 		wrapper.setHeaders(headers);
 		wrapper.getParams().addAll(request.getRequest().getQueryParams());
 		String argument = (String) request.getAttribute(WebRequestConstants.ARGUMENT);
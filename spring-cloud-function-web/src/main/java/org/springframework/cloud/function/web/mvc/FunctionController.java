@@ -198,6 +198,7 @@ public class FunctionController {
 			String key = keys.next();
 			wrapper.getHeaders().addAll(key, Arrays.asList(request.getHeaderValues(key)));
 		}
+		FunctionWebRequestProcessingHelper.enrichDeadlineHeader(wrapper.getHeaders(), this.functionHttpProperties);
 
 		HttpHeaders headers = HttpHeaders.copyOf(wrapper.getHeaders());
 		headers.set("uri", ((ServletWebRequest) request).getRequest().getRequestURI());
@@ -17,6 +17,8 @@
 package org.springframework.cloud.function.web.util;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -29,8 +31,10 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.cloud.function.context.FunctionCatalog;
 import org.springframework.cloud.function.context.FunctionProperties;
+import org.springframework.cloud.function.context.catalog.FunctionDeadline;
 import org.springframework.cloud.function.context.catalog.SimpleFunctionRegistry.FunctionInvocationWrapper;
 import org.springframework.cloud.function.web.FunctionHttpProperties;
 import org.springframework.cloud.function.web.constants.WebRequestConstants;
@@ -104,6 +108,34 @@ public final class FunctionWebRequestProcessingHelper {
 				+ "specified in 'spring.cloud.function.http." + httpMethod + "' property.";
 	}
 
+	/**
+	 * Sets deadline of the function invocation (see {@link FunctionDeadline}) based on the shorter of the timeout
+	 * requested by the client via 'spring.cloud.function.http.timeout-header' header and 'spring.cloud.function.http.timeout'.
+	 * @param headers request headers
+	 * @param functionHttpProperties http properties
+	 */
+	public static void enrichDeadlineHeader(HttpHeaders headers, FunctionHttpProperties functionHttpProperties) {
+		headers.remove(FunctionDeadline.DEADLINE_HEADER);
+		Duration timeout = functionHttpProperties.getTimeout();
+		String requestedTimeout = StringUtils.hasText(functionHttpProperties.getTimeoutHeader())
+				? headers.getFirst(functionHttpProperties.getTimeoutHeader())
+				: null;
+		if (StringUtils.hasText(requestedTimeout)) {
+			try {
+				Duration clientTimeout = DurationStyle.detectAndParse(requestedTimeout.trim(), ChronoUnit.MILLIS);
+				if (timeout == null || clientTimeout.compareTo(timeout) < 0) {
+					timeout = clientTimeout;
+				}
+			}
+			catch (IllegalArgumentException e) {
+				logger.warn("Ignoring invalid value of '" + functionHttpProperties.getTimeoutHeader() + "' header: " + requestedTimeout);
+			}
+		}
+		if (timeout != null) {
+			headers.set(FunctionDeadline.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() + timeout.toMillis()));
+		}
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public static Publisher<?> processRequest(FunctionWrapper wrapper, Object argument, boolean eventStream, List<String> ignoredHeaders, List<String> requestOnlyHeaders) {
 		if (argument == null) {
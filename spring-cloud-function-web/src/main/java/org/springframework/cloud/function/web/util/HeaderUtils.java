@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.springframework.cloud.function.context.catalog.FunctionDeadline;
 import org.springframework.http.HttpHeaders;
 import org.springframework.messaging.MessageHeaders;
 
@@ -46,6 +47,7 @@ public final class HeaderUtils {
 		IGNORED.add(MessageHeaders.ID, "");
 		IGNORED.add(HttpHeaders.CONTENT_LENGTH, "0");
 		IGNORED.add(HttpHeaders.TRANSFER_ENCODING, "*");
+		IGNORED.add(FunctionDeadline.DEADLINE_HEADER, "");
 		// Headers that would typically be added by a downstream client
 		REQUEST_ONLY.add(HttpHeaders.ACCEPT, "");
 		REQUEST_ONLY.add(HttpHeaders.CONTENT_LENGTH, "");